@@ -1,23 +1,35 @@
 package com.ecommerce.inventory.application.usecase;
 
-import com.ecommerce.inventory.domain.model.Inventory;
 import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.exception.InsufficientStockException;
 import com.ecommerce.inventory.exception.InventoryNotFoundException;
+import com.ecommerce.inventory.infrastructure.cache.RecentEventIdCache;
 import com.ecommerce.inventory.infrastructure.messaging.event.OrderCreatedEvent;
+import com.ecommerce.inventory.infrastructure.messaging.producer.StockChangedEventPublisher;
 import com.ecommerce.inventory.infrastructure.persistence.entity.InboxEntity;
 import com.ecommerce.inventory.infrastructure.persistence.repository.InboxRepository;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
 
 /**
  * Use case: Decrement stock in response to OrderCreated event.
  * Per docs/events/idempotency.md
  * 
- * Implements inbox pattern for idempotency.
+ * Implements inbox pattern for idempotency; recently processed event ids are
+ * answered from RecentEventIdCache without touching the inbox table.
+ * 
+ * Each line item is one guarded UPDATE (decrement only if enough stock is left),
+ * so concurrent consumers cannot lose updates or drive stock negative.
+ * executeBatch coalesces a whole poll into one guarded UPDATE per product.
  */
 @Service
 @Slf4j
@@ -25,13 +37,19 @@ public class DecrementStockUseCase {
 
     private final InventoryRepository inventoryRepository;
     private final InboxRepository inboxRepository;
+    private final StockChangedEventPublisher stockChangedEventPublisher;
+    private final RecentEventIdCache recentEventIds;
 
     public DecrementStockUseCase(
         InventoryRepository inventoryRepository,
-        InboxRepository inboxRepository
+        InboxRepository inboxRepository,
+        StockChangedEventPublisher stockChangedEventPublisher,
+        RecentEventIdCache recentEventIds
     ) {
         this.inventoryRepository = inventoryRepository;
         this.inboxRepository = inboxRepository;
+        this.stockChangedEventPublisher = stockChangedEventPublisher;
+        this.recentEventIds = recentEventIds;
     }
 
     /**
@@ -39,43 +57,123 @@ public class DecrementStockUseCase {
      * 
      * @param event OrderCreated event
      * @throws InventoryNotFoundException if product not found
-     * @throws IllegalArgumentException if insufficient stock
+     * @throws InsufficientStockException if a line item exceeds the available stock (whole event rolls back)
      */
     @Transactional
     public void execute(OrderCreatedEvent event) {
-        try {
-            // Step 1: Try to insert into inbox (duplicate detection)
-            InboxEntity inbox = InboxEntity.builder()
-                .eventId(event.getEventId())
-                .eventType(event.getEventType())
-                .processedAt(Instant.now())
-                .build();
-            
-            inboxRepository.save(inbox);
-            
-            log.info("Event marked as processing: eventId={}", event.getEventId());
-            
-        } catch (DataIntegrityViolationException e) {
-            // Duplicate event detected - skip processing
-            log.info("Event already processed, skipping: eventId={}", event.getEventId());
+        // Step 1: Duplicate detection - recent ids in memory, then exists-or-insert on the inbox
+        UUID eventId = event.getEventId();
+        if (recentEventIds.contains(eventId)) {
+            log.info("Event already processed (recent), skipping: eventId={}", eventId);
+            return;
+        }
+        if (inboxRepository.insertIfAbsent(eventId, event.getEventType(), Instant.now()) == 0) {
+            log.info("Event already processed, skipping: eventId={}", eventId);
+            recentEventIds.record(List.of(eventId));
             return;
         }
+        recentEventIds.recordAfterCommit(List.of(eventId));
+        log.info("Event marked as processing: eventId={}", eventId);
         
-        // Step 2: Perform business logic (stock decrement)
+        // Step 2: Perform business logic (atomic stock decrement per line item)
         for (OrderCreatedEvent.LineItem lineItem : event.getLineItems()) {
-            String productId = lineItem.getProductId().toString();
-            Inventory inventory = inventoryRepository.findByProductId(productId)
-                .orElseThrow(() -> new InventoryNotFoundException(
-                    "Product not found: " + productId));
-            
-            // Decrement stock
-            inventory.updateStock(-lineItem.getQuantity());
-            
-            // Persist changes
-            inventoryRepository.save(inventory);
-            
-            log.info("Stock decremented: productId={}, quantity={}, remainingStock={}", 
-                productId, lineItem.getQuantity(), inventory.getQuantity());
+            decrement(lineItem.getProductId().toString(), lineItem.getQuantity());
+        }
+    }
+
+    /**
+     * Process a batch of OrderCreated events in one transaction.
+     * 
+     * - Recent ids are answered in memory, one inbox query covers the rest;
+     *   processed events and repeats within the batch are skipped
+     * - Quantities are summed per productId, then one guarded decrement per distinct product,
+     *   in productId order so concurrent batches lock rows in the same order
+     * - One StockChanged notification per product
+     * 
+     * All or nothing: if any product lacks stock the whole batch rolls back and
+     * the caller is expected to retry the events one by one with execute.
+     * 
+     * @param events OrderCreated events in delivery order
+     * @return number of events applied (duplicates excluded)
+     * @throws InventoryNotFoundException if a product is not found
+     * @throws InsufficientStockException if the summed quantity of a product exceeds its stock
+     */
+    @Transactional
+    public int executeBatch(List<OrderCreatedEvent> events) {
+        Map<UUID, OrderCreatedEvent> byEventId = new LinkedHashMap<>();
+        for (OrderCreatedEvent event : events) {
+            if (!recentEventIds.contains(event.getEventId())) {
+                byEventId.putIfAbsent(event.getEventId(), event);
+            }
+        }
+        if (byEventId.isEmpty()) {
+            log.info("Batch already processed (recent), skipping: events={}", events.size());
+            return 0;
+        }
+        
+        Set<UUID> processed = inboxRepository.findProcessedEventIds(byEventId.keySet());
+        recentEventIds.record(processed);
+        List<OrderCreatedEvent> pending = byEventId.values().stream()
+            .filter(event -> !processed.contains(event.getEventId()))
+            .toList();
+        if (pending.isEmpty()) {
+            log.info("Batch already processed, skipping: events={}", events.size());
+            return 0;
+        }
+        
+        Instant now = Instant.now();
+        inboxRepository.saveAll(pending.stream().map(event -> inboxEntry(event, now)).toList());
+        recentEventIds.recordAfterCommit(pending.stream().map(OrderCreatedEvent::getEventId).toList());
+        
+        Map<String, Integer> quantityByProduct = new TreeMap<>();
+        for (OrderCreatedEvent event : pending) {
+            for (OrderCreatedEvent.LineItem lineItem : event.getLineItems()) {
+                quantityByProduct.merge(lineItem.getProductId().toString(), lineItem.getQuantity(), Integer::sum);
+            }
         }
+        quantityByProduct.forEach(this::decrement);
+        
+        log.info("Batch processed: events={}, skipped={}, products={}",
+            pending.size(), events.size() - pending.size(), quantityByProduct.size());
+        return pending.size();
+    }
+
+    /**
+     * Guarded decrement of one product plus the after-commit StockChanged notification.
+     */
+    private void decrement(String productId, int quantity) {
+        if (inventoryRepository.decrementStockIfAvailable(productId, quantity) == 0) {
+            throw notDecremented(productId, quantity);
+        }
+        
+        // Row is locked by the UPDATE until commit (hot SKUs: read from the in-memory ledger),
+        // so this is the post-decrement value
+        int remainingStock = inventoryRepository.findQuantityByProductId(productId)
+            .orElseThrow(() -> new InventoryNotFoundException("Product not found: " + productId));
+
+        // Notify near-caches once the transaction commits
+        stockChangedEventPublisher.publishAfterCommit(productId, remainingStock, -quantity);
+        
+        log.info("Stock decremented: productId={}, quantity={}, remainingStock={}", 
+            productId, quantity, remainingStock);
+    }
+
+    /**
+     * The guarded UPDATE matched no row: unknown product or not enough stock.
+     */
+    private RuntimeException notDecremented(String productId, int quantity) {
+        if (!inventoryRepository.existsByProductId(productId)) {
+            return new InventoryNotFoundException("Product not found: " + productId);
+        }
+        return new InsufficientStockException(
+            "Insufficient stock: productId=" + productId + ", requested=" + quantity);
+    }
+
+    private static InboxEntity inboxEntry(OrderCreatedEvent event, Instant processedAt) {
+        return InboxEntity.builder()
+            .eventId(event.getEventId())
+            .eventType(event.getEventType())
+            .processedAt(processedAt)
+            .build();
     }
 }
@@ -0,0 +1,28 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.inventory.domain.model.Inventory;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Use case for retrieving inventories for a set of product IDs in one query.
+ * Application layer - orchestrates the bulk retrieval flow.
+ *
+ * Unknown product IDs are simply absent from the result; callers decide how to treat them.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetInventoriesByProductIdsUseCase {
+
+    private final InventoryRepository inventoryRepository;
+
+    public List<Inventory> execute(List<String> productIds) {
+        return inventoryRepository.findByProductIds(new LinkedHashSet<>(productIds));
+    }
+}
@@ -2,7 +2,9 @@ package com.ecommerce.inventory.application.usecase;
 
 import com.ecommerce.inventory.domain.model.Inventory;
 import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.exception.InsufficientStockException;
 import com.ecommerce.inventory.exception.InventoryNotFoundException;
+import com.ecommerce.inventory.infrastructure.messaging.producer.StockChangedEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,6 +12,9 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Use case for updating stock quantity.
  * Application layer - orchestrates the stock update flow.
+ * 
+ * The change is applied with a single guarded UPDATE (quantity + change >= 0),
+ * not read-modify-write, so concurrent updates are never lost.
  */
 @Service
 @RequiredArgsConstructor
@@ -17,16 +22,32 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateStockUseCase {
 
     private final InventoryRepository inventoryRepository;
+    private final StockChangedEventPublisher stockChangedEventPublisher;
 
     public Inventory execute(Long id, Integer quantityChange) {
-        // Find existing inventory
-        Inventory inventory = inventoryRepository.findById(id)
+        if (quantityChange == null) {
+            throw new IllegalArgumentException("Quantity change cannot be null");
+        }
+
+        // Atomic relative change; 0 rows means unknown id or stock would go negative
+        if (inventoryRepository.adjustStock(id, quantityChange) == 0) {
+            if (!inventoryRepository.existsById(id)) {
+                throw new InventoryNotFoundException("Inventory not found with id: " + id);
+            }
+            throw new InsufficientStockException(
+                    "Insufficient stock: inventory id=" + id + ", change=" + quantityChange);
+        }
+
+        // Reload the updated row for the response
+        Inventory saved = inventoryRepository.findById(id)
                 .orElseThrow(() -> new InventoryNotFoundException("Inventory not found with id: " + id));
 
-        // Update stock using domain method
-        inventory.updateStock(quantityChange);
+        // Notify near-caches once the change is committed; the quantity is read
+        // after commit because a hot-SKU restock only becomes visible then (D020)
+        String productId = saved.getProductId();
+        stockChangedEventPublisher.publishAfterCommit(productId,
+                () -> inventoryRepository.findQuantityByProductId(productId).orElse(null), quantityChange);
 
-        // Persist and return
-        return inventoryRepository.save(inventory);
+        return saved;
     }
 }
@@ -2,6 +2,7 @@ package com.ecommerce.inventory.controller;
 
 import com.ecommerce.inventory.application.usecase.*;
 import com.ecommerce.inventory.domain.model.Inventory;
+import com.ecommerce.inventory.dto.InventoryBatchLookupRequest;
 import com.ecommerce.inventory.dto.InventoryRequest;
 import com.ecommerce.inventory.dto.InventoryResponse;
 import com.ecommerce.inventory.dto.PageResponse;
@@ -18,6 +19,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * REST Controller for inventory operations.
  * Web layer - handles HTTP requests/responses, delegates to application use-cases.
@@ -31,6 +34,7 @@ public class InventoryController {
     private final GetAllInventoryUseCase getAllInventoryUseCase;
     private final GetInventoryByIdUseCase getInventoryByIdUseCase;
     private final GetInventoryByProductIdUseCase getInventoryByProductIdUseCase;
+    private final GetInventoriesByProductIdsUseCase getInventoriesByProductIdsUseCase;
     private final CreateInventoryUseCase createInventoryUseCase;
     private final UpdateInventoryUseCase updateInventoryUseCase;
     private final DeleteInventoryUseCase deleteInventoryUseCase;
@@ -91,6 +95,21 @@ public class InventoryController {
         return ResponseEntity.ok(mapToResponse(inventory));
     }
 
+    @PostMapping("/product/batch")
+    @Operation(summary = "Birden fazla ürün için inventory bilgisini getir", description = "Verilen ürün ID listesi için inventory kayıtlarını tek istekte getirir; bulunamayan ürünler yanıtta yer almaz")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Başarılı işlem"),
+            @ApiResponse(responseCode = "400", description = "Geçersiz istek"),
+            @ApiResponse(responseCode = "500", description = "Sunucu hatası")
+    })
+    public ResponseEntity<List<InventoryResponse>> getInventoriesByProductIds(
+            @Valid @RequestBody InventoryBatchLookupRequest request) {
+        List<Inventory> inventories = getInventoriesByProductIdsUseCase.execute(request.getProductIds());
+        return ResponseEntity.ok(inventories.stream()
+                .map(this::mapToResponse)
+                .toList());
+    }
+
     @PostMapping
     @Operation(summary = "Yeni inventory kaydı oluştur", description = "Yeni bir inventory kaydı ekler")
     @ApiResponses(value = {
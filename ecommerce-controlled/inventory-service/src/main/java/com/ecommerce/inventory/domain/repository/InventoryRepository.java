@@ -4,6 +4,8 @@ import com.ecommerce.inventory.domain.model.Inventory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,6 +35,37 @@ public interface InventoryRepository {
      */
     Optional<Inventory> findByProductId(String productId);
 
+    /**
+     * Find inventories for multiple product IDs in a single query.
+     * @param productIds the product IDs
+     * @return inventories that exist; unknown product IDs are omitted
+     */
+    List<Inventory> findByProductIds(Collection<String> productIds);
+
+    /**
+     * Current stock of a product, read straight from the store.
+     * @param productId the product ID
+     * @return Optional containing the quantity if the product exists
+     */
+    Optional<Integer> findQuantityByProductId(String productId);
+
+    /**
+     * Atomically decrement stock if at least quantity units are available
+     * (single guarded UPDATE, no read-modify-write).
+     * @param productId the product ID
+     * @param quantity units to remove (positive)
+     * @return number of rows updated: 1 if decremented, 0 if unknown or insufficient
+     */
+    int decrementStockIfAvailable(String productId, int quantity);
+
+    /**
+     * Atomically apply a relative stock change unless the result would be negative.
+     * @param id the inventory ID
+     * @param quantityChange units to add (positive) or remove (negative)
+     * @return number of rows updated: 1 if applied, 0 if unknown or insufficient
+     */
+    int adjustStock(Long id, int quantityChange);
+
     /**
      * Find all inventories with pagination.
      * @param pageable pagination information
@@ -47,6 +80,13 @@ public interface InventoryRepository {
      */
     boolean existsById(Long id);
 
+    /**
+     * Check if inventory exists by product ID.
+     * @param productId the product ID
+     * @return true if exists, false otherwise
+     */
+    boolean existsByProductId(String productId);
+
     /**
      * Delete inventory by ID.
      * @param id the inventory ID
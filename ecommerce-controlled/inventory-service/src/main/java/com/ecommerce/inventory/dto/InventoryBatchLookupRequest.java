@@ -0,0 +1,23 @@
+package com.ecommerce.inventory.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for bulk inventory lookup by product IDs.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryBatchLookupRequest {
+
+    @NotEmpty(message = "Product IDs are required")
+    @Size(max = 100, message = "At most 100 product IDs can be looked up at once")
+    private List<@NotBlank(message = "Product ID cannot be blank") String> productIds;
+}
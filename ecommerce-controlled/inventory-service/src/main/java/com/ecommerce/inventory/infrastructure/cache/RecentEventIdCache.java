@@ -0,0 +1,69 @@
+package com.ecommerce.inventory.infrastructure.cache;
+
+import com.ecommerce.inventory.infrastructure.config.InboxProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bounded in-memory set of recently processed event ids, in front of the inbox table.
+ * Per docs/events/idempotency.md
+ * 
+ * A hit means the event is committed in the inbox, so the duplicate is skipped
+ * without a DB round trip (consumer rebalances replay whole partitions).
+ * A miss says nothing: the inbox table stays the source of truth.
+ * Ids are only added after commit, never for a rolled-back event.
+ * Metrics: cache.gets, cache.evictions, cache.size tagged cache=inbox-recent-event-ids.
+ */
+@Component
+public class RecentEventIdCache {
+
+    static final String CACHE_NAME = "inbox-recent-event-ids";
+
+    private final Cache<UUID, Boolean> cache;
+
+    public RecentEventIdCache(InboxProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getRecentIdsMaxSize())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public boolean contains(UUID eventId) {
+        return cache.getIfPresent(eventId) != null;
+    }
+
+    /**
+     * Remember ids already committed in the inbox.
+     */
+    public void record(Collection<UUID> eventIds) {
+        eventIds.forEach(eventId -> cache.put(eventId, Boolean.TRUE));
+    }
+
+    /**
+     * Remember ids once the surrounding transaction commits (immediately when
+     * called outside a transaction).
+     */
+    public void recordAfterCommit(Collection<UUID> eventIds) {
+        List<UUID> committed = List.copyOf(eventIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(committed);
+                }
+            });
+        } else {
+            record(committed);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.inventory.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Hot-SKU stock ledger configuration properties (see HotSkuStockLedger, StockJournalFlushJob).
+ * Per D020
+ */
+@Configuration
+@ConfigurationProperties(prefix = "inventory.hot-sku")
+@Data
+public class HotSkuProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Products whose stock is held in memory while enabled (e.g. flash-sale SKUs).
+     */
+    private Set<String> productIds = new LinkedHashSet<>();
+
+    /**
+     * Cells per product counter; rounded up to a power of two.
+     */
+    private int stripes = 16;
+
+    /**
+     * Delay between write-behind flushes of the stock journal into the inventory table.
+     */
+    private Duration flushInterval = Duration.ofMillis(200);
+
+    /**
+     * Journal entries folded into the inventory table per flush.
+     */
+    private int flushChunkSize = 1000;
+}
@@ -0,0 +1,51 @@
+package com.ecommerce.inventory.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Inbox (idempotency) configuration properties (see RecentEventIdCache, InboxRetentionJob).
+ * Per docs/events/idempotency.md
+ */
+@Configuration
+@ConfigurationProperties(prefix = "inventory.inbox")
+@Data
+public class InboxProperties {
+
+    /**
+     * Processed event ids remembered in memory; older ids are still answered from the inbox table.
+     */
+    private long recentIdsMaxSize = 100_000;
+
+    private Retention retention = new Retention();
+
+    @Data
+    public static class Retention {
+
+        private boolean enabled = true;
+
+        /**
+         * Rows processed longer ago than this are pruned. Must exceed the order.events
+         * retention (7 days): older events can no longer be redelivered.
+         */
+        private Duration maxAge = Duration.ofDays(8);
+
+        /**
+         * Delay between retention runs.
+         */
+        private Duration interval = Duration.ofMinutes(10);
+
+        /**
+         * Rows deleted per statement (one short transaction each).
+         */
+        private int chunkSize = 500;
+
+        /**
+         * Caps one run so it never holds the scheduler for long; the rest waits for the next run.
+         */
+        private int maxChunksPerRun = 200;
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.inventory.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (InboxRetentionJob, StockJournalFlushJob).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,179 @@
+package com.ecommerce.inventory.infrastructure.hotsku;
+
+import com.ecommerce.inventory.infrastructure.config.HotSkuProperties;
+import com.ecommerce.inventory.infrastructure.persistence.entity.StockJournalEntity;
+import com.ecommerce.inventory.infrastructure.persistence.repository.StockJournalRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Authoritative in-memory stock for hot SKUs (D020).
+ * 
+ * Stock of the configured products lives in a StripedStockCounter per product,
+ * so reservations never wait on the inventory row lock. Every change is also
+ * written to the stock journal inside the caller's transaction; the journal is
+ * folded into the inventory table by StockJournalFlushJob (write-behind).
+ * 
+ * - Takes reserve immediately and are handed back if the transaction rolls back
+ * - Additions become available once the transaction commits, so nothing can be
+ *   sold against a restock that is later rolled back
+ * - A counter is loaded on first use from inventory.quantity + pending journal
+ *   entries, which is exactly the committed stock after a restart or crash
+ * 
+ * Metrics:
+ * - inventory.hot_sku.stock{productId}: in-memory stock
+ * - inventory.hot_sku.rejected: reservations refused for insufficient stock
+ */
+@Component
+@Slf4j
+public class HotSkuStockLedger {
+
+    private static final String STOCK_GAUGE = "inventory.hot_sku.stock";
+
+    private final HotSkuProperties properties;
+    private final StockJournalRepository journalRepository;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+    private final Map<String, StripedStockCounter> counters = new ConcurrentHashMap<>();
+
+    public HotSkuStockLedger(
+            HotSkuProperties properties,
+            StockJournalRepository journalRepository,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.journalRepository = journalRepository;
+        this.meterRegistry = meterRegistry;
+        this.rejected = Counter.builder("inventory.hot_sku.rejected")
+            .description("Hot-SKU reservations refused for insufficient stock")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public boolean isHot(String productId) {
+        return properties.isEnabled() && properties.getProductIds().contains(productId);
+    }
+
+    /**
+     * Current stock of a hot product.
+     * 
+     * @return empty if the product does not exist
+     */
+    public OptionalLong quantity(String productId) {
+        return counter(productId)
+            .map(counter -> OptionalLong.of(counter.sum()))
+            .orElse(OptionalLong.empty());
+    }
+
+    /**
+     * Apply a relative stock change to a hot product, journaled in the caller's transaction.
+     * 
+     * @return false if the product does not exist or a removal exceeds the available stock
+     */
+    public boolean tryAdjust(String productId, int quantityChange) {
+        Optional<StripedStockCounter> found = counter(productId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        StripedStockCounter counter = found.get();
+
+        if (quantityChange < 0) {
+            if (!counter.tryTake(-quantityChange)) {
+                rejected.increment();
+                return false;
+            }
+            onRollback(() -> counter.add(-quantityChange));
+        } else if (quantityChange > 0) {
+            afterCommit(() -> counter.add(quantityChange));
+        }
+
+        try {
+            journalRepository.save(StockJournalEntity.builder()
+                .productId(productId)
+                .quantityChange(quantityChange)
+                .createdAt(Instant.now())
+                .build());
+        } catch (RuntimeException e) {
+            // Inside a transaction the rollback hands the units back
+            if (quantityChange < 0 && !TransactionSynchronizationManager.isSynchronizationActive()) {
+                counter.add(-quantityChange);
+            }
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Drop the counter of a deleted product once the delete commits; a rolled
+     * back delete keeps the counter and any stock reserved against it.
+     */
+    public void evict(String productId) {
+        afterCommit(() -> {
+            if (counters.remove(productId) != null) {
+                meterRegistry.find(STOCK_GAUGE).tag("productId", productId).meters().forEach(meterRegistry::remove);
+            }
+        });
+    }
+
+    private Optional<StripedStockCounter> counter(String productId) {
+        StripedStockCounter counter = counters.get(productId);
+        if (counter != null) {
+            return Optional.of(counter);
+        }
+        return Optional.ofNullable(counters.computeIfAbsent(productId, this::load));
+    }
+
+    private StripedStockCounter load(String productId) {
+        return journalRepository.findCommittedQuantity(productId)
+            .map(quantity -> {
+                StripedStockCounter counter = new StripedStockCounter(properties.getStripes(), quantity);
+                Gauge.builder(STOCK_GAUGE, counter, StripedStockCounter::sum)
+                    .description("In-memory stock of a hot SKU")
+                    .tag("productId", productId)
+                    .register(meterRegistry);
+                log.info("Hot-SKU counter loaded: productId={}, quantity={}, stripes={}",
+                    productId, quantity, counter.stripes());
+                return counter;
+            })
+            .orElse(null);
+    }
+
+    private static void onRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
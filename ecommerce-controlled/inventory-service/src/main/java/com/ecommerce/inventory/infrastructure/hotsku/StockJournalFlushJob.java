@@ -0,0 +1,82 @@
+package com.ecommerce.inventory.infrastructure.hotsku;
+
+import com.ecommerce.inventory.infrastructure.config.HotSkuProperties;
+import com.ecommerce.inventory.infrastructure.persistence.entity.StockJournalEntity;
+import com.ecommerce.inventory.infrastructure.persistence.repository.InventoryJpaRepository;
+import com.ecommerce.inventory.infrastructure.persistence.repository.StockJournalRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Write-behind for hot SKUs (D020): folds committed stock journal entries into
+ * the inventory table.
+ * 
+ * One transaction per run: entries are summed per product, applied as one
+ * relative UPDATE per product and deleted by id, so each entry is applied
+ * exactly once. Entries of transactions still in flight are not visible yet
+ * and are picked up by a later run.
+ * 
+ * Runs regardless of inventory.hot-sku.enabled, so entries left behind after
+ * the mode is switched off are flushed right after startup.
+ * 
+ * Metrics:
+ * - inventory.hot_sku.flushed: journal entries applied to the inventory table
+ */
+@Component
+@Slf4j
+public class StockJournalFlushJob {
+
+    private final StockJournalRepository journalRepository;
+    private final InventoryJpaRepository inventoryJpaRepository;
+    private final HotSkuProperties properties;
+    private final Counter flushed;
+
+    public StockJournalFlushJob(
+            StockJournalRepository journalRepository,
+            InventoryJpaRepository inventoryJpaRepository,
+            HotSkuProperties properties,
+            MeterRegistry meterRegistry) {
+        this.journalRepository = journalRepository;
+        this.inventoryJpaRepository = inventoryJpaRepository;
+        this.properties = properties;
+        this.flushed = Counter.builder("inventory.hot_sku.flushed")
+            .description("Stock journal entries applied to the inventory table")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "#{@hotSkuProperties.flushInterval.toMillis()}")
+    @Transactional
+    public void flush() {
+        List<StockJournalEntity> entries = journalRepository.findByOrderByIdAsc(
+            Limit.of(properties.getFlushChunkSize()));
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> deltas = new TreeMap<>();
+        for (StockJournalEntity entry : entries) {
+            deltas.merge(entry.getProductId(), entry.getQuantityChange(), Integer::sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        deltas.forEach((productId, delta) -> {
+            if (delta != 0) {
+                inventoryJpaRepository.applyDelta(productId, delta, now);
+            }
+        });
+        journalRepository.deleteAllByIdInBatch(entries.stream().map(StockJournalEntity::getId).toList());
+
+        flushed.increment(entries.size());
+        log.debug("Stock journal flushed: entries={}, products={}", entries.size(), deltas.size());
+    }
+}
@@ -0,0 +1,137 @@
+package com.ecommerce.inventory.infrastructure.hotsku;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stock counter split over several cells.
+ * 
+ * Each thread starts at its own cell, so concurrent takers mostly CAS different
+ * cache lines instead of spinning on one. A take that fits in a single cell is
+ * lock-free. Only when no cell holds enough on its own (close to sell-out) does
+ * the take collect units from several cells, one such take at a time, so a
+ * refusal is never caused by units another take is holding temporarily.
+ * No cell - and therefore the sum - ever goes negative.
+ */
+public final class StripedStockCounter {
+
+    // One cell per 64-byte cache line
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells;
+    private final int stripes;
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    public StripedStockCounter(int stripes, long initial) {
+        if (initial < 0) {
+            throw new IllegalArgumentException("Initial stock cannot be negative: " + initial);
+        }
+        this.stripes = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.cells = new AtomicLongArray(this.stripes * PADDING);
+        long share = initial / this.stripes;
+        for (int i = 0; i < this.stripes; i++) {
+            cells.set(i * PADDING, share);
+        }
+        cells.addAndGet(0, initial - share * this.stripes);
+    }
+
+    /**
+     * Add units (restock or compensation).
+     */
+    public void add(long units) {
+        if (units < 0) {
+            throw new IllegalArgumentException("Use tryTake to remove units: " + units);
+        }
+        cells.addAndGet(home() * PADDING, units);
+    }
+
+    /**
+     * Remove units if at least that many are available.
+     * 
+     * @return true if taken, false if the total is not enough (nothing changed)
+     */
+    public boolean tryTake(long units) {
+        if (units < 0) {
+            throw new IllegalArgumentException("Units cannot be negative: " + units);
+        }
+        int start = home();
+        for (int i = 0; i < stripes; i++) {
+            if (takeWhole(((start + i) & (stripes - 1)) * PADDING, units)) {
+                return true;
+            }
+        }
+        return takeAcrossCells(start, units);
+    }
+
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    /**
+     * Take from one cell only, as long as it holds all units.
+     */
+    private boolean takeWhole(int index, long units) {
+        long current = cells.get(index);
+        while (current >= units) {
+            long witness = cells.compareAndExchange(index, current, current - units);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * Collect units from several cells. Fast-path takes never hold units, and
+     * this lock lets only one take hold partial units at a time, so the units
+     * still in the cells plus the ones held here are the whole stock: keep
+     * sweeping while that covers the take, refuse only when it does not.
+     */
+    private boolean takeAcrossCells(int start, long units) {
+        sweepLock.lock();
+        try {
+            long taken = 0;
+            while (true) {
+                for (int i = 0; i < stripes && taken < units; i++) {
+                    int index = ((start + i) & (stripes - 1)) * PADDING;
+                    long current = cells.get(index);
+                    while (current > 0) {
+                        long take = Math.min(current, units - taken);
+                        long witness = cells.compareAndExchange(index, current, current - take);
+                        if (witness == current) {
+                            taken += take;
+                            break;
+                        }
+                        current = witness;
+                    }
+                }
+                if (taken == units) {
+                    return true;
+                }
+                if (sum() < units - taken) {
+                    if (taken > 0) {
+                        cells.addAndGet(start * PADDING, taken);
+                    }
+                    return false;
+                }
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    int stripes() {
+        return stripes;
+    }
+
+    private int home() {
+        long id = Thread.currentThread().threadId();
+        // Spread sequential thread ids over the cells
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 40) & (stripes - 1);
+    }
+}
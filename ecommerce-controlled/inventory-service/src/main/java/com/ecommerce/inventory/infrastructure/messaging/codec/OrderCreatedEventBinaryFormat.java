@@ -0,0 +1,175 @@
+package com.ecommerce.inventory.infrastructure.messaging.codec;
+
+import com.ecommerce.inventory.infrastructure.messaging.event.OrderCreatedEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Decoder for the compact binary encoding of OrderCreated events.
+ * Per docs/events/event-catalog.md (Encodings) - MUST match the encoder in order-service.
+ * 
+ * Layout (format version 1), all integers big-endian:
+ * <pre>
+ * u8      magic 0xEC
+ * u8      format version (1)
+ * u8      presence flags: 1=eventId 2=timestamp 4=orderId 8=customerId 16=lineItems
+ * string  eventType
+ * string  version
+ * [16]    eventId
+ * varlong timestamp epoch seconds (zigzag), varint nanos, varint offset seconds (zigzag)
+ * [16]    orderId
+ * [16]    customerId
+ * varint  lineItem count, then per item:
+ *           u8 flags (1=productId 2=quantity), [16] productId, varint quantity (zigzag)
+ * string  = varint (UTF-8 byte length + 1, 0 = null) + bytes
+ * </pre>
+ */
+public final class OrderCreatedEventBinaryFormat {
+
+    static final int MAGIC = 0xEC;
+    static final int FORMAT_VERSION = 1;
+
+    public static final String CONTENT_TYPE = "application/vnd.ecommerce.event+binary";
+
+    private static final int HAS_EVENT_ID = 1;
+    private static final int HAS_TIMESTAMP = 2;
+    private static final int HAS_ORDER_ID = 4;
+    private static final int HAS_CUSTOMER_ID = 8;
+    private static final int HAS_LINE_ITEMS = 16;
+
+    private static final int ITEM_HAS_PRODUCT_ID = 1;
+    private static final int ITEM_HAS_QUANTITY = 2;
+
+    private OrderCreatedEventBinaryFormat() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not a supported OrderCreated binary payload
+     */
+    public static OrderCreatedEvent decode(byte[] bytes) {
+        Reader in = new Reader(bytes);
+        if (in.readByte() != MAGIC) {
+            throw new IllegalArgumentException("Not a binary event payload (bad magic)");
+        }
+        int formatVersion = in.readByte();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported binary event format version: " + formatVersion);
+        }
+        int flags = in.readByte();
+
+        OrderCreatedEvent event = new OrderCreatedEvent();
+        event.setEventType(in.readString());
+        event.setVersion(in.readString());
+        if ((flags & HAS_EVENT_ID) != 0) {
+            event.setEventId(in.readUuid());
+        }
+        if ((flags & HAS_TIMESTAMP) != 0) {
+            long epochSecond = unzigzag(in.readVarLong());
+            int nanos = (int) in.readVarLong();
+            ZoneOffset offset = ZoneOffset.ofTotalSeconds((int) unzigzag(in.readVarLong()));
+            event.setTimestamp(OffsetDateTime.ofInstant(Instant.ofEpochSecond(epochSecond, nanos), offset));
+        }
+        if ((flags & HAS_ORDER_ID) != 0) {
+            event.setOrderId(in.readUuid());
+        }
+        if ((flags & HAS_CUSTOMER_ID) != 0) {
+            event.setCustomerId(in.readUuid());
+        }
+        if ((flags & HAS_LINE_ITEMS) != 0) {
+            int count = in.readCount();
+            List<OrderCreatedEvent.LineItem> lineItems = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int itemFlags = in.readByte();
+                OrderCreatedEvent.LineItem item = new OrderCreatedEvent.LineItem();
+                if ((itemFlags & ITEM_HAS_PRODUCT_ID) != 0) {
+                    item.setProductId(in.readUuid());
+                }
+                if ((itemFlags & ITEM_HAS_QUANTITY) != 0) {
+                    item.setQuantity((int) unzigzag(in.readVarLong()));
+                }
+                lineItems.add(item);
+            }
+            event.setLineItems(lineItems);
+        }
+        return event;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            require(1);
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in binary event payload");
+        }
+
+        int readCount() {
+            long count = readVarLong();
+            // Every element needs at least one byte; rejects corrupt lengths before allocating
+            if (count < 0 || count > buffer.length - position) {
+                throw new IllegalArgumentException("Invalid element count in binary event payload: " + count);
+            }
+            return (int) count;
+        }
+
+        UUID readUuid() {
+            return new UUID(readLong(), readLong());
+        }
+
+        String readString() {
+            long lengthPlusOne = readVarLong();
+            if (lengthPlusOne == 0) {
+                return null;
+            }
+            if (lengthPlusOne < 0 || lengthPlusOne - 1 > buffer.length - position) {
+                throw new IllegalArgumentException("Truncated binary event payload");
+            }
+            int length = (int) (lengthPlusOne - 1);
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        private long readLong() {
+            require(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        private void require(int bytes) {
+            if (position + bytes > buffer.length) {
+                throw new IllegalArgumentException("Truncated binary event payload");
+            }
+        }
+    }
+}
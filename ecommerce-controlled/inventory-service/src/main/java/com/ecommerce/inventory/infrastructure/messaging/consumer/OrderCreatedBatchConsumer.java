@@ -0,0 +1,137 @@
+package com.ecommerce.inventory.infrastructure.messaging.consumer;
+
+import com.ecommerce.inventory.application.usecase.DecrementStockUseCase;
+import com.ecommerce.inventory.exception.InsufficientStockException;
+import com.ecommerce.inventory.exception.InventoryNotFoundException;
+import com.ecommerce.inventory.infrastructure.messaging.event.OrderCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Batch-mode Kafka consumer for OrderCreated events (D017).
+ * Per docs/architecture/communication-matrix.md
+ *
+ * Consumer group: inventory-service-order-events
+ * Topic: order.events
+ * Active with inventory.order-events.batch-mode=true; one poll (max.poll.records)
+ * arrives as one message.
+ *
+ * Happy path: the whole poll is applied by DecrementStockUseCase.executeBatch in one
+ * transaction - one inbox query, one guarded UPDATE per distinct product.
+ * If that fails, the poll is replayed record by record so a single bad order
+ * cannot block the others:
+ * - undecodable payloads, unknown products and insufficient stock go to order.events.dlq
+ * - any other failure is rethrown as BatchListenerFailedException, so the container
+ *   commits the records before it and redelivers from the failing one
+ */
+@Component
+@ConditionalOnProperty(name = "inventory.order-events.batch-mode", havingValue = "true")
+@Slf4j
+public class OrderCreatedBatchConsumer {
+
+    static final String DLQ_DESTINATION = "order.events.dlq";
+
+    private final DecrementStockUseCase decrementStockUseCase;
+    private final StreamBridge streamBridge;
+    private final OrderCreatedEventDecoder decoder;
+
+    public OrderCreatedBatchConsumer(DecrementStockUseCase decrementStockUseCase, StreamBridge streamBridge) {
+        this.decrementStockUseCase = decrementStockUseCase;
+        this.streamBridge = streamBridge;
+        this.decoder = new OrderCreatedEventDecoder();
+    }
+
+    /**
+     * Spring Cloud Stream functional consumer, bound with consumer.batch-mode=true.
+     * Same bean name as the per-record consumer, so the binding configuration is shared.
+     */
+    @Bean
+    public Consumer<Message<List<byte[]>>> orderCreatedConsumer() {
+        return message -> {
+            List<byte[]> payloads = message.getPayload();
+            List<Map<String, Object>> recordHeaders = recordHeaders(message);
+            log.info("Received OrderCreated batch: records={}", payloads.size());
+
+            List<OrderCreatedEvent> events = new ArrayList<>(payloads.size());
+            List<Integer> positions = new ArrayList<>(payloads.size());
+            for (int i = 0; i < payloads.size(); i++) {
+                String contentType = OrderCreatedEventDecoder.contentType(header(recordHeaders, i));
+                try {
+                    events.add(decoder.decode(payloads.get(i), contentType));
+                    positions.add(i);
+                } catch (Exception e) {
+                    log.error("Undecodable OrderCreated record at index {}, dead-lettering", i, e);
+                    deadLetter(payloads.get(i), contentType, e);
+                }
+            }
+            if (events.isEmpty()) {
+                return;
+            }
+
+            try {
+                int applied = decrementStockUseCase.executeBatch(events);
+                log.info("OrderCreated batch processed: records={}, applied={}", payloads.size(), applied);
+            } catch (RuntimeException e) {
+                log.warn("OrderCreated batch failed, replaying record by record: {}", e.getMessage());
+                replay(events, positions, payloads, recordHeaders);
+            }
+        };
+    }
+
+    private void replay(List<OrderCreatedEvent> events, List<Integer> positions,
+                        List<byte[]> payloads, List<Map<String, Object>> recordHeaders) {
+        for (int i = 0; i < events.size(); i++) {
+            OrderCreatedEvent event = events.get(i);
+            int index = positions.get(i);
+            try {
+                decrementStockUseCase.execute(event);
+            } catch (InsufficientStockException | InventoryNotFoundException e) {
+                // Will not succeed on retry either
+                log.error("OrderCreated event rejected, dead-lettering: eventId={}, reason={}",
+                    event.getEventId(), e.getMessage());
+                deadLetter(payloads.get(index), OrderCreatedEventDecoder.contentType(header(recordHeaders, index)), e);
+            } catch (RuntimeException e) {
+                log.error("Failed to process OrderCreated event: eventId={}", event.getEventId(), e);
+                throw new BatchListenerFailedException("Event processing failed", e, index);
+            }
+        }
+    }
+
+    private void deadLetter(byte[] payload, String contentType, Exception cause) {
+        Message<byte[]> deadLetter = MessageBuilder.withPayload(payload)
+            .setHeader(MessageHeaders.CONTENT_TYPE, contentType)
+            .setHeader(KafkaHeaders.DLT_EXCEPTION_FQCN, cause.getClass().getName())
+            .setHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE, String.valueOf(cause.getMessage()))
+            .build();
+        if (!streamBridge.send(DLQ_DESTINATION, deadLetter)) {
+            // Keep the record in the poll rather than dropping it silently
+            throw new IllegalStateException("Could not dead-letter OrderCreated record");
+        }
+    }
+
+    /**
+     * Per-record headers of a batch (one map per payload, same order).
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> recordHeaders(Message<List<byte[]>> message) {
+        Object headers = message.getHeaders().get(KafkaHeaders.BATCH_CONVERTED_HEADERS);
+        return headers instanceof List<?> list ? (List<Map<String, Object>>) list : List.of();
+    }
+
+    private static Object header(List<Map<String, Object>> recordHeaders, int index) {
+        return index < recordHeaders.size() ? recordHeaders.get(index).get(MessageHeaders.CONTENT_TYPE) : null;
+    }
+}
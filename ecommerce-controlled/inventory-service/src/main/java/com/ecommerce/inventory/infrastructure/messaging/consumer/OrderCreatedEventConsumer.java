@@ -2,11 +2,11 @@ package com.ecommerce.inventory.infrastructure.messaging.consumer;
 
 import com.ecommerce.inventory.application.usecase.DecrementStockUseCase;
 import com.ecommerce.inventory.infrastructure.messaging.event.OrderCreatedEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
 import org.springframework.stereotype.Component;
 
 import java.util.function.Consumer;
@@ -18,32 +18,38 @@ import java.util.function.Consumer;
  * Consumer group: inventory-service-order-events
  * Topic: order.events
  * Idempotency: Handled by DecrementStockUseCase (inbox pattern)
+ * Encoding: negotiated per message via the contentType header
+ * (application/json or the binary format, see docs/events/event-catalog.md)
+ * 
+ * Active unless inventory.order-events.batch-mode is set (see OrderCreatedBatchConsumer).
  */
 @Component
+@ConditionalOnProperty(name = "inventory.order-events.batch-mode", havingValue = "false", matchIfMissing = true)
 @Slf4j
 public class OrderCreatedEventConsumer {
 
     private final DecrementStockUseCase decrementStockUseCase;
-    private final ObjectMapper objectMapper;
+    private final OrderCreatedEventDecoder decoder;
 
     public OrderCreatedEventConsumer(DecrementStockUseCase decrementStockUseCase) {
         this.decrementStockUseCase = decrementStockUseCase;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.decoder = new OrderCreatedEventDecoder();
     }
 
     /**
      * Spring Cloud Stream functional consumer.
      * Bean name matches application.yml binding configuration.
+     * Raw bytes are consumed so the payload is decoded exactly once, by content type.
      */
     @Bean
-    public Consumer<Message<String>> orderCreatedConsumer() {
+    public Consumer<Message<byte[]>> orderCreatedConsumer() {
         return message -> {
             try {
-                String payload = message.getPayload();
-                log.info("Received OrderCreated event: {}", payload);
+                String contentType = contentType(message);
+                log.info("Received OrderCreated event: contentType={}, bytes={}",
+                    contentType, message.getPayload().length);
                 
-                OrderCreatedEvent event = objectMapper.readValue(payload, OrderCreatedEvent.class);
+                OrderCreatedEvent event = decoder.decode(message.getPayload(), contentType);
                 
                 // Process event with idempotency
                 decrementStockUseCase.execute(event);
@@ -58,4 +64,8 @@ public class OrderCreatedEventConsumer {
             }
         };
     }
+
+    private static String contentType(Message<byte[]> message) {
+        return OrderCreatedEventDecoder.contentType(message.getHeaders().get(MessageHeaders.CONTENT_TYPE));
+    }
 }
@@ -0,0 +1,49 @@
+package com.ecommerce.inventory.infrastructure.messaging.consumer;
+
+import com.ecommerce.inventory.infrastructure.messaging.codec.OrderCreatedEventBinaryFormat;
+import com.ecommerce.inventory.infrastructure.messaging.event.OrderCreatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decodes raw OrderCreated payloads by content type (application/json or the
+ * binary format, see docs/events/event-catalog.md).
+ * Shared by the per-record and the batch consumer.
+ */
+class OrderCreatedEventDecoder {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/json";
+
+    private final ObjectMapper objectMapper;
+
+    OrderCreatedEventDecoder() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    OrderCreatedEvent decode(byte[] payload, String contentType) throws IOException {
+        if (contentType.startsWith(OrderCreatedEventBinaryFormat.CONTENT_TYPE)) {
+            return OrderCreatedEventBinaryFormat.decode(payload);
+        }
+        if (contentType.startsWith("application/json")) {
+            return objectMapper.readValue(payload, OrderCreatedEvent.class);
+        }
+        throw new IllegalArgumentException("Unsupported OrderCreated content type: " + contentType);
+    }
+
+    /**
+     * Header value may arrive as String, MimeType or raw bytes depending on the producer;
+     * messages without it are JSON (pre-binary producers).
+     */
+    static String contentType(Object header) {
+        if (header == null) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+        String value = header instanceof byte[] raw ? new String(raw, StandardCharsets.UTF_8) : header.toString();
+        // JSON-mapped headers keep their quotes
+        return value.replace("\"", "").trim();
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecommerce.inventory.infrastructure.messaging.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Event DTO for StockChanged events published to Kafka.
+ * Per docs/events/event-catalog.md - StockChanged (v1)
+ * 
+ * Published to Kafka topic: inventory.events
+ * Key: productId (per-product ordering)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockChangedEvent {
+
+    private UUID eventId;
+    @Builder.Default
+    private String eventType = "StockChanged";
+    @Builder.Default
+    private String version = "1";
+    private OffsetDateTime timestamp;
+    private String productId;
+
+    /**
+     * Stock quantity after the change; null when unknown (consumers must drop cached state)
+     */
+    private Integer quantity;
+
+    /**
+     * Signed quantity delta applied by the change
+     */
+    private Integer quantityChange;
+}
@@ -0,0 +1,108 @@
+package com.ecommerce.inventory.infrastructure.messaging.producer;
+
+import com.ecommerce.inventory.infrastructure.messaging.event.StockChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Publishes StockChanged events to Kafka (topic: inventory.events).
+ * Per docs/events/event-catalog.md - StockChanged (v1)
+ * 
+ * Notification only (not state transfer): consumers use it to refresh or drop
+ * cached stock levels, and must bound staleness themselves (TTL) because
+ * delivery is best-effort - events are sent after commit, without an outbox.
+ */
+@Component
+@Slf4j
+public class StockChangedEventPublisher {
+
+    private static final String BINDING = "stockEvents-out-0";
+
+    private final StreamBridge streamBridge;
+
+    public StockChangedEventPublisher(StreamBridge streamBridge) {
+        this.streamBridge = streamBridge;
+    }
+
+    /**
+     * Publish a stock change once the surrounding transaction commits
+     * (immediately when called outside a transaction).
+     * 
+     * @param productId product whose stock changed
+     * @param quantity stock after the change, or null if unknown
+     * @param quantityChange signed delta
+     */
+    public void publishAfterCommit(String productId, Integer quantity, int quantityChange) {
+        publishAfterCommit(productId, () -> quantity, quantityChange);
+    }
+
+    /**
+     * Publish a stock change once the surrounding transaction commits, reading
+     * the quantity only then - for changes that become visible on commit
+     * (hot-SKU restocks, D020), where a value read inside the transaction is stale.
+     * 
+     * @param productId product whose stock changed
+     * @param quantity supplies the stock after commit, or null if unknown
+     * @param quantityChange signed delta
+     */
+    public void publishAfterCommit(String productId, Supplier<Integer> quantity, int quantityChange) {
+        UUID eventId = UUID.randomUUID();
+        OffsetDateTime timestamp = OffsetDateTime.now();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event(eventId, timestamp, productId, quantity, quantityChange));
+                }
+            });
+        } else {
+            send(event(eventId, timestamp, productId, quantity, quantityChange));
+        }
+    }
+
+    private StockChangedEvent event(UUID eventId, OffsetDateTime timestamp, String productId,
+                                    Supplier<Integer> quantity, int quantityChange) {
+        Integer stock;
+        try {
+            stock = quantity.get();
+        } catch (Exception e) {
+            // null quantity makes consumers drop their cached value (v1 contract)
+            log.warn("Could not read stock for StockChanged event: productId={}, error={}", productId, e.getMessage());
+            stock = null;
+        }
+        return StockChangedEvent.builder()
+            .eventId(eventId)
+            .timestamp(timestamp)
+            .productId(productId)
+            .quantity(stock)
+            .quantityChange(quantityChange)
+            .build();
+    }
+
+    private void send(StockChangedEvent event) {
+        try {
+            boolean sent = streamBridge.send(
+                BINDING,
+                MessageBuilder.withPayload(event)
+                    .setHeader("messageKey", event.getProductId())
+                    .build()
+            );
+            if (!sent) {
+                log.warn("StockChanged event not accepted by binder: productId={}", event.getProductId());
+            }
+        } catch (Exception e) {
+            // Best-effort: consumers fall back to their cache TTL
+            log.warn("Failed to publish StockChanged event: productId={}, error={}",
+                event.getProductId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ecommerce.inventory.infrastructure.persistence;
+
+import com.ecommerce.inventory.infrastructure.config.InboxProperties;
+import com.ecommerce.inventory.infrastructure.persistence.repository.InboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background retention for the inbox table.
+ * Per docs/events/idempotency.md (Retention)
+ * 
+ * Rows processed longer ago than inventory.inbox.retention.max-age are deleted
+ * in chunks of chunk-size rows, each its own short transaction, so consumers
+ * are never blocked behind one long DELETE. Safe next to consumption: the
+ * cutoff is older than the order.events retention, so a pruned event can no
+ * longer be redelivered.
+ * 
+ * Metrics:
+ * - inventory.inbox.pruned: rows deleted
+ * - inventory.inbox.retention: duration of a run
+ * - inventory.inbox.rows: table size after the last run
+ */
+@Component
+@Slf4j
+public class InboxRetentionJob {
+
+    private final InboxRepository inboxRepository;
+    private final InboxProperties properties;
+
+    private final Counter pruned;
+    private final Timer runs;
+    private final AtomicLong rows = new AtomicLong();
+
+    public InboxRetentionJob(
+            InboxRepository inboxRepository,
+            InboxProperties properties,
+            MeterRegistry meterRegistry) {
+        this.inboxRepository = inboxRepository;
+        this.properties = properties;
+        this.pruned = Counter.builder("inventory.inbox.pruned")
+            .description("Inbox rows deleted by the retention job")
+            .register(meterRegistry);
+        this.runs = Timer.builder("inventory.inbox.retention")
+            .description("Inbox retention run duration")
+            .register(meterRegistry);
+        Gauge.builder("inventory.inbox.rows", rows, AtomicLong::get)
+            .description("Inbox rows (as of the last retention run)")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "#{@inboxProperties.retention.interval.toMillis()}",
+        fixedDelayString = "#{@inboxProperties.retention.interval.toMillis()}")
+    public void pruneProcessedEvents() {
+        InboxProperties.Retention retention = properties.getRetention();
+        if (!retention.isEnabled()) {
+            return;
+        }
+        runs.record(() -> prune(retention));
+    }
+
+    private void prune(InboxProperties.Retention retention) {
+        Instant cutoff = Instant.now().minus(retention.getMaxAge());
+        int chunkSize = retention.getChunkSize();
+        int chunks = retention.getMaxChunksPerRun();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = inboxRepository.deleteProcessedBefore(cutoff, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize && --chunks > 0);
+
+        pruned.increment(total);
+        rows.set(inboxRepository.count());
+        if (total > 0) {
+            log.info("Inbox retention pruned {} rows processed before {}", total, cutoff);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.ecommerce.inventory.infrastructure.persistence.adapter;
 
 import com.ecommerce.inventory.domain.model.Inventory;
 import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.exception.InsufficientStockException;
+import com.ecommerce.inventory.infrastructure.hotsku.HotSkuStockLedger;
 import com.ecommerce.inventory.infrastructure.persistence.entity.InventoryEntity;
 import com.ecommerce.inventory.infrastructure.persistence.mapper.InventoryMapper;
 import com.ecommerce.inventory.infrastructure.persistence.repository.InventoryJpaRepository;
@@ -10,11 +12,18 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * Adapter that implements the domain repository interface using JPA.
  * Part of infrastructure layer - bridges domain and persistence.
+ * 
+ * Stock of hot SKUs (D020) is read from and changed in HotSkuStockLedger
+ * instead of the inventory row; all other columns still come from the table.
  */
 @Repository
 @RequiredArgsConstructor
@@ -22,30 +31,94 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
 
     private final InventoryJpaRepository jpaRepository;
     private final InventoryMapper mapper;
+    private final HotSkuStockLedger hotSkuLedger;
 
     @Override
     public Inventory save(Inventory inventory) {
+        if (inventory.getId() != null && hotSkuLedger.isHot(inventory.getProductId())) {
+            Optional<InventoryEntity> stored = jpaRepository.findById(inventory.getId());
+            if (stored.isPresent()) {
+                return saveHot(inventory, stored.get());
+            }
+        }
         InventoryEntity entity = mapper.toEntity(inventory);
         InventoryEntity saved = jpaRepository.save(entity);
         return mapper.toDomain(saved);
     }
 
+    /**
+     * A new quantity becomes a relative ledger change; the quantity column is
+     * left to the write-behind flush.
+     */
+    private Inventory saveHot(Inventory inventory, InventoryEntity stored) {
+        String productId = inventory.getProductId();
+        long current = hotSkuLedger.quantity(productId).orElse(stored.getQuantity());
+        int quantityChange = Math.toIntExact(inventory.getQuantity() - current);
+        if (quantityChange != 0 && !hotSkuLedger.tryAdjust(productId, quantityChange)) {
+            throw new InsufficientStockException(
+                    "Insufficient stock: productId=" + productId + ", requested quantity=" + inventory.getQuantity());
+        }
+
+        InventoryEntity entity = mapper.toEntity(inventory);
+        entity.setQuantity(stored.getQuantity());
+        return withQuantity(mapper.toDomain(jpaRepository.save(entity)), inventory.getQuantity());
+    }
+
     @Override
     public Optional<Inventory> findById(Long id) {
         return jpaRepository.findById(id)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .map(this::withLedgerQuantity);
     }
 
     @Override
     public Optional<Inventory> findByProductId(String productId) {
         return jpaRepository.findByProductId(productId)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .map(this::withLedgerQuantity);
+    }
+
+    @Override
+    public List<Inventory> findByProductIds(Collection<String> productIds) {
+        return jpaRepository.findByProductIdIn(productIds).stream()
+                .map(mapper::toDomain)
+                .map(this::withLedgerQuantity)
+                .toList();
+    }
+
+    @Override
+    public Optional<Integer> findQuantityByProductId(String productId) {
+        if (hotSkuLedger.isHot(productId)) {
+            OptionalLong quantity = hotSkuLedger.quantity(productId);
+            return quantity.isPresent() ? Optional.of(Math.toIntExact(quantity.getAsLong())) : Optional.empty();
+        }
+        return jpaRepository.findQuantityByProductId(productId);
+    }
+
+    @Override
+    public int decrementStockIfAvailable(String productId, int quantity) {
+        if (hotSkuLedger.isHot(productId)) {
+            return hotSkuLedger.tryAdjust(productId, -quantity) ? 1 : 0;
+        }
+        return jpaRepository.decrementIfAvailable(productId, quantity, LocalDateTime.now());
+    }
+
+    @Override
+    public int adjustStock(Long id, int quantityChange) {
+        if (hotSkuLedger.isEnabled()) {
+            Optional<String> hotProductId = jpaRepository.findProductIdById(id).filter(hotSkuLedger::isHot);
+            if (hotProductId.isPresent()) {
+                return hotSkuLedger.tryAdjust(hotProductId.get(), quantityChange) ? 1 : 0;
+            }
+        }
+        return jpaRepository.adjustIfNotNegative(id, quantityChange, LocalDateTime.now());
     }
 
     @Override
     public Page<Inventory> findAll(Pageable pageable) {
         return jpaRepository.findAll(pageable)
-                .map(mapper::toDomain);
+                .map(mapper::toDomain)
+                .map(this::withLedgerQuantity);
     }
 
     @Override
@@ -53,8 +126,38 @@ public class InventoryRepositoryAdapter implements InventoryRepository {
         return jpaRepository.existsById(id);
     }
 
+    @Override
+    public boolean existsByProductId(String productId) {
+        return jpaRepository.existsByProductId(productId);
+    }
+
     @Override
     public void deleteById(Long id) {
+        Optional<String> productId = hotSkuLedger.isEnabled() ? jpaRepository.findProductIdById(id) : Optional.empty();
         jpaRepository.deleteById(id);
+        productId.ifPresent(hotSkuLedger::evict);
+    }
+
+    private Inventory withLedgerQuantity(Inventory inventory) {
+        if (!hotSkuLedger.isHot(inventory.getProductId())) {
+            return inventory;
+        }
+        OptionalLong quantity = hotSkuLedger.quantity(inventory.getProductId());
+        return quantity.isPresent() ? withQuantity(inventory, quantity.getAsLong()) : inventory;
+    }
+
+    private static Inventory withQuantity(Inventory inventory, long quantity) {
+        return new Inventory(
+                inventory.getId(),
+                inventory.getProductId(),
+                inventory.getProductName(),
+                Math.toIntExact(quantity),
+                inventory.getMinStockLevel(),
+                inventory.getMaxStockLevel(),
+                inventory.getLocation(),
+                inventory.getDescription(),
+                inventory.getCreatedAt(),
+                inventory.getUpdatedAt()
+        );
     }
 }
@@ -1,10 +1,16 @@
 package com.ecommerce.inventory.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -16,12 +22,15 @@ import java.util.UUID;
  * Stores processed event IDs to prevent duplicate processing.
  */
 @Entity
-@Table(name = "inbox")
+@Table(name = "inbox", indexes = {
+    // Retention deletes by age (see InboxRetentionJob)
+    @Index(name = "idx_inbox_processed_at", columnList = "processed_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class InboxEntity {
+public class InboxEntity implements Persistable<UUID> {
 
     @Id
     private UUID eventId;
@@ -31,4 +40,32 @@ public class InboxEntity {
 
     @Column(name = "processed_at", nullable = false)
     private Instant processedAt;
+
+    /**
+     * The id is the event id, assigned before save; without this flag Spring Data
+     * would merge (SELECT first) instead of persisting and batching the INSERT.
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntry = true;
+
+    @Override
+    public UUID getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntry = false;
+    }
 }
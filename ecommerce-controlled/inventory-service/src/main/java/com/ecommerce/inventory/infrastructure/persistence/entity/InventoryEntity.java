@@ -5,12 +5,18 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
+/**
+ * Dynamic UPDATEs only write changed columns: saving a hot SKU (D020) leaves
+ * quantity to the write-behind flush instead of overwriting it.
+ */
 @Entity
 @Table(name = "inventory")
+@DynamicUpdate
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
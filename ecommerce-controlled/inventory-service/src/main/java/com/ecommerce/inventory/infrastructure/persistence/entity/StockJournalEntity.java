@@ -0,0 +1,40 @@
+package com.ecommerce.inventory.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Stock change of a hot SKU not yet folded into the inventory table (write-behind, D020).
+ * 
+ * Inserted in the same transaction as the change itself (and its inbox row), so
+ * inventory.quantity + SUM(quantity_change) is always the committed stock.
+ * Insert-only: unlike the inventory row it is never a point of contention.
+ */
+@Entity
+@Table(name = "stock_journal", indexes = {
+    @Index(name = "idx_stock_journal_product", columnList = "product_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockJournalEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private String productId;
+
+    @Column(name = "quantity_change", nullable = false)
+    private Integer quantityChange;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
@@ -2,8 +2,15 @@ package com.ecommerce.inventory.infrastructure.persistence.repository;
 
 import com.ecommerce.inventory.infrastructure.persistence.entity.InboxEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -12,5 +19,43 @@ import java.util.UUID;
  */
 @Repository
 public interface InboxRepository extends JpaRepository<InboxEntity, UUID> {
-    // PK lookup (eventId) is sufficient for duplicate detection
+
+    /**
+     * Which of the given events were already processed (one PK lookup for a whole batch).
+     */
+    @Query("SELECT i.eventId FROM InboxEntity i WHERE i.eventId IN :eventIds")
+    Set<UUID> findProcessedEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
+    /**
+     * Exists-or-insert in one statement: inserts the inbox row unless the event is already there.
+     * 
+     * @return 1 if inserted (first delivery), 0 if the event was already processed
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO inbox (event_id, event_type, processed_at)
+        SELECT :eventId, :eventType, :processedAt
+        WHERE NOT EXISTS (SELECT 1 FROM inbox WHERE event_id = :eventId)
+        """, nativeQuery = true)
+    int insertIfAbsent(
+        @Param("eventId") UUID eventId,
+        @Param("eventType") String eventType,
+        @Param("processedAt") Instant processedAt
+    );
+
+    /**
+     * Deletes up to limit rows processed before the cutoff (retention).
+     * 
+     * @return rows deleted; less than limit means nothing older is left
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM inbox
+         WHERE event_id IN (
+               SELECT event_id FROM inbox
+                WHERE processed_at < :cutoff
+                LIMIT :limit)
+        """, nativeQuery = true)
+    int deleteProcessedBefore(@Param("cutoff") Instant cutoff, @Param("limit") int limit);
 }
@@ -2,7 +2,13 @@ package com.ecommerce.inventory.infrastructure.persistence.repository;
 
 import com.ecommerce.inventory.infrastructure.persistence.entity.InventoryEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -12,4 +18,54 @@ import java.util.Optional;
 public interface InventoryJpaRepository extends JpaRepository<InventoryEntity, Long> {
     
     Optional<InventoryEntity> findByProductId(String productId);
+
+    List<InventoryEntity> findByProductIdIn(Collection<String> productIds);
+
+    boolean existsByProductId(String productId);
+
+    @Query("SELECT i.quantity FROM InventoryEntity i WHERE i.productId = :productId")
+    Optional<Integer> findQuantityByProductId(@Param("productId") String productId);
+
+    /**
+     * Guarded decrement: the row only changes if enough stock is left (bulk update,
+     * so @UpdateTimestamp does not apply and updatedAt is set explicitly).
+     * Flushes pending writes first and clears the persistence context afterwards,
+     * so later reads in the same transaction see the new quantity.
+     *
+     * @return 1 if decremented, 0 if the product is unknown or stock is insufficient
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InventoryEntity i SET i.quantity = i.quantity - :quantity, i.updatedAt = :now "
+            + "WHERE i.productId = :productId AND i.quantity >= :quantity")
+    int decrementIfAvailable(@Param("productId") String productId,
+                             @Param("quantity") int quantity,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * Guarded relative change by id (positive or negative); never goes below zero.
+     *
+     * @return 1 if applied, 0 if the id is unknown or the result would be negative
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InventoryEntity i SET i.quantity = i.quantity + :quantityChange, i.updatedAt = :now "
+            + "WHERE i.id = :id AND i.quantity + :quantityChange >= 0")
+    int adjustIfNotNegative(@Param("id") Long id,
+                            @Param("quantityChange") int quantityChange,
+                            @Param("now") LocalDateTime now);
+
+    @Query("SELECT i.productId FROM InventoryEntity i WHERE i.id = :id")
+    Optional<String> findProductIdById(@Param("id") Long id);
+
+    /**
+     * Unguarded relative change, used by the hot-SKU write-behind flush only:
+     * the in-memory ledger already kept the stock from going negative.
+     *
+     * @return 1 if applied, 0 if the product no longer exists
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE InventoryEntity i SET i.quantity = i.quantity + :delta, i.updatedAt = :now "
+            + "WHERE i.productId = :productId")
+    int applyDelta(@Param("productId") String productId,
+                   @Param("delta") int delta,
+                   @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,35 @@
+package com.ecommerce.inventory.infrastructure.persistence.repository;
+
+import com.ecommerce.inventory.infrastructure.persistence.entity.StockJournalEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for the hot-SKU stock journal (write-behind, D020).
+ */
+@Repository
+public interface StockJournalRepository extends JpaRepository<StockJournalEntity, Long> {
+
+    /**
+     * Oldest committed entries first, for the flush job.
+     */
+    List<StockJournalEntity> findByOrderByIdAsc(Limit limit);
+
+    /**
+     * Committed stock of a product: flushed quantity plus pending journal entries,
+     * read in one statement so a concurrent flush cannot be counted twice or missed.
+     */
+    @Query(value = """
+        SELECT i.quantity + COALESCE(
+               (SELECT SUM(j.quantity_change) FROM stock_journal j WHERE j.product_id = i.product_id), 0)
+          FROM inventory i
+         WHERE i.product_id = :productId
+        """, nativeQuery = true)
+    Optional<Long> findCommittedQuantity(@Param("productId") String productId);
+}
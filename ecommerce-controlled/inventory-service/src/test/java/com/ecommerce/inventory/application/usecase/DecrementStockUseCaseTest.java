@@ -0,0 +1,211 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.exception.InsufficientStockException;
+import com.ecommerce.inventory.exception.InventoryNotFoundException;
+import com.ecommerce.inventory.infrastructure.cache.RecentEventIdCache;
+import com.ecommerce.inventory.infrastructure.messaging.event.OrderCreatedEvent;
+import com.ecommerce.inventory.infrastructure.messaging.producer.StockChangedEventPublisher;
+import com.ecommerce.inventory.infrastructure.persistence.entity.InboxEntity;
+import com.ecommerce.inventory.infrastructure.persistence.repository.InboxRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DecrementStockUseCase.
+ * Stock changes go through the guarded decrement only (no load-modify-save);
+ * batches are coalesced into one decrement per product.
+ */
+@ExtendWith(MockitoExtension.class)
+class DecrementStockUseCaseTest {
+
+    private static final UUID PRODUCT_ID = UUID.fromString("6f1a2b3c-0000-4000-8000-00000000000a");
+    private static final UUID OTHER_PRODUCT_ID = UUID.fromString("6f1a2b3c-0000-4000-8000-00000000000b");
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private InboxRepository inboxRepository;
+
+    @Mock
+    private StockChangedEventPublisher stockChangedEventPublisher;
+
+    @Mock
+    private RecentEventIdCache recentEventIds;
+
+    @Captor
+    private ArgumentCaptor<List<InboxEntity>> inboxRows;
+
+    @InjectMocks
+    private DecrementStockUseCase decrementStockUseCase;
+
+    @Test
+    void shouldDecrementWithGuardedUpdateAndPublishRemainingStock() {
+        // Given
+        OrderCreatedEvent event = event(3);
+        firstDelivery();
+        when(inventoryRepository.decrementStockIfAvailable(PRODUCT_ID.toString(), 3)).thenReturn(1);
+        when(inventoryRepository.findQuantityByProductId(PRODUCT_ID.toString())).thenReturn(Optional.of(7));
+
+        // When
+        decrementStockUseCase.execute(event);
+
+        // Then
+        verify(stockChangedEventPublisher).publishAfterCommit(PRODUCT_ID.toString(), 7, -3);
+        verify(recentEventIds).recordAfterCommit(List.of(event.getEventId()));
+        verify(inventoryRepository, never()).findByProductId(anyString());
+        verify(inventoryRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectDecrementBeyondAvailableStock() {
+        // Given
+        firstDelivery();
+        when(inventoryRepository.decrementStockIfAvailable(PRODUCT_ID.toString(), 5)).thenReturn(0);
+        when(inventoryRepository.existsByProductId(PRODUCT_ID.toString())).thenReturn(true);
+
+        // When / Then
+        assertThrows(InsufficientStockException.class, () -> decrementStockUseCase.execute(event(5)));
+        verifyNoInteractions(stockChangedEventPublisher);
+    }
+
+    @Test
+    void shouldReportUnknownProduct() {
+        // Given
+        firstDelivery();
+        when(inventoryRepository.decrementStockIfAvailable(PRODUCT_ID.toString(), 1)).thenReturn(0);
+        when(inventoryRepository.existsByProductId(PRODUCT_ID.toString())).thenReturn(false);
+
+        // When / Then
+        assertThrows(InventoryNotFoundException.class, () -> decrementStockUseCase.execute(event(1)));
+    }
+
+    @Test
+    void shouldSkipAlreadyProcessedEvent() {
+        // Given
+        OrderCreatedEvent event = event(2);
+        when(inboxRepository.insertIfAbsent(eq(event.getEventId()), anyString(), any())).thenReturn(0);
+
+        // When
+        decrementStockUseCase.execute(event);
+
+        // Then
+        verify(recentEventIds).record(List.of(event.getEventId()));
+        verifyNoInteractions(inventoryRepository, stockChangedEventPublisher);
+    }
+
+    @Test
+    void shouldSkipRecentEventWithoutTouchingInbox() {
+        // Given
+        OrderCreatedEvent event = event(2);
+        when(recentEventIds.contains(event.getEventId())).thenReturn(true);
+
+        // When
+        decrementStockUseCase.execute(event);
+
+        // Then
+        verifyNoInteractions(inboxRepository, inventoryRepository, stockChangedEventPublisher);
+    }
+
+    @Test
+    void shouldCoalesceBatchIntoOneUpdatePerProduct() {
+        // Given: three orders for the hot product, one also for another product
+        OrderCreatedEvent first = event(2);
+        OrderCreatedEvent second = event(3);
+        OrderCreatedEvent third = event(lineItem(PRODUCT_ID, 1), lineItem(OTHER_PRODUCT_ID, 4));
+        when(inboxRepository.findProcessedEventIds(anyCollection())).thenReturn(Set.of());
+        when(inventoryRepository.decrementStockIfAvailable(PRODUCT_ID.toString(), 6)).thenReturn(1);
+        when(inventoryRepository.decrementStockIfAvailable(OTHER_PRODUCT_ID.toString(), 4)).thenReturn(1);
+        when(inventoryRepository.findQuantityByProductId(PRODUCT_ID.toString())).thenReturn(Optional.of(94));
+        when(inventoryRepository.findQuantityByProductId(OTHER_PRODUCT_ID.toString())).thenReturn(Optional.of(6));
+
+        // When
+        int applied = decrementStockUseCase.executeBatch(List.of(first, second, third));
+
+        // Then
+        assertEquals(3, applied);
+        verify(inboxRepository).saveAll(inboxRows.capture());
+        assertEquals(3, inboxRows.getValue().size());
+        verify(inventoryRepository, times(2)).decrementStockIfAvailable(anyString(), anyInt());
+        verify(stockChangedEventPublisher).publishAfterCommit(PRODUCT_ID.toString(), 94, -6);
+        verify(stockChangedEventPublisher).publishAfterCommit(OTHER_PRODUCT_ID.toString(), 6, -4);
+    }
+
+    @Test
+    void shouldDropProcessedAndRepeatedEventsFromBatch() {
+        // Given: one event seen recently, one already in the inbox, one delivered twice in the same poll
+        OrderCreatedEvent recent = event(1);
+        OrderCreatedEvent processed = event(5);
+        OrderCreatedEvent pending = event(2);
+        when(recentEventIds.contains(recent.getEventId())).thenReturn(true);
+        when(inboxRepository.findProcessedEventIds(anyCollection())).thenReturn(Set.of(processed.getEventId()));
+        when(inventoryRepository.decrementStockIfAvailable(PRODUCT_ID.toString(), 2)).thenReturn(1);
+        when(inventoryRepository.findQuantityByProductId(PRODUCT_ID.toString())).thenReturn(Optional.of(8));
+
+        // When
+        int applied = decrementStockUseCase.executeBatch(List.of(recent, processed, pending, pending));
+
+        // Then
+        assertEquals(1, applied);
+        verify(inboxRepository).findProcessedEventIds(argThat(ids -> ids.size() == 2));
+        verify(recentEventIds).record(Set.of(processed.getEventId()));
+        verify(recentEventIds).recordAfterCommit(List.of(pending.getEventId()));
+        verify(stockChangedEventPublisher).publishAfterCommit(PRODUCT_ID.toString(), 8, -2);
+    }
+
+    @Test
+    void shouldRejectBatchWhenCoalescedQuantityExceedsStock() {
+        // Given
+        when(inboxRepository.findProcessedEventIds(anyCollection())).thenReturn(Set.of());
+        when(inventoryRepository.decrementStockIfAvailable(PRODUCT_ID.toString(), 7)).thenReturn(0);
+        when(inventoryRepository.existsByProductId(PRODUCT_ID.toString())).thenReturn(true);
+
+        // When / Then
+        assertThrows(InsufficientStockException.class,
+            () -> decrementStockUseCase.executeBatch(List.of(event(4), event(3))));
+        verifyNoInteractions(stockChangedEventPublisher);
+    }
+
+    private void firstDelivery() {
+        when(inboxRepository.insertIfAbsent(any(), anyString(), any())).thenReturn(1);
+    }
+
+    private static OrderCreatedEvent event(int quantity) {
+        return event(lineItem(PRODUCT_ID, quantity));
+    }
+
+    private static OrderCreatedEvent event(OrderCreatedEvent.LineItem... lineItems) {
+        return OrderCreatedEvent.builder()
+            .eventId(UUID.randomUUID())
+            .eventType("OrderCreated")
+            .version("1")
+            .timestamp(OffsetDateTime.now())
+            .orderId(UUID.randomUUID())
+            .customerId(UUID.randomUUID())
+            .lineItems(List.of(lineItems))
+            .build();
+    }
+
+    private static OrderCreatedEvent.LineItem lineItem(UUID productId, int quantity) {
+        return OrderCreatedEvent.LineItem.builder()
+            .productId(productId)
+            .quantity(quantity)
+            .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.ecommerce.inventory.application.usecase;
+
+import com.ecommerce.inventory.domain.model.Inventory;
+import com.ecommerce.inventory.domain.repository.InventoryRepository;
+import com.ecommerce.inventory.exception.InsufficientStockException;
+import com.ecommerce.inventory.exception.InventoryNotFoundException;
+import com.ecommerce.inventory.infrastructure.config.HotSkuProperties;
+import com.ecommerce.inventory.infrastructure.hotsku.HotSkuStockLedger;
+import com.ecommerce.inventory.infrastructure.messaging.event.StockChangedEvent;
+import com.ecommerce.inventory.infrastructure.messaging.producer.StockChangedEventPublisher;
+import com.ecommerce.inventory.infrastructure.persistence.adapter.InventoryRepositoryAdapter;
+import com.ecommerce.inventory.infrastructure.persistence.entity.InventoryEntity;
+import com.ecommerce.inventory.infrastructure.persistence.mapper.InventoryMapper;
+import com.ecommerce.inventory.infrastructure.persistence.repository.InventoryJpaRepository;
+import com.ecommerce.inventory.infrastructure.persistence.repository.StockJournalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for UpdateStockUseCase.
+ */
+@ExtendWith(MockitoExtension.class)
+class UpdateStockUseCaseTest {
+
+    @Mock
+    private InventoryRepository inventoryRepository;
+
+    @Mock
+    private StockChangedEventPublisher stockChangedEventPublisher;
+
+    @InjectMocks
+    private UpdateStockUseCase updateStockUseCase;
+
+    @Mock
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    @Mock
+    private StockJournalRepository stockJournalRepository;
+
+    @Mock
+    private StreamBridge streamBridge;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldApplyChangeAtomicallyAndReturnUpdatedInventory() {
+        // Given
+        Inventory updated = new Inventory(
+                1L, "PROD-001", "Laptop", 90, 10, 500, "Warehouse A", null,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(inventoryRepository.adjustStock(1L, -10)).thenReturn(1);
+        when(inventoryRepository.findById(1L)).thenReturn(Optional.of(updated));
+
+        // When
+        Inventory result = updateStockUseCase.execute(1L, -10);
+
+        // Then
+        assertEquals(90, result.getQuantity());
+        verify(inventoryRepository, never()).save(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Supplier<Integer>> quantity = ArgumentCaptor.forClass(Supplier.class);
+        verify(stockChangedEventPublisher).publishAfterCommit(eq("PROD-001"), quantity.capture(), eq(-10));
+        when(inventoryRepository.findQuantityByProductId("PROD-001")).thenReturn(Optional.of(90));
+        assertEquals(90, quantity.getValue().get());
+    }
+
+    @Test
+    void shouldPublishQuantityAfterCommitForHotSkuRestock() {
+        // Given: hot product with 5 units; a restock only reaches the counter on commit
+        HotSkuProperties properties = new HotSkuProperties();
+        properties.setEnabled(true);
+        properties.setProductIds(Set.of("PROD-HOT"));
+        HotSkuStockLedger ledger = new HotSkuStockLedger(properties, stockJournalRepository, new SimpleMeterRegistry());
+        InventoryRepositoryAdapter repository =
+                new InventoryRepositoryAdapter(inventoryJpaRepository, new InventoryMapper(), ledger);
+        UpdateStockUseCase useCase =
+                new UpdateStockUseCase(repository, new StockChangedEventPublisher(streamBridge));
+
+        InventoryEntity entity = new InventoryEntity(
+                1L, "PROD-HOT", "Console", 5, 1, 500, "Warehouse A", null,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(inventoryJpaRepository.findProductIdById(1L)).thenReturn(Optional.of("PROD-HOT"));
+        when(inventoryJpaRepository.findById(1L)).thenReturn(Optional.of(entity));
+        when(stockJournalRepository.findCommittedQuantity("PROD-HOT")).thenReturn(Optional.of(5L));
+        when(streamBridge.send(anyString(), any(Message.class))).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When: PATCH +10, then commit
+        useCase.execute(1L, 10);
+        verifyNoInteractions(streamBridge);
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        // Then: the event carries the stock including the restock, not the in-transaction 5
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<StockChangedEvent>> message = ArgumentCaptor.forClass(Message.class);
+        verify(streamBridge).send(eq("stockEvents-out-0"), message.capture());
+        assertEquals(15, message.getValue().getPayload().getQuantity());
+        assertEquals(10, message.getValue().getPayload().getQuantityChange());
+    }
+
+    @Test
+    void shouldRejectChangeThatWouldMakeStockNegative() {
+        // Given
+        when(inventoryRepository.adjustStock(1L, -1000)).thenReturn(0);
+        when(inventoryRepository.existsById(1L)).thenReturn(true);
+
+        // When / Then
+        assertThrows(InsufficientStockException.class, () -> updateStockUseCase.execute(1L, -1000));
+        verifyNoInteractions(stockChangedEventPublisher);
+    }
+
+    @Test
+    void shouldThrowWhenInventoryDoesNotExist() {
+        // Given
+        when(inventoryRepository.adjustStock(99L, 5)).thenReturn(0);
+        when(inventoryRepository.existsById(99L)).thenReturn(false);
+
+        // When / Then
+        assertThrows(InventoryNotFoundException.class, () -> updateStockUseCase.execute(99L, 5));
+    }
+}
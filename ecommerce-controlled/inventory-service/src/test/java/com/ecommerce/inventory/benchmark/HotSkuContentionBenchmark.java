@@ -0,0 +1,142 @@
+package com.ecommerce.inventory.benchmark;
+
+import com.ecommerce.inventory.infrastructure.hotsku.StripedStockCounter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JMH benchmark: one hot SKU decremented by many threads at once (D020).
+ * 
+ * guardedUpdate is the regular path - one auto-committed
+ * UPDATE ... SET quantity = quantity - 1 WHERE quantity >= 1 on in-memory H2
+ * (every thread waits on the same row). singleAtomic is one CAS-looped
+ * AtomicLong (every thread spins on the same cache line). striped is
+ * StripedStockCounter with the given number of cells.
+ * Stock is large enough never to run out during a trial.
+ * 
+ * Runs 8 threads by default; vary with -t to see how each path scales.
+ * 
+ * Run from inventory-service (not part of the unit test run):
+ * <pre>
+ * mvn test-compile
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.ecommerce.inventory.benchmark.HotSkuContentionBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class HotSkuContentionBenchmark {
+
+    private static final long STOCK = Long.MAX_VALUE / 4;
+    private static final String PRODUCT_ID = "hot-sku";
+
+    @Param({"16"})
+    public int stripes;
+
+    private StripedStockCounter striped;
+    private AtomicLong single;
+    private String jdbcUrl;
+    private Connection keepAlive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        striped = new StripedStockCounter(stripes, STOCK);
+        single = new AtomicLong(STOCK);
+
+        jdbcUrl = "jdbc:h2:mem:hotsku_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        keepAlive = DriverManager.getConnection(jdbcUrl, "sa", "");
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE inventory (product_id VARCHAR(64) PRIMARY KEY, quantity BIGINT NOT NULL)");
+            statement.execute("INSERT INTO inventory VALUES ('" + PRODUCT_ID + "', " + STOCK + ")");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+    }
+
+    /**
+     * One connection per benchmark thread, like one pooled connection per consumer.
+     */
+    @State(Scope.Thread)
+    public static class ThreadConnection {
+
+        Connection connection;
+        PreparedStatement decrement;
+
+        @Setup(Level.Trial)
+        public void open(HotSkuContentionBenchmark benchmark) throws SQLException {
+            connection = DriverManager.getConnection(benchmark.jdbcUrl, "sa", "");
+            decrement = connection.prepareStatement(
+                "UPDATE inventory SET quantity = quantity - 1 WHERE product_id = ? AND quantity >= 1");
+            decrement.setString(1, PRODUCT_ID);
+        }
+
+        @TearDown(Level.Trial)
+        public void close() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int guardedUpdate(ThreadConnection thread) throws SQLException {
+        return thread.decrement.executeUpdate();
+    }
+
+    @Benchmark
+    public boolean singleAtomic() {
+        long current = single.get();
+        while (current >= 1) {
+            long witness = single.compareAndExchange(current, current - 1);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean striped() {
+        return striped.tryTake(1);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(HotSkuContentionBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
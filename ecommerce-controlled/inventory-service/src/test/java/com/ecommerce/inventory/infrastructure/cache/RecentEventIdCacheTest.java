@@ -0,0 +1,65 @@
+package com.ecommerce.inventory.infrastructure.cache;
+
+import com.ecommerce.inventory.infrastructure.config.InboxProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentEventIdCacheTest {
+
+    private RecentEventIdCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RecentEventIdCache(new InboxProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void recordsImmediatelyOutsideTransaction() {
+        UUID eventId = UUID.randomUUID();
+
+        cache.recordAfterCommit(List.of(eventId));
+
+        assertTrue(cache.contains(eventId));
+        assertFalse(cache.contains(UUID.randomUUID()));
+    }
+
+    @Test
+    void recordsOnlyAfterCommit() {
+        UUID committed = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.recordAfterCommit(List.of(committed));
+        assertFalse(cache.contains(committed));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(cache.contains(committed));
+    }
+
+    @Test
+    void forgetsRolledBackEvents() {
+        UUID rolledBack = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.recordAfterCommit(List.of(rolledBack));
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(cache.contains(rolledBack));
+    }
+}
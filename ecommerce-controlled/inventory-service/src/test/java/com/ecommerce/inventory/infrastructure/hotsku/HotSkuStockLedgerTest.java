@@ -0,0 +1,115 @@
+package com.ecommerce.inventory.infrastructure.hotsku;
+
+import com.ecommerce.inventory.infrastructure.config.HotSkuProperties;
+import com.ecommerce.inventory.infrastructure.persistence.entity.StockJournalEntity;
+import com.ecommerce.inventory.infrastructure.persistence.repository.StockJournalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotSkuStockLedgerTest {
+
+    private static final String PRODUCT_ID = "6f1a2b3c-0000-4000-8000-00000000000a";
+
+    @Mock
+    private StockJournalRepository journalRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private HotSkuStockLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        HotSkuProperties properties = new HotSkuProperties();
+        properties.setEnabled(true);
+        properties.setProductIds(Set.of(PRODUCT_ID));
+        meterRegistry = new SimpleMeterRegistry();
+        ledger = new HotSkuStockLedger(properties, journalRepository, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadsCommittedQuantityOnceAndJournalsTakes() {
+        when(journalRepository.findCommittedQuantity(PRODUCT_ID)).thenReturn(Optional.of(10L));
+
+        assertTrue(ledger.tryAdjust(PRODUCT_ID, -4));
+        assertFalse(ledger.tryAdjust(PRODUCT_ID, -7));
+
+        assertEquals(6, ledger.quantity(PRODUCT_ID).getAsLong());
+        verify(journalRepository, times(1)).findCommittedQuantity(PRODUCT_ID);
+        ArgumentCaptor<StockJournalEntity> entry = ArgumentCaptor.forClass(StockJournalEntity.class);
+        verify(journalRepository).save(entry.capture());
+        assertEquals(-4, entry.getValue().getQuantityChange());
+        assertEquals(1.0, meterRegistry.get("inventory.hot_sku.rejected").counter().count());
+        assertEquals(6.0, meterRegistry.get("inventory.hot_sku.stock").tag("productId", PRODUCT_ID).gauge().value());
+    }
+
+    @Test
+    void handsTakenUnitsBackOnRollback() {
+        when(journalRepository.findCommittedQuantity(PRODUCT_ID)).thenReturn(Optional.of(5L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertTrue(ledger.tryAdjust(PRODUCT_ID, -5));
+        assertEquals(0, ledger.quantity(PRODUCT_ID).getAsLong());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(5, ledger.quantity(PRODUCT_ID).getAsLong());
+    }
+
+    @Test
+    void makesRestockAvailableOnlyAfterCommit() {
+        when(journalRepository.findCommittedQuantity(PRODUCT_ID)).thenReturn(Optional.of(0L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertTrue(ledger.tryAdjust(PRODUCT_ID, 8));
+        assertFalse(ledger.tryAdjust(PRODUCT_ID, -1));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(8, ledger.quantity(PRODUCT_ID).getAsLong());
+    }
+
+    @Test
+    void evictsCounterOnlyAfterDeleteCommits() {
+        when(journalRepository.findCommittedQuantity(PRODUCT_ID)).thenReturn(Optional.of(3L));
+        assertTrue(ledger.tryAdjust(PRODUCT_ID, -1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        ledger.evict(PRODUCT_ID);
+        assertEquals(2, ledger.quantity(PRODUCT_ID).getAsLong());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertNull(meterRegistry.find("inventory.hot_sku.stock").tag("productId", PRODUCT_ID).gauge());
+        verify(journalRepository, times(1)).findCommittedQuantity(PRODUCT_ID);
+    }
+
+    @Test
+    void refusesUnknownProduct() {
+        when(journalRepository.findCommittedQuantity(PRODUCT_ID)).thenReturn(Optional.empty());
+
+        assertFalse(ledger.tryAdjust(PRODUCT_ID, -1));
+        assertTrue(ledger.quantity(PRODUCT_ID).isEmpty());
+        verify(journalRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.inventory.infrastructure.hotsku;
+
+import com.ecommerce.inventory.infrastructure.config.HotSkuProperties;
+import com.ecommerce.inventory.infrastructure.persistence.entity.StockJournalEntity;
+import com.ecommerce.inventory.infrastructure.persistence.repository.InventoryJpaRepository;
+import com.ecommerce.inventory.infrastructure.persistence.repository.StockJournalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockJournalFlushJobTest {
+
+    @Mock
+    private StockJournalRepository journalRepository;
+
+    @Mock
+    private InventoryJpaRepository inventoryJpaRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StockJournalFlushJob flushJob;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        flushJob = new StockJournalFlushJob(journalRepository, inventoryJpaRepository, new HotSkuProperties(), meterRegistry);
+    }
+
+    @Test
+    void appliesOneDeltaPerProductAndDeletesFlushedEntries() {
+        when(journalRepository.findByOrderByIdAsc(any(Limit.class))).thenReturn(List.of(
+            entry(1L, "hot", -2), entry(2L, "other", 5), entry(3L, "hot", -3), entry(4L, "other", -5)));
+
+        flushJob.flush();
+
+        verify(inventoryJpaRepository).applyDelta(eq("hot"), eq(-5), any(LocalDateTime.class));
+        verify(inventoryJpaRepository, never()).applyDelta(eq("other"), anyInt(), any());
+        verify(journalRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+        assertEquals(4.0, meterRegistry.get("inventory.hot_sku.flushed").counter().count());
+    }
+
+    @Test
+    void doesNothingWithoutPendingEntries() {
+        when(journalRepository.findByOrderByIdAsc(any(Limit.class))).thenReturn(List.of());
+
+        flushJob.flush();
+
+        verify(inventoryJpaRepository, never()).applyDelta(anyString(), anyInt(), any());
+        verify(journalRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    private static StockJournalEntity entry(Long id, String productId, int quantityChange) {
+        return new StockJournalEntity(id, productId, quantityChange, Instant.now());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecommerce.inventory.infrastructure.hotsku;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedStockCounterTest {
+
+    @Test
+    void spreadsInitialStockOverPowerOfTwoStripes() {
+        StripedStockCounter counter = new StripedStockCounter(10, 103);
+
+        assertEquals(16, counter.stripes());
+        assertEquals(103, counter.sum());
+    }
+
+    @Test
+    void takesAcrossStripesAndRefusesMoreThanTotal() {
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        assertTrue(counter.tryTake(7));
+        assertEquals(3, counter.sum());
+
+        assertFalse(counter.tryTake(4));
+        assertEquals(3, counter.sum());
+
+        counter.add(1);
+        assertTrue(counter.tryTake(4));
+        assertEquals(0, counter.sum());
+    }
+
+    @Test
+    void concurrentTakersNeverOversell() throws Exception {
+        assertConcurrentTakesDrainToRemainder(8, 10_000, 3);
+    }
+
+    @Test
+    void concurrentTakesLargerThanACellAreNotRefusedWhileStockSuffices() throws Exception {
+        // 100 over 16 cells is 6 or 7 per cell, so most takes of 7 span cells
+        assertConcurrentTakesDrainToRemainder(16, 100, 7);
+    }
+
+    /**
+     * Every thread takes until its first refusal. A refusal is only allowed once
+     * the total is below the take, so the counter must end at exactly the remainder.
+     */
+    private void assertConcurrentTakesDrainToRemainder(int stripes, long initial, int units) throws Exception {
+        int threads = 8;
+        StripedStockCounter counter = new StripedStockCounter(stripes, initial);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    long taken = 0;
+                    while (counter.tryTake(units)) {
+                        taken += units;
+                    }
+                    return taken;
+                }));
+            }
+            start.countDown();
+
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            assertEquals(initial % units, counter.sum());
+            assertEquals(initial - initial % units, total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.ecommerce.inventory.infrastructure.messaging.consumer;
+
+import com.ecommerce.inventory.application.usecase.DecrementStockUseCase;
+import com.ecommerce.inventory.exception.InsufficientStockException;
+import com.ecommerce.inventory.infrastructure.messaging.event.OrderCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderCreatedBatchConsumer: batch path and per-record fallback.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderCreatedBatchConsumerTest {
+
+    @Mock
+    private DecrementStockUseCase decrementStockUseCase;
+
+    @Mock
+    private StreamBridge streamBridge;
+
+    private OrderCreatedBatchConsumer consumer;
+
+    private final UUID productId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        consumer = new OrderCreatedBatchConsumer(decrementStockUseCase, streamBridge);
+    }
+
+    @Test
+    void shouldApplyWholePollInOneBatch() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        consumer.orderCreatedConsumer().accept(batch(json(first), json(second)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderCreatedEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(decrementStockUseCase).executeBatch(captor.capture());
+        assertEquals(List.of(first, second), captor.getValue().stream().map(OrderCreatedEvent::getEventId).toList());
+        verify(decrementStockUseCase, never()).execute(any());
+    }
+
+    @Test
+    void shouldReplayFailedBatchAndDeadLetterRejectedEvent() {
+        UUID accepted = UUID.randomUUID();
+        UUID rejected = UUID.randomUUID();
+        when(decrementStockUseCase.executeBatch(anyList())).thenThrow(new InsufficientStockException("Insufficient stock"));
+        doAnswer(invocation -> {
+            OrderCreatedEvent event = invocation.getArgument(0);
+            if (rejected.equals(event.getEventId())) {
+                throw new InsufficientStockException("Insufficient stock");
+            }
+            return null;
+        }).when(decrementStockUseCase).execute(any());
+        when(streamBridge.send(eq(OrderCreatedBatchConsumer.DLQ_DESTINATION), any(Message.class))).thenReturn(true);
+
+        consumer.orderCreatedConsumer().accept(batch(json(accepted), json(rejected)));
+
+        verify(decrementStockUseCase, times(2)).execute(any());
+        verify(streamBridge).send(eq(OrderCreatedBatchConsumer.DLQ_DESTINATION), any(Message.class));
+    }
+
+    @Test
+    void shouldDeadLetterUndecodableRecordAndProcessTheRest() {
+        UUID eventId = UUID.randomUUID();
+        when(streamBridge.send(eq(OrderCreatedBatchConsumer.DLQ_DESTINATION), any(Message.class))).thenReturn(true);
+
+        consumer.orderCreatedConsumer().accept(batch("not json".getBytes(StandardCharsets.UTF_8), json(eventId)));
+
+        verify(streamBridge).send(eq(OrderCreatedBatchConsumer.DLQ_DESTINATION), any(Message.class));
+        verify(decrementStockUseCase).executeBatch(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    void shouldPointContainerAtFailingRecordOnTransientError() {
+        when(decrementStockUseCase.executeBatch(anyList())).thenThrow(new IllegalStateException("db down"));
+        doNothing().doThrow(new IllegalStateException("db down")).when(decrementStockUseCase).execute(any());
+
+        Message<List<byte[]>> message = batch(json(UUID.randomUUID()), json(UUID.randomUUID()));
+        BatchListenerFailedException thrown = assertThrows(BatchListenerFailedException.class,
+            () -> consumer.orderCreatedConsumer().accept(message));
+
+        assertEquals(1, thrown.getIndex());
+        verifyNoInteractions(streamBridge);
+    }
+
+    private Message<List<byte[]>> batch(byte[]... payloads) {
+        List<Map<String, Object>> headers = new ArrayList<>();
+        for (int i = 0; i < payloads.length; i++) {
+            headers.add(Map.of(MessageHeaders.CONTENT_TYPE, "application/json"));
+        }
+        return MessageBuilder.withPayload(List.of(payloads))
+            .setHeader(KafkaHeaders.BATCH_CONVERTED_HEADERS, headers)
+            .build();
+    }
+
+    private byte[] json(UUID eventId) {
+        return """
+            {"eventId":"%s","eventType":"OrderCreated","version":"1","orderId":"%s",
+             "lineItems":[{"productId":"%s","quantity":1}]}
+            """.formatted(eventId, UUID.randomUUID(), productId).getBytes(StandardCharsets.UTF_8);
+    }
+}
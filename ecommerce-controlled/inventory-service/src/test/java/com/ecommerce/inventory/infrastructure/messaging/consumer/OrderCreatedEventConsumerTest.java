@@ -0,0 +1,135 @@
+package com.ecommerce.inventory.infrastructure.messaging.consumer;
+
+import com.ecommerce.inventory.application.usecase.DecrementStockUseCase;
+import com.ecommerce.inventory.infrastructure.messaging.codec.OrderCreatedEventBinaryFormat;
+import com.ecommerce.inventory.infrastructure.messaging.event.OrderCreatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OrderCreatedEventConsumer content-type negotiation.
+ */
+@ExtendWith(MockitoExtension.class)
+class OrderCreatedEventConsumerTest {
+
+    @Mock
+    private DecrementStockUseCase decrementStockUseCase;
+
+    private OrderCreatedEventConsumer consumer;
+
+    private final UUID eventId = UUID.randomUUID();
+    private final UUID orderId = UUID.randomUUID();
+    private final UUID productId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        consumer = new OrderCreatedEventConsumer(decrementStockUseCase);
+    }
+
+    @Test
+    void shouldDecodeJsonPayload() {
+        String json = """
+            {"eventId":"%s","eventType":"OrderCreated","version":"1","orderId":"%s",
+             "lineItems":[{"productId":"%s","quantity":3}]}
+            """.formatted(eventId, orderId, productId);
+
+        consumer.orderCreatedConsumer().accept(message(json.getBytes(StandardCharsets.UTF_8), "application/json"));
+
+        assertDecoded(captureEvent());
+    }
+
+    @Test
+    void shouldDecodeBinaryPayload() {
+        consumer.orderCreatedConsumer().accept(message(binaryPayload(), OrderCreatedEventBinaryFormat.CONTENT_TYPE));
+
+        assertDecoded(captureEvent());
+    }
+
+    @Test
+    void shouldTreatMissingContentTypeAsJson() {
+        String json = """
+            {"eventId":"%s","eventType":"OrderCreated","version":"1","orderId":"%s",
+             "lineItems":[{"productId":"%s","quantity":3}]}
+            """.formatted(eventId, orderId, productId);
+
+        consumer.orderCreatedConsumer().accept(MessageBuilder.withPayload(json.getBytes(StandardCharsets.UTF_8)).build());
+
+        assertDecoded(captureEvent());
+    }
+
+    @Test
+    void shouldRejectUnknownContentType() {
+        Message<byte[]> message = message(new byte[] {1, 2, 3}, "text/plain");
+
+        assertThrows(RuntimeException.class, () -> consumer.orderCreatedConsumer().accept(message));
+        verifyNoInteractions(decrementStockUseCase);
+    }
+
+    private OrderCreatedEvent captureEvent() {
+        ArgumentCaptor<OrderCreatedEvent> captor = ArgumentCaptor.forClass(OrderCreatedEvent.class);
+        verify(decrementStockUseCase).execute(captor.capture());
+        return captor.getValue();
+    }
+
+    private void assertDecoded(OrderCreatedEvent event) {
+        assertEquals(eventId, event.getEventId());
+        assertEquals(orderId, event.getOrderId());
+        assertEquals("OrderCreated", event.getEventType());
+        assertEquals(1, event.getLineItems().size());
+        assertEquals(productId, event.getLineItems().get(0).getProductId());
+        assertEquals(3, event.getLineItems().get(0).getQuantity());
+    }
+
+    private Message<byte[]> message(byte[] payload, String contentType) {
+        return MessageBuilder.withPayload(payload)
+            .setHeader(MessageHeaders.CONTENT_TYPE, contentType)
+            .build();
+    }
+
+    /**
+     * Format version 1 as written by order-service: eventId, orderId and one line item.
+     */
+    private byte[] binaryPayload() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xEC);                 // magic
+        out.write(1);                    // format version
+        out.write(1 | 4 | 16);           // eventId, orderId, lineItems present
+        writeString(out, "OrderCreated");
+        writeString(out, "1");
+        out.writeBytes(uuid(eventId));
+        out.writeBytes(uuid(orderId));
+        out.write(1);                    // one line item
+        out.write(1 | 2);                // productId, quantity present
+        out.writeBytes(uuid(productId));
+        out.write(6);                    // zigzag(3)
+        return out.toByteArray();
+    }
+
+    private void writeString(ByteArrayOutputStream out, String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.write(utf8.length + 1);
+        out.writeBytes(utf8);
+    }
+
+    private byte[] uuid(UUID value) {
+        return ByteBuffer.allocate(16)
+            .putLong(value.getMostSignificantBits())
+            .putLong(value.getLeastSignificantBits())
+            .array();
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.inventory.infrastructure.persistence;
+
+import com.ecommerce.inventory.infrastructure.config.InboxProperties;
+import com.ecommerce.inventory.infrastructure.persistence.repository.InboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InboxRetentionJobTest {
+
+    @Mock
+    private InboxRepository inboxRepository;
+
+    private InboxProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private InboxRetentionJob retentionJob;
+
+    @BeforeEach
+    void setUp() {
+        properties = new InboxProperties();
+        properties.getRetention().setChunkSize(2);
+        meterRegistry = new SimpleMeterRegistry();
+        retentionJob = new InboxRetentionJob(inboxRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void testPrunesOldRowsInChunks() {
+        when(inboxRepository.deleteProcessedBefore(any(Instant.class), eq(2))).thenReturn(2, 2, 1);
+        when(inboxRepository.count()).thenReturn(40L);
+
+        Instant before = Instant.now();
+        retentionJob.pruneProcessedEvents();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(inboxRepository, times(3)).deleteProcessedBefore(cutoff.capture(), eq(2));
+        assertFalse(cutoff.getValue().isAfter(before.minus(Duration.ofDays(8)).plusSeconds(5)));
+        assertEquals(5.0, meterRegistry.get("inventory.inbox.pruned").counter().count());
+        assertEquals(40.0, meterRegistry.get("inventory.inbox.rows").gauge().value());
+    }
+
+    @Test
+    void testStopsAfterMaxChunksPerRun() {
+        properties.getRetention().setMaxChunksPerRun(3);
+        when(inboxRepository.deleteProcessedBefore(any(Instant.class), eq(2))).thenReturn(2);
+
+        retentionJob.pruneProcessedEvents();
+
+        verify(inboxRepository, times(3)).deleteProcessedBefore(any(Instant.class), eq(2));
+        assertEquals(6.0, meterRegistry.get("inventory.inbox.pruned").counter().count());
+    }
+
+    @Test
+    void testDoesNothingWhenDisabled() {
+        properties.getRetention().setEnabled(false);
+
+        retentionJob.pruneProcessedEvents();
+
+        verifyNoInteractions(inboxRepository);
+    }
+}
@@ -0,0 +1,79 @@
+// k6 load test for the virtual-thread comparison (D015, docs/architecture/virtual-threads.md).
+// Run once with SPRING_THREADS_VIRTUAL_ENABLED=false and once with true, same pod resources.
+//
+//   TARGET=order|inventory|identity  service under test (default: order)
+//   BASE_URL                         overrides the in-cluster service URL
+//   PRODUCT_ID                       existing inventory productId (order / inventory targets)
+//   ACCESS_TOKEN                     bearer token for identity GET /me
+//   VUS, DURATION                    concurrency and length of the constant-load phase
+import http from 'k6/http';
+import { check } from 'k6';
+
+const TARGET = __ENV.TARGET || 'order';
+const DEFAULT_URLS = {
+  order: 'http://order-service:8082',
+  inventory: 'http://inventory-service:8081',
+  identity: 'http://identity-service:8083',
+};
+const BASE_URL = __ENV.BASE_URL || DEFAULT_URLS[TARGET];
+const PRODUCT_ID = __ENV.PRODUCT_ID || 'PROD-001';
+
+export const options = {
+  scenarios: {
+    constant: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 200),
+      duration: __ENV.DURATION || '3m',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+function createOrder() {
+  // Blocking path: Feign stock check against inventory-service, then JPA insert
+  const body = JSON.stringify({
+    customerId: '11111111-1111-1111-1111-111111111111',
+    shippingAddress: { street: 'Load St 1', city: 'Istanbul', postalCode: '34000', country: 'TR' },
+    items: [{ productId: PRODUCT_ID, productName: 'Load test', quantity: 1, unitPrice: 1.0 }],
+  });
+  const res = http.post(`${BASE_URL}/api/v1/orders`, body, JSON_HEADERS);
+  check(res, { 'order created or rejected by stock': (r) => r.status === 201 || r.status === 400 });
+}
+
+function listOrders() {
+  const res = http.get(`${BASE_URL}/api/v1/orders?page=0&size=20`);
+  check(res, { 'orders listed': (r) => r.status === 200 });
+}
+
+function getInventory() {
+  const res = http.get(`${BASE_URL}/api/v1/inventory/product/${PRODUCT_ID}`);
+  check(res, { 'inventory found': (r) => r.status === 200 });
+}
+
+function getProfile() {
+  // Blocking path: JWT validation + Keycloak admin lookup
+  const res = http.get(`${BASE_URL}/api/v1/identity/me`, {
+    headers: { Authorization: `Bearer ${__ENV.ACCESS_TOKEN}` },
+  });
+  check(res, { 'profile returned': (r) => r.status === 200 });
+}
+
+export default function () {
+  switch (TARGET) {
+    case 'inventory':
+      getInventory();
+      break;
+    case 'identity':
+      getProfile();
+      break;
+    default:
+      // Mostly reads, with enough writes to keep the inventory call on the hot path
+      if (Math.random() < 0.3) {
+        createOrder();
+      } else {
+        listOrders();
+      }
+  }
+}
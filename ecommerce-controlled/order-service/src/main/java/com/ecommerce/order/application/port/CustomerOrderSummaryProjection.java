@@ -0,0 +1,70 @@
+package com.ecommerce.order.application.port;
+
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port interface for the per-customer order summary read model.
+ * Application layer defines the contract, infrastructure layer provides the implementation.
+ *
+ * Updated incrementally by the order use cases inside their own transaction, so
+ * the summary commits or rolls back together with the order change. Reads are a
+ * single row lookup by customerId.
+ */
+public interface CustomerOrderSummaryProjection {
+
+    /**
+     * Counts newly created (PENDING) orders; several orders of the same customer are applied as one update.
+     */
+    void recordCreated(Collection<Order> orders);
+
+    /**
+     * Moves the order from previousStatus to its current status.
+     */
+    void recordStatusChanged(Order order, OrderStatus previousStatus);
+
+    /**
+     * Removes a deleted order from its customer's summary.
+     */
+    void recordDeleted(Order order);
+
+    Optional<CustomerOrderSummary> find(UUID customerId);
+
+    /**
+     * Order history header for one customer.
+     *
+     * totalAmount covers all orders except cancelled ones; last* describe the most
+     * recently created order (null when the customer has none).
+     */
+    record CustomerOrderSummary(
+        UUID customerId,
+        long orderCount,
+        Map<OrderStatus, Long> countsByStatus,
+        BigDecimal totalAmount,
+        UUID lastOrderId,
+        String lastOrderNumber,
+        OrderStatus lastOrderStatus,
+        Instant lastOrderAt,
+        Instant updatedAt
+    ) {
+
+        /**
+         * Summary of a customer without orders.
+         */
+        public static CustomerOrderSummary empty(UUID customerId) {
+            Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+            for (OrderStatus status : OrderStatus.values()) {
+                counts.put(status, 0L);
+            }
+            return new CustomerOrderSummary(customerId, 0, counts, BigDecimal.ZERO, null, null, null, null, null);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecommerce.order.application.port;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port interface for remembered Idempotency-Key results of POST /api/v1/orders.
+ * Application layer defines the contract, infrastructure layer provides the implementation.
+ * 
+ * Entries expire after a configured TTL; expired entries are never returned.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @return the unexpired entry for this key, or empty
+     */
+    Optional<Entry> find(String key);
+
+    /**
+     * Remembers that the request with this key and fingerprint created the given order.
+     * Replaces an expired entry with the same key.
+     */
+    void save(String key, String requestFingerprint, UUID orderId);
+
+    /**
+     * @param requestFingerprint hash of the original request body; a different body
+     *                           under the same key is rejected
+     */
+    record Entry(String key, String requestFingerprint, UUID orderId, Instant expiresAt) {
+    }
+}
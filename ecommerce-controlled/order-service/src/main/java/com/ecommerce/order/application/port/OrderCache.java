@@ -0,0 +1,33 @@
+package com.ecommerce.order.application.port;
+
+import com.ecommerce.order.domain.model.Order;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Port interface for the order read cache (cache-aside in front of OrderRepository).
+ * Application layer defines the contract, infrastructure layer provides the implementation.
+ * 
+ * Only the read path (GetOrderByIdUseCase) consults the cache; use cases that
+ * modify an order always load it from the repository and invalidate the entry.
+ */
+public interface OrderCache {
+
+    /**
+     * @return cached order, or empty on miss (always empty when disabled)
+     */
+    Optional<Order> get(UUID orderId);
+
+    /**
+     * @param orderId id the order was looked up by
+     */
+    void put(UUID orderId, Order order);
+
+    /**
+     * Drops the cached order now and again once the surrounding transaction
+     * commits, so a concurrent read cannot re-populate it with pre-commit state.
+     * Outside a transaction the entry is dropped immediately only.
+     */
+    void invalidate(UUID orderId);
+}
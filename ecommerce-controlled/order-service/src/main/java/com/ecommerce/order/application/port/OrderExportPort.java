@@ -0,0 +1,47 @@
+package com.ecommerce.order.application.port;
+
+import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Port interface for bulk order export (finance reconciliation).
+ * Application layer defines the contract, infrastructure layer provides the implementation.
+ * 
+ * Rows are pushed to the consumer one at a time while the underlying cursor is
+ * open, so memory stays constant regardless of the number of matching orders.
+ * A consumer that blocks (slow client) simply stalls the read.
+ */
+public interface OrderExportPort {
+
+    /**
+     * Streams every order matching the criteria, oldest first (createdAt ASC, id ASC).
+     * Must run inside a transaction; exceptions thrown by the consumer abort the read.
+     * 
+     * @return number of rows handed to the consumer
+     */
+    long forEach(OrderSearchCriteria criteria, Consumer<OrderExportRow> consumer);
+
+    /**
+     * Flat order header row; line items are not part of the export.
+     */
+    record OrderExportRow(
+        UUID id,
+        String orderNumber,
+        UUID customerId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant confirmedAt,
+        Instant shippedAt,
+        Instant deliveredAt,
+        Instant cancelledAt,
+        String cancellationReason
+    ) {
+    }
+}
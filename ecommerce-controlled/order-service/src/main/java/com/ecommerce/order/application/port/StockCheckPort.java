@@ -1,5 +1,11 @@
 package com.ecommerce.order.application.port;
 
+import com.ecommerce.order.domain.model.LineItem;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Port interface for checking stock availability.
  * Implements dependency inversion principle - application layer defines contract,
@@ -19,4 +25,27 @@ public interface StockCheckPort {
      * @throws com.ecommerce.order.exception.InventoryServiceUnavailableException if service unavailable after retries
      */
     void validateStockAvailability(String productId, int requestedQuantity);
+
+    /**
+     * Validates stock for all line items of an order in a single round trip.
+     * Every shortfall is collected before failing, so the caller sees all problems at once.
+     * 
+     * @param lineItems order line items (productIds are unique per order)
+     * @throws com.ecommerce.order.exception.InsufficientStockException if exactly one item has insufficient stock
+     * @throws com.ecommerce.order.exception.ProductNotFoundException if exactly one product is unknown
+     * @throws com.ecommerce.order.exception.StockValidationException if more than one item fails validation
+     * @throws com.ecommerce.order.exception.InventoryServiceUnavailableException if service unavailable after retries
+     */
+    void validateStockAvailability(List<LineItem> lineItems);
+
+    /**
+     * Looks up the available quantity of many products at once, e.g. for a batch of orders.
+     * Each productId is fetched at most once; validation against requested quantities is
+     * left to the caller.
+     * 
+     * @param productIds product identifiers (duplicates are ignored)
+     * @return available quantity per productId; unknown products are absent
+     * @throws com.ecommerce.order.exception.InventoryServiceUnavailableException if service unavailable after retries
+     */
+    Map<String, Integer> getAvailableQuantities(Collection<String> productIds);
 }
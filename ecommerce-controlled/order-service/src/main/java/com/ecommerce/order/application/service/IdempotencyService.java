@@ -0,0 +1,134 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.port.IdempotencyStore;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.exception.IdempotencyKeyConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs order creation at most once per Idempotency-Key.
+ * Business Rules: docs/rules/order-service-rules.md#3.1
+ * 
+ * - Key already stored: the original order id is returned, nothing is executed
+ * - Same key in flight on this instance: the caller waits for that execution
+ *   and gets its result (or its exception) instead of creating a second order
+ * - Failed executions are not remembered, so the client may retry with the same key
+ * - Same key with a different request body: IdempotencyKeyConflictException
+ * 
+ * The key is stored after the order has committed; a crash in between loses
+ * the key (not the order), so a retry after that creates a second order.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ConcurrentMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyStore idempotencyStore) {
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    /**
+     * @param key Idempotency-Key header value
+     * @param requestFingerprint hash of the request body
+     * @param createOrder the actual creation, run only if this key has no result yet
+     * @return the order created for this key; order is null when replayed from the store
+     * @throws IllegalArgumentException if the key is blank or longer than MAX_KEY_LENGTH
+     * @throws IdempotencyKeyConflictException if the key was used with a different body
+     */
+    public Outcome execute(String key, String requestFingerprint, Supplier<Order> createOrder) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        Optional<Outcome> stored = replayStored(key, requestFingerprint);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        InFlight mine = new InFlight(requestFingerprint, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            requireSameRequest(key, requestFingerprint, running.requestFingerprint());
+            Outcome first = await(running.result());
+            return new Outcome(first.orderId(), first.order(), true);
+        }
+
+        try {
+            // The previous holder of the key may have finished between the lookup and putIfAbsent
+            Optional<Outcome> raced = replayStored(key, requestFingerprint);
+            if (raced.isPresent()) {
+                mine.result().complete(raced.get());
+                return raced.get();
+            }
+
+            Order order = createOrder.get();
+            remember(key, requestFingerprint, order);
+            Outcome created = new Outcome(order.getId(), order, false);
+            mine.result().complete(created);
+            return created;
+
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Optional<Outcome> replayStored(String key, String requestFingerprint) {
+        return idempotencyStore.find(key).map(entry -> {
+            requireSameRequest(key, requestFingerprint, entry.requestFingerprint());
+            return new Outcome(entry.orderId(), null, true);
+        });
+    }
+
+    private void remember(String key, String requestFingerprint, Order order) {
+        try {
+            idempotencyStore.save(key, requestFingerprint, order.getId());
+        } catch (RuntimeException e) {
+            // The order exists; failing the request now would only provoke another retry
+            log.warn("Could not store Idempotency-Key {} for order {}: {}", key, order.getId(), e.getMessage());
+        }
+    }
+
+    private static void requireSameRequest(String key, String requestFingerprint, String storedFingerprint) {
+        if (!storedFingerprint.equals(requestFingerprint)) {
+            throw new IdempotencyKeyConflictException(key);
+        }
+    }
+
+    private static Outcome await(CompletableFuture<Outcome> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param order the created order; null when replayed from the store (load it by orderId)
+     * @param replayed true if no order was created by this call
+     */
+    public record Outcome(UUID orderId, Order order, boolean replayed) {
+    }
+
+    private record InFlight(String requestFingerprint, CompletableFuture<Outcome> result) {
+    }
+}
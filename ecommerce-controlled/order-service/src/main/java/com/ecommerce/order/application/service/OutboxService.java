@@ -1,35 +1,46 @@
 package com.ecommerce.order.application.service;
 
 import com.ecommerce.order.domain.event.OrderCreatedEvent;
+import com.ecommerce.order.infrastructure.config.EventEncodingProperties;
+import com.ecommerce.order.infrastructure.messaging.OutboxDispatcher;
+import com.ecommerce.order.infrastructure.messaging.OutboxPublisher;
+import com.ecommerce.order.infrastructure.messaging.codec.EventEncoding;
+import com.ecommerce.order.infrastructure.messaging.codec.OrderCreatedEventCodec;
 import com.ecommerce.order.infrastructure.persistence.OutboxEntity;
 import com.ecommerce.order.infrastructure.persistence.OutboxRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
-import java.util.UUID;
+import java.util.List;
 
 /**
  * Service for writing events to outbox table.
  * Per docs/events/outbox-pattern.md
  * 
  * MUST be called within the same transaction as business logic.
+ * The payload is stored already encoded for its binding (JSON or binary,
+ * see EventEncodingProperties) together with its content type.
  */
 @Service
 @Slf4j
 public class OutboxService {
 
     private final OutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final OutboxDispatcher outboxDispatcher;
+    private final OrderCreatedEventCodec eventCodec;
+    private final EventEncodingProperties encodingProperties;
 
-    public OutboxService(OutboxRepository outboxRepository) {
+    public OutboxService(
+            OutboxRepository outboxRepository,
+            OutboxDispatcher outboxDispatcher,
+            OrderCreatedEventCodec eventCodec,
+            EventEncodingProperties encodingProperties) {
         this.outboxRepository = outboxRepository;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.outboxDispatcher = outboxDispatcher;
+        this.eventCodec = eventCodec;
+        this.encodingProperties = encodingProperties;
     }
 
     /**
@@ -40,26 +51,53 @@ public class OutboxService {
      */
     @Transactional
     public void writeOrderCreatedEvent(OrderCreatedEvent event) {
+        OutboxEntity outboxEntry = toOutboxEntry(event);
+        outboxRepository.save(outboxEntry);
+        
+        // Publish right after commit instead of waiting for the next poll (if enabled)
+        outboxDispatcher.dispatchAfterCommit(outboxEntry.getId());
+        
+        log.info("OrderCreated event written to outbox: eventId={}, orderId={}, contentType={}", 
+            event.getEventId(), event.getOrderId(), outboxEntry.getContentType());
+    }
+
+    /**
+     * Write OrderCreated events for a batch of orders to outbox with one saveAll;
+     * the INSERTs are flushed as JDBC batches with the orders at commit.
+     * MUST be called within same transaction as the orders' creation.
+     * 
+     * @param events OrderCreated domain events, one per order
+     */
+    @Transactional
+    public void writeOrderCreatedEvents(List<OrderCreatedEvent> events) {
+        List<OutboxEntity> outboxEntries = events.stream()
+            .map(this::toOutboxEntry)
+            .toList();
+        outboxRepository.saveAll(outboxEntries);
+        
+        outboxEntries.forEach(entry -> outboxDispatcher.dispatchAfterCommit(entry.getId()));
+        
+        log.info("{} OrderCreated events written to outbox", outboxEntries.size());
+    }
+
+    private OutboxEntity toOutboxEntry(OrderCreatedEvent event) {
         try {
-            String payload = objectMapper.writeValueAsString(event);
+            EventEncoding encoding = encodingProperties.forBinding(OutboxPublisher.BINDING);
+            byte[] payload = eventCodec.encode(event, encoding);
             
-            OutboxEntity outboxEntry = OutboxEntity.builder()
+            return OutboxEntity.builder()
                 .id(event.getEventId())
                 .aggregateType("Order")
                 .aggregateId(event.getOrderId())
                 .eventType(event.getEventType())
                 .payload(payload)
+                .contentType(encoding.contentType())
                 .status(OutboxEntity.OutboxStatus.NEW)
                 .createdAt(Instant.now())
                 .build();
-            
-            outboxRepository.save(outboxEntry);
-            
-            log.info("OrderCreated event written to outbox: eventId={}, orderId={}", 
-                event.getEventId(), event.getOrderId());
                 
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize event to JSON", e);
+        } catch (IllegalStateException e) {
+            log.error("Failed to serialize event", e);
             throw new RuntimeException("Failed to write event to outbox", e);
         }
     }
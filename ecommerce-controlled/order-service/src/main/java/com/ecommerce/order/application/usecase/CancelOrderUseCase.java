@@ -1,6 +1,9 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection;
+import com.ecommerce.order.application.port.OrderCache;
 import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderStatus;
 import com.ecommerce.order.domain.repository.OrderRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,15 +19,24 @@ import java.util.UUID;
  * - Validate cancellation eligibility (PENDING or CONFIRMED status)
  * - Cancel order with optional reason
  * - Persist changes
+ * - Move the order between status counts in the customer's order summary
+ * - Invalidate cached order (after commit)
  * - Return updated order
  */
 @Service
 public class CancelOrderUseCase {
 
     private final OrderRepository orderRepository;
+    private final OrderCache orderCache;
+    private final CustomerOrderSummaryProjection customerOrderSummaryProjection;
 
-    public CancelOrderUseCase(OrderRepository orderRepository) {
+    public CancelOrderUseCase(
+            OrderRepository orderRepository,
+            OrderCache orderCache,
+            CustomerOrderSummaryProjection customerOrderSummaryProjection) {
         this.orderRepository = orderRepository;
+        this.orderCache = orderCache;
+        this.customerOrderSummaryProjection = customerOrderSummaryProjection;
     }
 
     /**
@@ -48,9 +60,13 @@ public class CancelOrderUseCase {
                 "Order not found with id: " + id
             ));
         
+        OrderStatus previousStatus = order.getStatus();
         // Domain model enforces cancellation rules
         order.cancel(reason);
         
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+        customerOrderSummaryProjection.recordStatusChanged(saved, previousStatus);
+        orderCache.invalidate(id);
+        return saved;
     }
 }
@@ -1,17 +1,26 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection;
 import com.ecommerce.order.application.service.OutboxService;
 import com.ecommerce.order.domain.event.OrderCreatedEvent;
 import com.ecommerce.order.domain.model.Address;
 import com.ecommerce.order.domain.model.LineItem;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.repository.OrderRepository;
+import com.ecommerce.order.domain.service.IdGenerator;
+import com.ecommerce.order.domain.service.OrderNumberGenerator;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,28 +29,59 @@ import java.util.stream.Collectors;
  * Business Rules: docs/rules/order-service-rules.md#3.1
  * 
  * Responsibilities:
- * - Validate stock availability (SYNC call to inventory-service)
  * - Validate request data (delegated to domain model)
+ * - Validate stock availability (SYNC call to inventory-service)
  * - Create order with PENDING status
  * - Persist order
  * - Write OrderCreated event to outbox (same transaction)
+ * - Count the order in the customer's order summary (same transaction)
  * - Return created order
+ * 
+ * Transaction boundary: only persistence + outbox write run inside the
+ * transaction; remote stock checks happen before it is opened, so no DB
+ * connection is held while waiting on inventory-service.
+ * 
+ * Batch path (executeBatch): one availability lookup per distinct productId
+ * for the whole batch, then chunks of BATCH_CHUNK_SIZE orders per transaction
+ * with a single bulk outbox write each. Every order gets its own result.
  */
 @Service
 public class CreateOrderUseCase {
 
+    /**
+     * Max orders per executeBatch call.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Orders persisted per transaction in executeBatch.
+     */
+    static final int BATCH_CHUNK_SIZE = 100;
+
     private final OrderRepository orderRepository;
     private final com.ecommerce.order.application.port.StockCheckPort stockCheckPort;
     private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final IdGenerator idGenerator;
+    private final CustomerOrderSummaryProjection customerOrderSummaryProjection;
 
     public CreateOrderUseCase(
             OrderRepository orderRepository,
             com.ecommerce.order.application.port.StockCheckPort stockCheckPort,
-            OutboxService outboxService
+            OutboxService outboxService,
+            TransactionTemplate transactionTemplate,
+            OrderNumberGenerator orderNumberGenerator,
+            IdGenerator idGenerator,
+            CustomerOrderSummaryProjection customerOrderSummaryProjection
     ) {
         this.orderRepository = orderRepository;
         this.stockCheckPort = stockCheckPort;
         this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.orderNumberGenerator = orderNumberGenerator;
+        this.idGenerator = idGenerator;
+        this.customerOrderSummaryProjection = customerOrderSummaryProjection;
     }
 
     /**
@@ -54,37 +94,176 @@ public class CreateOrderUseCase {
      * @return created order with PENDING status
      * @throws IllegalArgumentException if validation fails
      */
-    @Transactional
     public Order execute(
         UUID customerId,
         Address shippingAddress,
         List<LineItem> lineItems,
         BigDecimal totalAmount
     ) {
-        // SYNC stock validation (blocking call to inventory-service)
-        // Per AGENTS.md §7.1: Blocking calls MUST be SYNC (Feign)
-        for (LineItem lineItem : lineItems) {
-            stockCheckPort.validateStockAvailability(
-                lineItem.productId(),
-                lineItem.quantity()
-            );
-        }
-        
-        // Domain model enforces all business rules
+        // Domain model enforces all business rules (cheap, no I/O)
         Order order = Order.create(
             customerId,
             shippingAddress,
             lineItems,
-            totalAmount
+            totalAmount,
+            orderNumberGenerator,
+            idGenerator
         );
         
+        // SYNC stock validation (blocking call to inventory-service)
+        // Per AGENTS.md §7.1: Blocking calls MUST be SYNC (Feign)
+        // Runs outside the transaction: bulk call or concurrent fan-out (per-order deadline)
+        stockCheckPort.validateStockAvailability(lineItems);
+        
+        return transactionTemplate.execute(status -> persist(order));
+    }
+
+    /**
+     * Creates many orders at once; failures are reported per order, not thrown.
+     * 
+     * Stock is checked against one availability snapshot for the whole batch and
+     * consumed in input order, so two orders in the same batch cannot both be
+     * accepted for the last units of a product. Like the single-order check this
+     * is not a reservation (inventory-service reserves on OrderCreated).
+     * 
+     * @param commands orders to create (1..MAX_BATCH_SIZE)
+     * @return one result per command, in input order
+     * @throws IllegalArgumentException if the batch is empty or too large
+     * @throws com.ecommerce.order.exception.InventoryServiceUnavailableException if stock cannot be checked (nothing persisted)
+     */
+    public List<BatchResult> executeBatch(List<CreateOrderCommand> commands) {
+        if (commands == null || commands.isEmpty() || commands.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch must contain between 1 and " + MAX_BATCH_SIZE + " orders");
+        }
+        
+        BatchResult[] results = new BatchResult[commands.size()];
+        Map<Integer, Order> candidates = new LinkedHashMap<>();
+        
+        // Domain validation first, so invalid orders never reach inventory-service
+        for (int i = 0; i < commands.size(); i++) {
+            CreateOrderCommand command = commands.get(i);
+            try {
+                candidates.put(i, Order.create(
+                    command.customerId(),
+                    command.shippingAddress(),
+                    command.lineItems(),
+                    command.totalAmount(),
+                    orderNumberGenerator,
+                    idGenerator
+                ));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                results[i] = BatchResult.failed(BatchResult.VALIDATION_ERROR, e.getMessage());
+            }
+        }
+        
+        // One lookup per distinct productId across the batch (outside any transaction)
+        Set<String> productIds = candidates.values().stream()
+            .flatMap(order -> order.getLineItems().stream())
+            .map(LineItem::productId)
+            .collect(Collectors.toSet());
+        Map<String, Integer> remaining = productIds.isEmpty()
+            ? new HashMap<>()
+            : new HashMap<>(stockCheckPort.getAvailableQuantities(productIds));
+        
+        List<Integer> accepted = new ArrayList<>();
+        candidates.forEach((index, order) -> {
+            BatchResult rejection = allocateStock(order, remaining);
+            if (rejection != null) {
+                results[index] = rejection;
+            } else {
+                accepted.add(index);
+            }
+        });
+        
+        for (int from = 0; from < accepted.size(); from += BATCH_CHUNK_SIZE) {
+            List<Integer> chunk = accepted.subList(from, Math.min(from + BATCH_CHUNK_SIZE, accepted.size()));
+            List<Order> orders = chunk.stream().map(candidates::get).toList();
+            List<BatchResult> persisted = persistChunk(orders);
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = persisted.get(i);
+            }
+        }
+        
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Checks every line item against the remaining batch availability and
+     * consumes it only if the whole order fits.
+     * 
+     * @return failed result, or null if the order was accepted
+     */
+    private static BatchResult allocateStock(Order order, Map<String, Integer> remaining) {
+        List<String> missing = new ArrayList<>();
+        List<String> insufficient = new ArrayList<>();
+        for (LineItem item : order.getLineItems()) {
+            Integer available = remaining.get(item.productId());
+            if (available == null) {
+                missing.add(item.productId());
+            } else if (available < item.quantity()) {
+                insufficient.add(item.productId() + " (requested " + item.quantity() + ", available " + available + ")");
+            }
+        }
+        if (!missing.isEmpty()) {
+            return BatchResult.failed(BatchResult.PRODUCT_NOT_FOUND, "Products not found: " + missing);
+        }
+        if (!insufficient.isEmpty()) {
+            return BatchResult.failed(BatchResult.INSUFFICIENT_STOCK, "Insufficient stock: " + insufficient);
+        }
+        order.getLineItems().forEach(item -> remaining.merge(item.productId(), -item.quantity(), Integer::sum));
+        return null;
+    }
+
+    /**
+     * Persists a chunk in one transaction (JDBC-batched inserts, one bulk outbox write).
+     * If the chunk fails, its orders are retried one per transaction so a single bad
+     * order does not fail its neighbours.
+     */
+    private List<BatchResult> persistChunk(List<Order> orders) {
+        try {
+            List<Order> saved = transactionTemplate.execute(status -> persistAll(orders));
+            return saved.stream().map(BatchResult::created).toList();
+        } catch (RuntimeException chunkFailure) {
+            if (orders.size() == 1) {
+                return List.of(BatchResult.failed(BatchResult.PERSISTENCE_ERROR, chunkFailure.getMessage()));
+            }
+            return orders.stream().map(this::persistOne).toList();
+        }
+    }
+
+    private BatchResult persistOne(Order order) {
+        try {
+            return BatchResult.created(transactionTemplate.execute(status -> persist(order)));
+        } catch (RuntimeException e) {
+            return BatchResult.failed(BatchResult.PERSISTENCE_ERROR, e.getMessage());
+        }
+    }
+
+    private List<Order> persistAll(List<Order> orders) {
+        List<Order> saved = orders.stream().map(orderRepository::save).toList();
+        outboxService.writeOrderCreatedEvents(saved.stream().map(this::toCreatedEvent).toList());
+        customerOrderSummaryProjection.recordCreated(saved);
+        return saved;
+    }
+
+    /**
+     * Persists the order, its OrderCreated outbox entry and the summary update atomically.
+     */
+    private Order persist(Order order) {
         // Persist order
         Order savedOrder = orderRepository.save(order);
         
         // Write OrderCreated event to outbox (same transaction)
         // Per docs/events/outbox-pattern.md and AGENTS.md §7.8
-        OrderCreatedEvent event = OrderCreatedEvent.builder()
-            .eventId(UUID.randomUUID())
+        outboxService.writeOrderCreatedEvent(toCreatedEvent(savedOrder));
+        customerOrderSummaryProjection.recordCreated(List.of(savedOrder));
+        
+        return savedOrder;
+    }
+
+    private OrderCreatedEvent toCreatedEvent(Order savedOrder) {
+        return OrderCreatedEvent.builder()
+            .eventId(idGenerator.next())
             .eventType("OrderCreated")
             .version("1")
             .timestamp(OffsetDateTime.now())
@@ -97,9 +276,39 @@ public class CreateOrderUseCase {
                     .build())
                 .collect(Collectors.toList()))
             .build();
-        
-        outboxService.writeOrderCreatedEvent(event);
-        
-        return savedOrder;
+    }
+
+    /**
+     * Input of executeBatch: same arguments as execute.
+     */
+    public record CreateOrderCommand(
+        UUID customerId,
+        Address shippingAddress,
+        List<LineItem> lineItems,
+        BigDecimal totalAmount
+    ) {
+    }
+
+    /**
+     * Outcome of one order in executeBatch: either the created order or an error code and message.
+     */
+    public record BatchResult(Order order, String errorCode, String message) {
+
+        public static final String VALIDATION_ERROR = "VALIDATION_ERROR";
+        public static final String PRODUCT_NOT_FOUND = "PRODUCT_NOT_FOUND";
+        public static final String INSUFFICIENT_STOCK = "INSUFFICIENT_STOCK";
+        public static final String PERSISTENCE_ERROR = "PERSISTENCE_ERROR";
+
+        static BatchResult created(Order order) {
+            return new BatchResult(order, null, null);
+        }
+
+        static BatchResult failed(String errorCode, String message) {
+            return new BatchResult(null, errorCode, message);
+        }
+
+        public boolean isSuccess() {
+            return order != null;
+        }
     }
 }
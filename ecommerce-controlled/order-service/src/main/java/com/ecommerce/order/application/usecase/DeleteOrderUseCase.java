@@ -1,20 +1,57 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection;
+import com.ecommerce.order.application.port.OrderCache;
+import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.repository.OrderRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
+/**
+ * Use case: Delete Order
+ * 
+ * Responsibilities:
+ * - Verify order exists
+ * - Delete order
+ * - Remove the order from the customer's order summary
+ * - Invalidate cached order (after commit)
+ */
 @Service
 public class DeleteOrderUseCase {
 
     private final OrderRepository orderRepository;
+    private final OrderCache orderCache;
+    private final CustomerOrderSummaryProjection customerOrderSummaryProjection;
 
-    public DeleteOrderUseCase(OrderRepository orderRepository) {
+    public DeleteOrderUseCase(
+            OrderRepository orderRepository,
+            OrderCache orderCache,
+            CustomerOrderSummaryProjection customerOrderSummaryProjection) {
         this.orderRepository = orderRepository;
+        this.orderCache = orderCache;
+        this.customerOrderSummaryProjection = customerOrderSummaryProjection;
     }
 
+    /**
+     * Deletes an order.
+     * 
+     * @param id order identifier
+     * @throws IllegalArgumentException if id is null
+     * @throws jakarta.persistence.EntityNotFoundException if order not found
+     */
+    @Transactional
     public void execute(UUID id) {
-        // Empty function - no business logic
+        if (id == null) {
+            throw new IllegalArgumentException("orderId must not be null");
+        }
+        
+        Order order = orderRepository.findById(id)
+            .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException("Order not found with id: " + id));
+        
+        orderRepository.deleteById(id);
+        customerOrderSummaryProjection.recordDeleted(order);
+        orderCache.invalidate(id);
     }
 }
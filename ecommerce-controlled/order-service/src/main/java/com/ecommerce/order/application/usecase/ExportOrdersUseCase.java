@@ -0,0 +1,82 @@
+package com.ecommerce.order.application.usecase;
+
+import com.ecommerce.order.application.port.OrderExportPort;
+import com.ecommerce.order.application.port.OrderExportPort.OrderExportRow;
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
+import com.ecommerce.order.exception.ExportLimitExceededException;
+import com.ecommerce.order.infrastructure.config.OrderExportProperties;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Use case: Export Orders
+ * Business Rules: docs/rules/order-service-rules.md#3.3
+ * 
+ * Responsibilities:
+ * - Stream all orders matching the filters to the caller, oldest first
+ * - Keep the read inside one read-only transaction (required for cursor-based
+ *   fetching on most drivers)
+ * - Cap concurrent exports (order.export.max-concurrent): each one holds a pooled
+ *   connection for the whole download, so unbounded exports would starve the API
+ */
+@Service
+public class ExportOrdersUseCase {
+
+    private final OrderExportPort orderExportPort;
+    private final int maxConcurrent;
+    private final Semaphore running;
+
+    public ExportOrdersUseCase(OrderExportPort orderExportPort, OrderExportProperties properties) {
+        this.orderExportPort = orderExportPort;
+        this.maxConcurrent = properties.getMaxConcurrent();
+        this.running = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Reserve an export slot before the response is committed; close the permit
+     * when the export ends.
+     * 
+     * @throws ExportLimitExceededException if max-concurrent exports are running
+     */
+    public Permit acquirePermit() {
+        if (!running.tryAcquire()) {
+            throw new ExportLimitExceededException(maxConcurrent);
+        }
+        return new Permit();
+    }
+
+    /**
+     * @param criteria filters (all optional)
+     * @param consumer receives each row; may block, which throttles the read
+     * @return number of exported orders
+     */
+    @Transactional(readOnly = true)
+    public long execute(OrderSearchCriteria criteria, Consumer<OrderExportRow> consumer) {
+        if (criteria == null || consumer == null) {
+            throw new IllegalArgumentException("criteria and consumer must not be null");
+        }
+        return orderExportPort.forEach(criteria, consumer);
+    }
+
+    /**
+     * One running export; closing it more than once releases the slot only once.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                running.release();
+            }
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.ecommerce.order.application.usecase;
 
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.repository.OrderCursor;
 import com.ecommerce.order.domain.repository.OrderRepository;
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
+import com.ecommerce.order.domain.repository.OrderSlice;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,11 +23,14 @@ import java.util.UUID;
  * - Support pagination (default: page 0, size 20, max 100)
  * - Default sorting: createdAt DESC
  * - Return empty page if no matches (NOT error)
+ * - Keyset (cursor) slices for deep scrolling, total count only on request
  */
 @Service
 @Transactional(readOnly = true)
 public class GetAllOrdersUseCase {
 
+    static final int MAX_PAGE_SIZE = 100;
+
     private final OrderRepository orderRepository;
 
     public GetAllOrdersUseCase(OrderRepository orderRepository) {
@@ -76,12 +82,84 @@ public class GetAllOrdersUseCase {
      * @param createdBefore end of date range (inclusive)
      * @param pageable pagination parameters
      * @return page of orders created within the date range
+     * @throws IllegalArgumentException if a bound is null or the range is inverted
      */
     public Page<Order> executeByDateRange(
         Instant createdAfter, 
         Instant createdBefore, 
         Pageable pageable
     ) {
+        if (createdAfter == null || createdBefore == null) {
+            throw new IllegalArgumentException("createdAfter and createdBefore must not be null");
+        }
+        if (createdAfter.isAfter(createdBefore)) {
+            throw new IllegalArgumentException("createdAfter must not be after createdBefore");
+        }
         return orderRepository.findByCreatedAtBetween(createdAfter, createdBefore, pageable);
     }
+    
+    /**
+     * Lists orders matching any combination of customer, status and date range.
+     * 
+     * @param criteria filters (absent fields are not applied)
+     * @param pageable pagination parameters
+     * @return page of matching orders
+     */
+    public Page<Order> executeByCriteria(OrderSearchCriteria criteria, Pageable pageable) {
+        if (criteria == null || criteria.isEmpty()) {
+            return orderRepository.findAll(pageable);
+        }
+        return orderRepository.findByCriteria(criteria, pageable);
+    }
+    
+    /**
+     * Lists the next slice of orders after the cursor (createdAt DESC, id DESC).
+     * 
+     * @param after position from the previous slice, or null for the first slice
+     * @param size slice size (1..100)
+     * @return slice of orders with the cursor for the next one
+     */
+    public OrderSlice scroll(OrderCursor after, int size) {
+        validateSize(size);
+        return orderRepository.findAllAfter(after, size);
+    }
+    
+    /**
+     * Lists the next slice of a customer's orders after the cursor.
+     * 
+     * @param customerId customer identifier
+     * @param after position from the previous slice, or null for the first slice
+     * @param size slice size (1..100)
+     * @return slice of orders with the cursor for the next one
+     */
+    public OrderSlice scrollByCustomerId(UUID customerId, OrderCursor after, int size) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("customerId must not be null");
+        }
+        validateSize(size);
+        return orderRepository.findByCustomerIdAfter(customerId, after, size);
+    }
+    
+    /**
+     * Counts all orders (separate query; only issued when a client asks for totals).
+     */
+    public long count() {
+        return orderRepository.count();
+    }
+    
+    /**
+     * Counts a customer's orders.
+     */
+    public long countByCustomerId(UUID customerId) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("customerId must not be null");
+        }
+        return orderRepository.countByCustomerId(customerId);
+    }
+    
+    private static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE + ", got: " + size);
+        }
+    }
 }
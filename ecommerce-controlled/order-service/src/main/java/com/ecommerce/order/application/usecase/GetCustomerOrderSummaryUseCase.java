@@ -0,0 +1,39 @@
+package com.ecommerce.order.application.usecase;
+
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection;
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection.CustomerOrderSummary;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Use case: Get Customer Order Summary
+ * Business Rules: docs/rules/order-service-rules.md#3.3
+ * 
+ * Responsibilities:
+ * - Return order counts per status, total amount and latest order of a customer
+ * - Served from the customer_order_summary projection (one row, no order aggregates loaded)
+ * - Return an empty summary if the customer has no orders (NOT error)
+ */
+@Service
+public class GetCustomerOrderSummaryUseCase {
+
+    private final CustomerOrderSummaryProjection customerOrderSummaryProjection;
+
+    public GetCustomerOrderSummaryUseCase(CustomerOrderSummaryProjection customerOrderSummaryProjection) {
+        this.customerOrderSummaryProjection = customerOrderSummaryProjection;
+    }
+
+    /**
+     * @param customerId customer identifier
+     * @return summary of the customer's orders (zero counts if none)
+     * @throws IllegalArgumentException if customerId is null
+     */
+    public CustomerOrderSummary execute(UUID customerId) {
+        if (customerId == null) {
+            throw new IllegalArgumentException("customerId must not be null");
+        }
+        return customerOrderSummaryProjection.find(customerId)
+            .orElseGet(() -> CustomerOrderSummary.empty(customerId));
+    }
+}
@@ -1,10 +1,12 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.order.application.port.OrderCache;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.repository.OrderRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -13,7 +15,7 @@ import java.util.UUID;
  * 
  * Responsibilities:
  * - Validate orderId format
- * - Retrieve order from repository
+ * - Serve order from OrderCache, or retrieve it from repository and cache it
  * - Return order or throw exception if not found
  */
 @Service
@@ -21,9 +23,11 @@ import java.util.UUID;
 public class GetOrderByIdUseCase {
 
     private final OrderRepository orderRepository;
+    private final OrderCache orderCache;
 
-    public GetOrderByIdUseCase(OrderRepository orderRepository) {
+    public GetOrderByIdUseCase(OrderRepository orderRepository, OrderCache orderCache) {
         this.orderRepository = orderRepository;
+        this.orderCache = orderCache;
     }
 
     /**
@@ -39,9 +43,16 @@ public class GetOrderByIdUseCase {
             throw new IllegalArgumentException("orderId must not be null");
         }
         
-        return orderRepository.findById(id)
+        Optional<Order> cached = orderCache.get(id);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        
+        Order order = orderRepository.findById(id)
             .orElseThrow(() -> new jakarta.persistence.EntityNotFoundException(
                 "Order not found with id: " + id
             ));
+        orderCache.put(id, order);
+        return order;
     }
 }
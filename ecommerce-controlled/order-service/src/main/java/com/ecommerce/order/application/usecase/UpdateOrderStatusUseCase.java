@@ -1,5 +1,7 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection;
+import com.ecommerce.order.application.port.OrderCache;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderStatus;
 import com.ecommerce.order.domain.repository.OrderRepository;
@@ -18,15 +20,24 @@ import java.util.UUID;
  * - Update order status
  * - Set appropriate timestamps
  * - Persist changes
+ * - Move the order between status counts in the customer's order summary
+ * - Invalidate cached order (after commit)
  * - Return updated order
  */
 @Service
 public class UpdateOrderStatusUseCase {
 
     private final OrderRepository orderRepository;
+    private final OrderCache orderCache;
+    private final CustomerOrderSummaryProjection customerOrderSummaryProjection;
 
-    public UpdateOrderStatusUseCase(OrderRepository orderRepository) {
+    public UpdateOrderStatusUseCase(
+            OrderRepository orderRepository,
+            OrderCache orderCache,
+            CustomerOrderSummaryProjection customerOrderSummaryProjection) {
         this.orderRepository = orderRepository;
+        this.orderCache = orderCache;
+        this.customerOrderSummaryProjection = customerOrderSummaryProjection;
     }
 
     /**
@@ -53,9 +64,13 @@ public class UpdateOrderStatusUseCase {
                 "Order not found with id: " + id
             ));
         
+        OrderStatus previousStatus = order.getStatus();
         // Domain model enforces state transition rules
         order.updateStatus(newStatus);
         
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+        customerOrderSummaryProjection.recordStatusChanged(saved, previousStatus);
+        orderCache.invalidate(id);
+        return saved;
     }
 }
@@ -1,28 +1,62 @@
 package com.ecommerce.order.controller;
 
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection.CustomerOrderSummary;
+import com.ecommerce.order.application.port.OrderExportPort.OrderExportRow;
+import com.ecommerce.order.application.service.IdempotencyService;
 import com.ecommerce.order.application.usecase.*;
 import com.ecommerce.order.domain.model.Address;
 import com.ecommerce.order.domain.model.LineItem;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.repository.OrderCursor;
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
+import com.ecommerce.order.domain.repository.OrderSlice;
 import com.ecommerce.order.dto.*;
+import com.ecommerce.order.exception.InvalidCursorException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrderController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String EXPORT_PERMIT_INTERCEPTOR = OrderController.class.getName() + ".exportPermit";
+
     private final CreateOrderUseCase createOrderUseCase;
     private final GetAllOrdersUseCase getAllOrdersUseCase;
     private final GetOrderByIdUseCase getOrderByIdUseCase;
@@ -31,6 +65,11 @@ public class OrderController {
     private final GetOrdersByCustomerIdUseCase getOrdersByCustomerIdUseCase;
     private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
     private final CancelOrderUseCase cancelOrderUseCase;
+    private final ExportOrdersUseCase exportOrdersUseCase;
+    private final GetCustomerOrderSummaryUseCase getCustomerOrderSummaryUseCase;
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter exportRowWriter;
 
     public OrderController(
             CreateOrderUseCase createOrderUseCase,
@@ -40,7 +79,11 @@ public class OrderController {
             DeleteOrderUseCase deleteOrderUseCase,
             GetOrdersByCustomerIdUseCase getOrdersByCustomerIdUseCase,
             UpdateOrderStatusUseCase updateOrderStatusUseCase,
-            CancelOrderUseCase cancelOrderUseCase) {
+            CancelOrderUseCase cancelOrderUseCase,
+            ExportOrdersUseCase exportOrdersUseCase,
+            GetCustomerOrderSummaryUseCase getCustomerOrderSummaryUseCase,
+            IdempotencyService idempotencyService,
+            ObjectMapper objectMapper) {
         this.createOrderUseCase = createOrderUseCase;
         this.getAllOrdersUseCase = getAllOrdersUseCase;
         this.getOrderByIdUseCase = getOrderByIdUseCase;
@@ -49,6 +92,13 @@ public class OrderController {
         this.getOrdersByCustomerIdUseCase = getOrdersByCustomerIdUseCase;
         this.updateOrderStatusUseCase = updateOrderStatusUseCase;
         this.cancelOrderUseCase = cancelOrderUseCase;
+        this.exportOrdersUseCase = exportOrdersUseCase;
+        this.getCustomerOrderSummaryUseCase = getCustomerOrderSummaryUseCase;
+        this.idempotencyService = idempotencyService;
+        this.objectMapper = objectMapper;
+        // No flush per row: the generator buffer decides when bytes hit the socket
+        this.exportRowWriter = objectMapper.writerFor(OrderExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @GetMapping
@@ -56,22 +106,22 @@ public class OrderController {
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "20") Integer size,
             @RequestParam(required = false) String sort,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdBefore) {
         
         // Create pageable with default sorting by createdAt DESC
         Sort sorting = Sort.by(Sort.Direction.DESC, "createdAt");
         Pageable pageable = PageRequest.of(page, size, sorting);
         
-        Page<Order> orderPage;
+        // All filters are optional and combinable (rules #3.3)
+        OrderStatus orderStatus = (status != null && !status.isBlank())
+                ? OrderStatus.valueOf(status.toUpperCase())
+                : null;
+        OrderSearchCriteria criteria = new OrderSearchCriteria(customerId, orderStatus, createdAfter, createdBefore);
         
-        if (status != null && !status.isBlank()) {
-            // Filter by status if provided
-            OrderStatus orderStatus = OrderStatus.valueOf(status.toUpperCase());
-            orderPage = getAllOrdersUseCase.executeByStatus(orderStatus, pageable);
-        } else {
-            // Get all orders
-            orderPage = getAllOrdersUseCase.execute(pageable);
-        }
+        Page<Order> orderPage = getAllOrdersUseCase.executeByCriteria(criteria, pageable);
         
         // Map to response DTOs
         List<OrderResponse> content = orderPage.getContent().stream()
@@ -88,32 +138,184 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Streams every matching order as newline-delimited JSON (createdAt ASC, id ASC).
+     * Same filters as getAllOrders, no paging and no COUNT.
+     * 
+     * Rows are serialized as the cursor reads them; writes block once the socket
+     * buffer is full, so a slow client throttles the read instead of filling the heap.
+     * At most order.export.max-concurrent exports run at once; others get 429.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdAfter,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdBefore,
+            WebRequest webRequest) {
+        
+        OrderStatus orderStatus = (status != null && !status.isBlank())
+                ? OrderStatus.valueOf(status.toUpperCase())
+                : null;
+        // Validated here so bad filters still get a 400 before the response is committed
+        OrderSearchCriteria criteria = new OrderSearchCriteria(customerId, orderStatus, createdAfter, createdBefore);
+        // Taken before the response is committed, so a full export pool still gets a 429
+        ExportOrdersUseCase.Permit permit = exportOrdersUseCase.acquirePermit();
+        releaseWhenAsyncEnds(webRequest, permit);
+        
+        StreamingResponseBody body = outputStream -> {
+            try (permit; JsonGenerator generator = exportRowWriter.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                exportOrdersUseCase.execute(criteria, row -> writeLine(generator, row));
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Releases the export permit when the async request ends, even if the body
+     * never ran (task rejected, timeout or error before it was scheduled).
+     * Permit.close() is idempotent, so the body releasing it as well is harmless.
+     */
+    private static void releaseWhenAsyncEnds(WebRequest webRequest, ExportOrdersUseCase.Permit permit) {
+        WebAsyncUtils.getAsyncManager(webRequest).registerCallableInterceptor(EXPORT_PERMIT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> Object handleTimeout(NativeWebRequest request, Callable<T> task) {
+                        permit.close();
+                        return RESULT_NONE;
+                    }
+
+                    @Override
+                    public <T> Object handleError(NativeWebRequest request, Callable<T> task, Throwable t) {
+                        permit.close();
+                        return RESULT_NONE;
+                    }
+
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        permit.close();
+                    }
+                });
+    }
+
+    /**
+     * Keyset variant of getAllOrders for deep scrolling (createdAt DESC, id DESC).
+     * No COUNT query unless includeTotal=true.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPageResponse<OrderResponse>> scrollOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        OrderSlice slice = getAllOrdersUseCase.scroll(toCursor(cursor), size);
+        Long total = includeTotal ? getAllOrdersUseCase.count() : null;
+        
+        return ResponseEntity.ok(toCursorPageResponse(slice, size, total));
+    }
+
+    /**
+     * With an Idempotency-Key header, a repeated request (same key, same body) returns
+     * the order created by the first one without running the use case again;
+     * replays carry Idempotent-Replayed: true.
+     */
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@RequestBody OrderRequest request) {
-        // Map DTO to domain objects
-        UUID customerId = UUID.fromString(request.customerId());
-        Address shippingAddress = toAddress(request.shippingAddress());
-        List<LineItem> lineItems = request.items().stream()
-                .map(this::toLineItem)
-                .collect(Collectors.toList());
+    public ResponseEntity<OrderResponse> createOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody OrderRequest request) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(toOrderResponse(create(request)));
+        }
         
-        // Calculate total amount from items
-        BigDecimal totalAmount = lineItems.stream()
-                .map(LineItem::calculateSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        IdempotencyService.Outcome outcome = idempotencyService.execute(
+                idempotencyKey,
+                fingerprint(request),
+                () -> create(request)
+        );
+        Order order = outcome.order() != null
+                ? outcome.order()
+                : getOrderByIdUseCase.execute(outcome.orderId());
         
-        // Execute use case
-        Order createdOrder = createOrderUseCase.execute(
-                customerId,
-                shippingAddress,
-                lineItems,
-                totalAmount
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(outcome.replayed()))
+                .body(toOrderResponse(order));
+    }
+
+    private Order create(OrderRequest request) {
+        CreateOrderUseCase.CreateOrderCommand command = toCreateOrderCommand(request);
+        return createOrderUseCase.execute(
+                command.customerId(),
+                command.shippingAddress(),
+                command.lineItems(),
+                command.totalAmount()
         );
+    }
+
+    /**
+     * SHA-256 of the request as re-serialized by Jackson, so formatting and
+     * property order in the original JSON do not matter.
+     */
+    private String fingerprint(OrderRequest request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Cannot fingerprint request", e);
+        }
+    }
+
+    /**
+     * Creates up to CreateOrderUseCase.MAX_BATCH_SIZE orders in one call.
+     * Always 200 with one result per order; a malformed order only fails itself.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkOrderResponse> createOrders(@RequestBody BulkOrderRequest request) {
+        List<OrderRequest> orders = request.orders() != null ? request.orders() : List.of();
+        if (orders.isEmpty() || orders.size() > CreateOrderUseCase.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(
+                    "orders must contain between 1 and " + CreateOrderUseCase.MAX_BATCH_SIZE + " entries");
+        }
         
-        // Map to response
-        OrderResponse response = toOrderResponse(createdOrder);
+        BulkOrderResponse.Result[] results = new BulkOrderResponse.Result[orders.size()];
+        List<Integer> submitted = new ArrayList<>();
+        List<CreateOrderUseCase.CreateOrderCommand> commands = new ArrayList<>();
+        
+        // Map each order on its own so one unparsable entry does not reject the batch
+        for (int i = 0; i < orders.size(); i++) {
+            try {
+                commands.add(toCreateOrderCommand(orders.get(i)));
+                submitted.add(i);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                results[i] = new BulkOrderResponse.Result(
+                        i, "FAILED", null, CreateOrderUseCase.BatchResult.VALIDATION_ERROR, e.getMessage());
+            }
+        }
+        
+        if (!commands.isEmpty()) {
+            List<CreateOrderUseCase.BatchResult> outcomes = createOrderUseCase.executeBatch(commands);
+            for (int i = 0; i < outcomes.size(); i++) {
+                int index = submitted.get(i);
+                CreateOrderUseCase.BatchResult outcome = outcomes.get(i);
+                results[index] = outcome.isSuccess()
+                        ? new BulkOrderResponse.Result(index, "CREATED", toOrderResponse(outcome.order()), null, null)
+                        : new BulkOrderResponse.Result(index, "FAILED", null, outcome.errorCode(), outcome.message());
+            }
+        }
+        
+        List<BulkOrderResponse.Result> resultList = Arrays.asList(results);
+        int created = (int) resultList.stream().filter(result -> "CREATED".equals(result.status())).count();
         
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return ResponseEntity.ok(new BulkOrderResponse(
+                resultList.size(),
+                created,
+                resultList.size() - created,
+                resultList
+        ));
     }
 
     @GetMapping("/{id}")
@@ -178,6 +380,32 @@ public class OrderController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Keyset variant of getOrdersByCustomerId (createdAt DESC, id DESC).
+     */
+    @GetMapping("/customer/{customerId}/scroll")
+    public ResponseEntity<CursorPageResponse<OrderResponse>> scrollOrdersByCustomerId(
+            @PathVariable String customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") Integer size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        
+        UUID customerUuid = UUID.fromString(customerId);
+        OrderSlice slice = getAllOrdersUseCase.scrollByCustomerId(customerUuid, toCursor(cursor), size);
+        Long total = includeTotal ? getAllOrdersUseCase.countByCustomerId(customerUuid) : null;
+        
+        return ResponseEntity.ok(toCursorPageResponse(slice, size, total));
+    }
+
+    /**
+     * Counts, total and latest order of a customer from the summary projection (no order aggregates loaded).
+     */
+    @GetMapping("/customer/{customerId}/summary")
+    public ResponseEntity<CustomerOrderSummaryResponse> getCustomerOrderSummary(@PathVariable UUID customerId) {
+        CustomerOrderSummary summary = getCustomerOrderSummaryUseCase.execute(customerId);
+        return ResponseEntity.ok(toCustomerOrderSummaryResponse(summary));
+    }
+
     @PatchMapping("/{id}/status")
     public ResponseEntity<OrderResponse> updateOrderStatus(
             @PathVariable UUID id,
@@ -214,6 +442,83 @@ public class OrderController {
     
     // ========== Mapper Methods ==========
     
+    private CreateOrderUseCase.CreateOrderCommand toCreateOrderCommand(OrderRequest request) {
+        List<LineItem> lineItems = request.items().stream()
+                .map(this::toLineItem)
+                .collect(Collectors.toList());
+        BigDecimal totalAmount = lineItems.stream()
+                .map(LineItem::calculateSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new CreateOrderUseCase.CreateOrderCommand(
+                UUID.fromString(request.customerId()),
+                toAddress(request.shippingAddress()),
+                lineItems,
+                totalAmount
+        );
+    }
+
+    private void writeLine(JsonGenerator generator, OrderExportRow row) {
+        try {
+            exportRowWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            // Client went away: abort the export and release the cursor
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Decodes the opaque cursor query parameter; absent means first page.
+     */
+    private OrderCursor toCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return OrderCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor, e);
+        }
+    }
+    
+    /**
+     * Maps an OrderSlice to CursorPageResponse DTO.
+     */
+    private CursorPageResponse<OrderResponse> toCursorPageResponse(OrderSlice slice, int size, Long total) {
+        List<OrderResponse> content = slice.content().stream()
+                .map(this::toOrderResponse)
+                .collect(Collectors.toList());
+        
+        return new CursorPageResponse<>(
+                content,
+                slice.hasNext() ? slice.nextCursor().encode() : null,
+                slice.hasNext(),
+                size,
+                total
+        );
+    }
+    
+    /**
+     * Maps CustomerOrderSummary to CustomerOrderSummaryResponse DTO.
+     */
+    private CustomerOrderSummaryResponse toCustomerOrderSummaryResponse(CustomerOrderSummary summary) {
+        Map<String, Long> countsByStatus = new LinkedHashMap<>();
+        summary.countsByStatus().forEach((status, count) -> countsByStatus.put(status.name(), count));
+        CustomerOrderSummaryResponse.LastOrder lastOrder = summary.lastOrderId() == null ? null
+                : new CustomerOrderSummaryResponse.LastOrder(
+                        summary.lastOrderId(),
+                        summary.lastOrderNumber(),
+                        summary.lastOrderStatus().name(),
+                        summary.lastOrderAt());
+        return new CustomerOrderSummaryResponse(
+                summary.customerId().toString(),
+                summary.orderCount(),
+                countsByStatus,
+                summary.totalAmount(),
+                lastOrder,
+                summary.updatedAt());
+    }
+
     /**
      * Maps domain Order to OrderResponse DTO.
      */
@@ -1,5 +1,8 @@
 package com.ecommerce.order.domain.model;
 
+import com.ecommerce.order.domain.service.IdGenerator;
+import com.ecommerce.order.domain.service.OrderNumberGenerator;
+
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.*;
@@ -35,6 +38,9 @@ public class Order {
     // Optional fields
     private String cancellationReason;
     
+    // Persistence version; null until the order has been stored once
+    private Long version;
+    
     /**
      * Private constructor for JPA/framework use.
      */
@@ -48,6 +54,8 @@ public class Order {
      * @param shippingAddress delivery address
      * @param lineItems order line items
      * @param totalAmount total order amount
+     * @param orderNumbers source of the order number
+     * @param ids source of the order id
      * @return new Order instance
      * @throws IllegalArgumentException if business rules violated
      */
@@ -55,7 +63,9 @@ public class Order {
         UUID customerId,
         Address shippingAddress,
         List<LineItem> lineItems,
-        BigDecimal totalAmount
+        BigDecimal totalAmount,
+        OrderNumberGenerator orderNumbers,
+        IdGenerator ids
     ) {
         Objects.requireNonNull(customerId, "customerId must not be null");
         Objects.requireNonNull(shippingAddress, "shippingAddress must not be null");
@@ -66,8 +76,8 @@ public class Order {
         validateTotalAmount(lineItems, totalAmount);
         
         Order order = new Order();
-        order.id = UUID.randomUUID();
-        order.orderNumber = generateOrderNumber();
+        order.id = ids.next();
+        order.orderNumber = orderNumbers.next();
         order.customerId = customerId;
         order.status = OrderStatus.PENDING;
         order.totalAmount = totalAmount;
@@ -81,6 +91,50 @@ public class Order {
         return order;
     }
     
+    /**
+     * Restores an order from persisted state.
+     * Trusts the stored data: no business validation, no new id, order number
+     * or timestamps. Only for repositories loading orders that went through
+     * create() and the state machine when they were written.
+     * 
+     * @return Order instance with the given identity and state
+     */
+    public static Order rehydrate(
+        UUID id,
+        String orderNumber,
+        UUID customerId,
+        OrderStatus status,
+        BigDecimal totalAmount,
+        Address shippingAddress,
+        List<LineItem> lineItems,
+        Instant createdAt,
+        Instant updatedAt,
+        Instant confirmedAt,
+        Instant shippedAt,
+        Instant deliveredAt,
+        Instant cancelledAt,
+        String cancellationReason,
+        Long version
+    ) {
+        Order order = new Order();
+        order.id = id;
+        order.orderNumber = orderNumber;
+        order.customerId = customerId;
+        order.status = status;
+        order.totalAmount = totalAmount;
+        order.shippingAddress = shippingAddress;
+        order.lineItems = new ArrayList<>(lineItems);
+        order.createdAt = createdAt;
+        order.updatedAt = updatedAt;
+        order.confirmedAt = confirmedAt;
+        order.shippedAt = shippedAt;
+        order.deliveredAt = deliveredAt;
+        order.cancelledAt = cancelledAt;
+        order.cancellationReason = cancellationReason;
+        order.version = version;
+        return order;
+    }
+    
     /**
      * Validates line items according to business rules.
      */
@@ -122,20 +176,6 @@ public class Order {
         }
     }
     
-    /**
-     * Generates order number in format: ORD-{yyyyMMddHHmmss}-{random5digits}
-     */
-    private static String generateOrderNumber() {
-        String timestamp = java.time.format.DateTimeFormatter
-            .ofPattern("yyyyMMddHHmmss")
-            .withZone(java.time.ZoneOffset.UTC)
-            .format(Instant.now());
-        
-        int random = 10000 + new Random().nextInt(90000); // 5 digits
-        
-        return "ORD-" + timestamp + "-" + random;
-    }
-    
     /**
      * Updates order status following state machine rules.
      * 
@@ -266,6 +306,18 @@ public class Order {
         return cancellationReason;
     }
     
+    /**
+     * Version of the stored row this order was loaded from.
+     * Null for orders that have not been persisted yet.
+     */
+    public Long getVersion() {
+        return version;
+    }
+    
+    public boolean isNew() {
+        return version == null;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
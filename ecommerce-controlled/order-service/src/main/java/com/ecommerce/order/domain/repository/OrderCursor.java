@@ -0,0 +1,57 @@
+package com.ecommerce.order.domain.repository;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keyset position in the order listing (createdAt DESC, id DESC).
+ * The next slice starts strictly after this (createdAt, id) pair, so paging
+ * cost does not grow with depth and no COUNT query is needed.
+ * 
+ * Clients see it only as an opaque URL-safe token (see encode/decode).
+ */
+public record OrderCursor(Instant createdAt, UUID id) {
+
+    private static final byte VERSION = 1;
+    private static final int ENCODED_BYTES = 1 + Long.BYTES + Integer.BYTES + 2 * Long.BYTES;
+
+    public OrderCursor {
+        Objects.requireNonNull(createdAt, "createdAt must not be null");
+        Objects.requireNonNull(id, "id must not be null");
+    }
+
+    /**
+     * @return opaque base64url token (version, epoch seconds, nanos, id)
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+            .put(VERSION)
+            .putLong(createdAt.getEpochSecond())
+            .putInt(createdAt.getNano())
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by encode()
+     */
+    public static OrderCursor decode(String token) {
+        Objects.requireNonNull(token, "token must not be null");
+        byte[] bytes = Base64.getUrlDecoder().decode(token);
+        if (bytes.length != ENCODED_BYTES || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported cursor: " + token);
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1);
+            Instant createdAt = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            return new OrderCursor(createdAt, new UUID(buffer.getLong(), buffer.getLong()));
+        } catch (BufferUnderflowException | java.time.DateTimeException e) {
+            throw new IllegalArgumentException("Unsupported cursor: " + token, e);
+        }
+    }
+}
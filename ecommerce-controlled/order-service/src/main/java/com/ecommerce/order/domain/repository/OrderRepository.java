@@ -44,6 +44,38 @@ public interface OrderRepository {
      */
     Page<Order> findByCreatedAtBetween(Instant startDate, Instant endDate, Pageable pageable);
     
+    /**
+     * Finds orders matching any combination of customer, status and date range with pagination.
+     */
+    Page<Order> findByCriteria(OrderSearchCriteria criteria, Pageable pageable);
+    
+    /**
+     * Finds the next slice of orders after the cursor (createdAt DESC, id DESC).
+     * Keyset query: no offset scan and no COUNT.
+     * 
+     * @param after position to continue from, or null for the first slice
+     * @param limit maximum number of orders in the slice
+     */
+    OrderSlice findAllAfter(OrderCursor after, int limit);
+    
+    /**
+     * Finds the next slice of a customer's orders after the cursor (createdAt DESC, id DESC).
+     * 
+     * @param after position to continue from, or null for the first slice
+     * @param limit maximum number of orders in the slice
+     */
+    OrderSlice findByCustomerIdAfter(UUID customerId, OrderCursor after, int limit);
+    
+    /**
+     * Counts all orders.
+     */
+    long count();
+    
+    /**
+     * Counts orders of a customer.
+     */
+    long countByCustomerId(UUID customerId);
+    
     /**
      * Deletes an order by its ID.
      */
@@ -0,0 +1,30 @@
+package com.ecommerce.order.domain.repository;
+
+import com.ecommerce.order.domain.model.OrderStatus;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Combinable order listing filters (docs/rules/order-service-rules.md#3.3).
+ * Every field is optional; null means "no filter". Date bounds are inclusive.
+ */
+public record OrderSearchCriteria(
+    UUID customerId,
+    OrderStatus status,
+    Instant createdAfter,
+    Instant createdBefore
+) {
+
+    public OrderSearchCriteria {
+        if (createdAfter != null && createdBefore != null && createdAfter.isAfter(createdBefore)) {
+            throw new IllegalArgumentException(
+                "createdAfter must not be after createdBefore: " + createdAfter + " > " + createdBefore
+            );
+        }
+    }
+
+    public boolean isEmpty() {
+        return customerId == null && status == null && createdAfter == null && createdBefore == null;
+    }
+}
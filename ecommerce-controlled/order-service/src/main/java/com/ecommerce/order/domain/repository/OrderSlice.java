@@ -0,0 +1,18 @@
+package com.ecommerce.order.domain.repository;
+
+import com.ecommerce.order.domain.model.Order;
+
+import java.util.List;
+
+/**
+ * One keyset page of orders.
+ * 
+ * @param content orders in createdAt DESC, id DESC order
+ * @param nextCursor position to continue from, or null on the last slice
+ */
+public record OrderSlice(List<Order> content, OrderCursor nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
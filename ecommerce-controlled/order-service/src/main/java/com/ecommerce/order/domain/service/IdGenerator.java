@@ -0,0 +1,12 @@
+package com.ecommerce.order.domain.service;
+
+import java.util.UUID;
+
+/**
+ * Source of entity and event identifiers (orders, outbox events).
+ * Implementations must be thread-safe.
+ */
+public interface IdGenerator {
+
+    UUID next();
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.order.domain.service;
+
+/**
+ * Generates human-readable order numbers (docs/rules/order-service-rules.md#6.2).
+ * Implementations must be thread-safe and never return the same number twice
+ * for the lifetime of the deployment.
+ */
+public interface OrderNumberGenerator {
+
+    /**
+     * @return a new, unique order number (max 50 chars)
+     */
+    String next();
+}
@@ -0,0 +1,14 @@
+package com.ecommerce.order.domain.service;
+
+import java.util.UUID;
+
+/**
+ * Random (version 4) UUIDs from the shared SecureRandom. Kept for order.ids.version=v4.
+ */
+public class RandomUuidGenerator implements IdGenerator {
+
+    @Override
+    public UUID next() {
+        return UUID.randomUUID();
+    }
+}
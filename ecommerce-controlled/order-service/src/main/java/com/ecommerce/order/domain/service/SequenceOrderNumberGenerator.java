@@ -0,0 +1,116 @@
+package com.ecommerce.order.domain.service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free order number generator: ORD-{yyyyMMddHHmmss}-{node}-{sequence}.
+ * 
+ * State is one AtomicLong packing (epoch second << 24 | sequence). Each call
+ * CASes it to max(now << 24, previous + 1), so:
+ * - numbers are strictly increasing per node, also when the wall clock steps back
+ * - up to 16,777,216 numbers per second per node; beyond that the sequence
+ *   carries into the next second (the timestamp runs slightly ahead, never repeats)
+ * - no locks, no Random, no formatter; the 14-digit timestamp is rendered once per second
+ * 
+ * Uniqueness across instances comes from the node id (0-65535), which must differ
+ * per running instance (see OrderNumberGeneratorConfig).
+ */
+public class SequenceOrderNumberGenerator implements OrderNumberGenerator {
+
+    static final int SEQUENCE_BITS = 24;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    public static final int MAX_NODE_ID = 0xFFFF;
+
+    private static final char[] PREFIX = "ORD-".toCharArray();
+    private static final int TIMESTAMP_DIGITS = 14;
+    private static final int NODE_DIGITS = 5;
+    private static final int SEQUENCE_DIGITS = 8;
+    private static final int LENGTH = PREFIX.length + TIMESTAMP_DIGITS + 1 + NODE_DIGITS + 1 + SEQUENCE_DIGITS;
+
+    private final char[] node;
+    private final Clock clock;
+    private final AtomicLong state = new AtomicLong();
+    private volatile RenderedSecond lastSecond = new RenderedSecond(-1, new char[TIMESTAMP_DIGITS]);
+
+    public SequenceOrderNumberGenerator(int nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    public SequenceOrderNumberGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ", got: " + nodeId);
+        }
+        this.node = new char[NODE_DIGITS];
+        writeDigits(nodeId, node, 0, NODE_DIGITS);
+        this.clock = clock;
+    }
+
+    @Override
+    public String next() {
+        return format(nextValue());
+    }
+
+    /**
+     * @return next packed (second, sequence) value; strictly increasing
+     */
+    long nextValue() {
+        long floor = (clock.millis() / 1000) << SEQUENCE_BITS;
+        while (true) {
+            long previous = state.get();
+            long next = Math.max(floor, previous + 1);
+            if (state.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+
+    String format(long value) {
+        char[] chars = new char[LENGTH];
+        int pos = 0;
+        System.arraycopy(PREFIX, 0, chars, pos, PREFIX.length);
+        pos += PREFIX.length;
+        System.arraycopy(timestamp(value >>> SEQUENCE_BITS), 0, chars, pos, TIMESTAMP_DIGITS);
+        pos += TIMESTAMP_DIGITS;
+        chars[pos++] = '-';
+        System.arraycopy(node, 0, chars, pos, NODE_DIGITS);
+        pos += NODE_DIGITS;
+        chars[pos++] = '-';
+        writeDigits(value & SEQUENCE_MASK, chars, pos, SEQUENCE_DIGITS);
+        return new String(chars);
+    }
+
+    private char[] timestamp(long epochSecond) {
+        RenderedSecond rendered = lastSecond;
+        if (rendered.epochSecond != epochSecond) {
+            // Racing threads may render the same second twice; harmless
+            rendered = new RenderedSecond(epochSecond, render(epochSecond));
+            lastSecond = rendered;
+        }
+        return rendered.digits;
+    }
+
+    private static char[] render(long epochSecond) {
+        LocalDateTime time = LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+        char[] digits = new char[TIMESTAMP_DIGITS];
+        writeDigits(time.getYear(), digits, 0, 4);
+        writeDigits(time.getMonthValue(), digits, 4, 2);
+        writeDigits(time.getDayOfMonth(), digits, 6, 2);
+        writeDigits(time.getHour(), digits, 8, 2);
+        writeDigits(time.getMinute(), digits, 10, 2);
+        writeDigits(time.getSecond(), digits, 12, 2);
+        return digits;
+    }
+
+    private static void writeDigits(long value, char[] target, int offset, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            target[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private record RenderedSecond(long epochSecond, char[] digits) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecommerce.order.domain.service;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered version 7 UUIDs (RFC 9562): 48-bit Unix millis, 12-bit counter, 62 random bits.
+ * 
+ * New keys sort after earlier ones, so primary-key inserts append to the right
+ * edge of the B-tree instead of landing on random pages.
+ * - Monotonic per generator: (millis, counter) is one AtomicLong advanced by CAS to
+ *   max(now, previous + 1); more than 4096 ids in one millisecond borrow the next one
+ * - Random bits come from ThreadLocalRandom (no shared SecureRandom); ids are unique,
+ *   not secret - do not use them as unguessable tokens
+ */
+public class UuidV7Generator implements IdGenerator {
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7L << 12;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+    private static final long RANDOM_62_BITS = 0x3FFFFFFFFFFFFFFFL;
+
+    private final Clock clock;
+    private final AtomicLong state = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(Clock.systemUTC());
+    }
+
+    public UuidV7Generator(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public UUID next() {
+        long value = nextTimestampAndCounter();
+        long millis = value >>> COUNTER_BITS;
+        long mostSigBits = (millis << 16) | VERSION_7 | (value & COUNTER_MASK);
+        long leastSigBits = VARIANT_RFC | (ThreadLocalRandom.current().nextLong() & RANDOM_62_BITS);
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * @return Unix millis embedded in a version 7 UUID
+     */
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private long nextTimestampAndCounter() {
+        long floor = clock.millis() << COUNTER_BITS;
+        while (true) {
+            long previous = state.get();
+            long next = Math.max(floor, previous + 1);
+            if (state.compareAndSet(previous, next)) {
+                return next;
+            }
+        }
+    }
+}
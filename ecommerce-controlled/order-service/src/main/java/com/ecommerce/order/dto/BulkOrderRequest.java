@@ -0,0 +1,11 @@
+package com.ecommerce.order.dto;
+
+import java.util.List;
+
+/**
+ * Several orders in one request (at most CreateOrderUseCase.MAX_BATCH_SIZE).
+ */
+public record BulkOrderRequest(
+    List<OrderRequest> orders
+) {
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.order.dto;
+
+import java.util.List;
+
+/**
+ * Per-order outcome of a bulk create; results are in request order.
+ */
+public record BulkOrderResponse(
+    Integer total,
+    Integer created,
+    Integer failed,
+    List<Result> results
+) {
+
+    /**
+     * status is CREATED (order set) or FAILED (errorCode and message set).
+     */
+    public record Result(
+        Integer index,
+        String status,
+        OrderResponse order,
+        String errorCode,
+        String message
+    ) {
+    }
+}
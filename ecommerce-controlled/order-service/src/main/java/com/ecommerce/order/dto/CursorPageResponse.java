@@ -0,0 +1,16 @@
+package com.ecommerce.order.dto;
+
+import java.util.List;
+
+/**
+ * Keyset page: pass nextCursor back as ?cursor= to get the following page.
+ * totalElements is only filled when requested with includeTotal=true.
+ */
+public record CursorPageResponse<T>(
+    List<T> content,
+    String nextCursor,
+    Boolean hasNext,
+    Integer pageSize,
+    Long totalElements
+) {
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.order.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+public record CustomerOrderSummaryResponse(
+    String customerId,
+    long orderCount,
+    Map<String, Long> countsByStatus,
+    BigDecimal totalAmount,
+    LastOrder lastOrder,
+    Instant updatedAt
+) {
+
+    public record LastOrder(
+        UUID id,
+        String orderNumber,
+        String status,
+        Instant createdAt
+    ) {
+    }
+}
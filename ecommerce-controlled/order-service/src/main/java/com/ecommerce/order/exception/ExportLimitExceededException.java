@@ -0,0 +1,12 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Thrown when the maximum number of concurrent order exports is already running.
+ * Results in 429 Too Many Requests response to client.
+ */
+public class ExportLimitExceededException extends RuntimeException {
+
+    public ExportLimitExceededException(int maxConcurrent) {
+        super("Too many concurrent order exports (max " + maxConcurrent + "), retry later");
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Thrown when an Idempotency-Key is reused with a different request body.
+ * Results in 422 Unprocessable Entity response to client.
+ */
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+    public IdempotencyKeyConflictException(String key) {
+        super("Idempotency-Key was already used for a different request: " + key);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Thrown when a pagination cursor cannot be decoded (tampered, truncated
+ * or issued by an incompatible version).
+ * Results in 400 Bad Request response to client.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor, Throwable cause) {
+        super("Invalid cursor: " + cursor, cause);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.order.exception;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Business exception aggregating every stock shortfall found for an order.
+ * Thrown by bulk stock validation when more than one line item fails,
+ * so the client can fix the whole cart in one go.
+ * Results in 400 Bad Request response to client.
+ */
+public class StockValidationException extends RuntimeException {
+
+    private final List<InsufficientStockException> insufficientStock;
+    private final List<ProductNotFoundException> missingProducts;
+
+    public StockValidationException(
+            List<InsufficientStockException> insufficientStock,
+            List<ProductNotFoundException> missingProducts) {
+        super(buildMessage(insufficientStock, missingProducts));
+        this.insufficientStock = List.copyOf(insufficientStock);
+        this.missingProducts = List.copyOf(missingProducts);
+    }
+
+    private static String buildMessage(
+            List<InsufficientStockException> insufficientStock,
+            List<ProductNotFoundException> missingProducts) {
+        return "Stock validation failed: " + Stream.concat(
+                        missingProducts.stream().map(RuntimeException::getMessage),
+                        insufficientStock.stream().map(RuntimeException::getMessage))
+                .collect(Collectors.joining("; "));
+    }
+
+    public List<InsufficientStockException> getInsufficientStock() {
+        return insufficientStock;
+    }
+
+    public List<ProductNotFoundException> getMissingProducts() {
+        return missingProducts;
+    }
+}
@@ -1,14 +1,33 @@
 package com.ecommerce.order.infrastructure.adapter;
 
 import com.ecommerce.order.application.port.StockCheckPort;
+import com.ecommerce.order.domain.model.LineItem;
 import com.ecommerce.order.exception.InsufficientStockException;
 import com.ecommerce.order.exception.InventoryServiceUnavailableException;
 import com.ecommerce.order.exception.ProductNotFoundException;
+import com.ecommerce.order.exception.StockValidationException;
+import com.ecommerce.order.infrastructure.cache.InventoryNearCache;
 import com.ecommerce.order.infrastructure.client.InventoryServiceClient;
+import com.ecommerce.order.infrastructure.client.dto.InventoryBatchLookupRequest;
 import com.ecommerce.order.infrastructure.client.dto.InventoryCheckResponse;
+import com.ecommerce.order.infrastructure.config.StockCheckProperties;
 import feign.FeignException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Adapter implementing StockCheckPort using InventoryServiceClient.
  * Infrastructure layer - handles HTTP communication with inventory-service.
@@ -17,21 +36,48 @@ import org.springframework.stereotype.Component;
  * - 404 Not Found → ProductNotFoundException (Q2: treat as error)
  * - 5xx or timeout → InventoryServiceUnavailableException (Q1: after 3 retries)
  * - 200 OK with insufficient quantity → InsufficientStockException (Q4)
+ * 
+ * Whole-order validation (see StockCheckProperties.Mode):
+ * - BULK: a single POST /api/v1/inventory/product/batch call;
+ *   products missing from the response are treated like a 404.
+ * - CONCURRENT: per-item calls fanned out on virtual threads under one
+ *   deadline per order; the first failure cancels the remaining calls.
+ * 
+ * Both paths read through InventoryNearCache first (D009) and only call
+ * inventory-service for products that are not cached.
  */
 @Component
 public class StockCheckAdapter implements StockCheckPort {
 
+    /**
+     * Max productIds per POST /api/v1/inventory/product/batch (inventory-service limit).
+     */
+    static final int BATCH_LOOKUP_LIMIT = 100;
+
     private final InventoryServiceClient inventoryServiceClient;
+    private final StockCheckProperties properties;
+    private final ExecutorService stockCheckExecutor;
+    private final InventoryNearCache inventoryNearCache;
 
-    public StockCheckAdapter(InventoryServiceClient inventoryServiceClient) {
+    public StockCheckAdapter(
+            InventoryServiceClient inventoryServiceClient,
+            StockCheckProperties properties,
+            @Qualifier("stockCheckExecutor") ExecutorService stockCheckExecutor,
+            InventoryNearCache inventoryNearCache) {
         this.inventoryServiceClient = inventoryServiceClient;
+        this.properties = properties;
+        this.stockCheckExecutor = stockCheckExecutor;
+        this.inventoryNearCache = inventoryNearCache;
     }
 
     @Override
     public void validateStockAvailability(String productId, int requestedQuantity) {
         try {
-            InventoryCheckResponse inventory = inventoryServiceClient
-                .getInventoryByProductId(productId);
+            InventoryCheckResponse inventory = inventoryNearCache.get(productId);
+            if (inventory == null) {
+                inventory = inventoryServiceClient.getInventoryByProductId(productId);
+                inventoryNearCache.put(inventory);
+            }
             
             // Q4: Check if inventory.quantity >= lineItem.quantity
             if (inventory.quantity() < requestedQuantity) {
@@ -46,19 +92,164 @@ public class StockCheckAdapter implements StockCheckPort {
             // Q2: 404 = treat as error (product misconfigured)
             throw new ProductNotFoundException(productId);
             
-        } catch (FeignException.ServiceUnavailable | FeignException.InternalServerError e) {
+        } catch (FeignException e) {
+            throw toUnavailable(e);
+        }
+    }
+
+    @Override
+    public void validateStockAvailability(List<LineItem> lineItems) {
+        if (properties.getMode() == StockCheckProperties.Mode.CONCURRENT) {
+            validateConcurrently(lineItems);
+        } else {
+            validateInBulk(lineItems);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> getAvailableQuantities(Collection<String> productIds) {
+        Map<String, Integer> available = new HashMap<>();
+        lookupInventories(productIds.stream().distinct().toList())
+            .forEach((productId, inventory) -> available.put(productId, inventory.quantity()));
+        return available;
+    }
+
+    private void validateInBulk(List<LineItem> lineItems) {
+        List<String> productIds = lineItems.stream()
+            .map(LineItem::productId)
+            .distinct()
+            .toList();
+
+        Map<String, InventoryCheckResponse> inventoryByProductId = lookupInventories(productIds);
+
+        List<InsufficientStockException> insufficientStock = new ArrayList<>();
+        List<ProductNotFoundException> missingProducts = new ArrayList<>();
+
+        for (LineItem lineItem : lineItems) {
+            InventoryCheckResponse inventory = inventoryByProductId.get(lineItem.productId());
+            if (inventory == null) {
+                // Q2: absent from bulk response = same as 404
+                missingProducts.add(new ProductNotFoundException(lineItem.productId()));
+            } else if (inventory.quantity() < lineItem.quantity()) {
+                // Q4: Check if inventory.quantity >= lineItem.quantity
+                insufficientStock.add(new InsufficientStockException(
+                    lineItem.productId(),
+                    lineItem.quantity(),
+                    inventory.quantity()
+                ));
+            }
+        }
+
+        throwIfInvalid(insufficientStock, missingProducts);
+    }
+
+    /**
+     * Near-cache first, then POST /product/batch for the rest in chunks of
+     * BATCH_LOOKUP_LIMIT (inventory-service rejects larger lookups).
+     * Unknown products are simply absent from the result.
+     */
+    private Map<String, InventoryCheckResponse> lookupInventories(List<String> productIds) {
+        Map<String, InventoryCheckResponse> inventoryByProductId =
+            new HashMap<>(inventoryNearCache.getAll(productIds));
+        List<String> uncached = productIds.stream()
+            .filter(productId -> !inventoryByProductId.containsKey(productId))
+            .toList();
+
+        for (int from = 0; from < uncached.size(); from += BATCH_LOOKUP_LIMIT) {
+            List<String> chunk = uncached.subList(from, Math.min(from + BATCH_LOOKUP_LIMIT, uncached.size()));
+            try {
+                inventoryServiceClient
+                    .getInventoriesByProductIds(new InventoryBatchLookupRequest(chunk))
+                    .forEach(inventory -> {
+                        inventoryByProductId.putIfAbsent(inventory.productId(), inventory);
+                        inventoryNearCache.put(inventory);
+                    });
+            } catch (FeignException e) {
+                throw toUnavailable(e);
+            }
+        }
+        return inventoryByProductId;
+    }
+
+    /**
+     * Fans out one single-item check per line item and waits for all of them
+     * within the per-order deadline. The first failure (or deadline expiry)
+     * cancels whatever is still in flight.
+     */
+    private void validateConcurrently(List<LineItem> lineItems) {
+        Duration deadline = properties.getDeadline();
+        long deadlineNanos = System.nanoTime() + deadline.toNanos();
+        CompletionService<Void> completionService = new ExecutorCompletionService<>(stockCheckExecutor);
+        List<Future<Void>> inFlight = new ArrayList<>(lineItems.size());
+
+        try {
+            for (LineItem lineItem : lineItems) {
+                inFlight.add(completionService.submit(() -> {
+                    validateStockAvailability(lineItem.productId(), lineItem.quantity());
+                    return null;
+                }));
+            }
+
+            for (int completed = 0; completed < inFlight.size(); completed++) {
+                Future<Void> done = completionService.poll(
+                    deadlineNanos - System.nanoTime(),
+                    TimeUnit.NANOSECONDS
+                );
+                if (done == null) {
+                    throw new InventoryServiceUnavailableException(
+                        "Stock check did not complete within " + deadline.toMillis() + "ms"
+                    );
+                }
+                // Rethrows the first failure, which ends the wait
+                done.get();
+            }
+
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new InventoryServiceUnavailableException("Failed to check inventory", e.getCause());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InventoryServiceUnavailableException("Stock check interrupted", e);
+
+        } finally {
+            // No-op for completed calls; interrupts the ones still waiting on inventory-service
+            inFlight.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * Single failure keeps the original exception type (and error message) for clients;
+     * several failures are reported together.
+     */
+    private void throwIfInvalid(
+            List<InsufficientStockException> insufficientStock,
+            List<ProductNotFoundException> missingProducts) {
+        int failures = insufficientStock.size() + missingProducts.size();
+        if (failures == 0) {
+            return;
+        }
+        if (failures == 1) {
+            throw insufficientStock.isEmpty() ? missingProducts.get(0) : insufficientStock.get(0);
+        }
+        throw new StockValidationException(insufficientStock, missingProducts);
+    }
+
+    private InventoryServiceUnavailableException toUnavailable(FeignException e) {
+        if (e instanceof FeignException.ServiceUnavailable
+                || e instanceof FeignException.InternalServerError) {
             // Q1: 5xx errors after retries → 503
-            throw new InventoryServiceUnavailableException(
+            return new InventoryServiceUnavailableException(
                 "Inventory service unavailable after retries",
                 e
             );
-            
-        } catch (FeignException e) {
-            // Other Feign errors (timeout, connection refused, etc.)
-            throw new InventoryServiceUnavailableException(
-                "Failed to check inventory: " + e.getMessage(),
-                e
-            );
         }
+        // Other Feign errors (timeout, connection refused, etc.)
+        return new InventoryServiceUnavailableException(
+            "Failed to check inventory: " + e.getMessage(),
+            e
+        );
     }
 }
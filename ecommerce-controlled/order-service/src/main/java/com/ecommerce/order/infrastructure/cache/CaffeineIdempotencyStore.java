@@ -0,0 +1,121 @@
+package com.ecommerce.order.infrastructure.cache;
+
+import com.ecommerce.order.application.port.IdempotencyStore;
+import com.ecommerce.order.infrastructure.config.IdempotencyProperties;
+import com.ecommerce.order.infrastructure.persistence.IdempotencyKeyEntity;
+import com.ecommerce.order.infrastructure.persistence.IdempotencyKeyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * IdempotencyStore backed by the idempotency_keys table with a bounded
+ * in-memory copy in front of it.
+ * Infrastructure layer - implements IdempotencyStore for IdempotencyService.
+ * 
+ * Writes go to both; reads hit the cache first and fall back to the table
+ * (keys evicted by size, or stored before a restart). Each cached entry
+ * expires at its own expiresAt, so the cache never outlives the table row.
+ * Metrics: cache.gets, cache.evictions, cache.size tagged cache=idempotency-keys.
+ */
+@Component
+public class CaffeineIdempotencyStore implements IdempotencyStore {
+
+    static final String CACHE_NAME = "idempotency-keys";
+
+    private final IdempotencyKeyRepository repository;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Cache<String, Entry> cache;
+
+    @Autowired
+    public CaffeineIdempotencyStore(
+            IdempotencyKeyRepository repository,
+            IdempotencyProperties properties,
+            MeterRegistry meterRegistry) {
+        this(repository, properties, meterRegistry, Clock.systemUTC());
+    }
+
+    CaffeineIdempotencyStore(
+            IdempotencyKeyRepository repository,
+            IdempotencyProperties properties,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.repository = repository;
+        this.ttl = properties.getTtl();
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(properties.getCacheMaxSize())
+            .expireAfter(new UntilExpiresAt(clock))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<Entry> find(String key) {
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Instant now = clock.instant();
+        Optional<Entry> stored = repository.findById(key)
+            .filter(entity -> entity.getExpiresAt().isAfter(now))
+            .map(entity -> new Entry(
+                entity.getKey(), entity.getRequestFingerprint(), entity.getOrderId(), entity.getExpiresAt()));
+        stored.ifPresent(entry -> cache.put(key, entry));
+        return stored;
+    }
+
+    @Override
+    public void save(String key, String requestFingerprint, UUID orderId) {
+        Instant now = clock.instant();
+        Entry entry = new Entry(key, requestFingerprint, orderId, now.plus(ttl));
+        // Cache first: even if the INSERT fails, retries on this instance are still answered
+        cache.put(key, entry);
+        repository.save(IdempotencyKeyEntity.builder()
+            .key(key)
+            .requestFingerprint(requestFingerprint)
+            .orderId(orderId)
+            .createdAt(now)
+            .expiresAt(entry.expiresAt())
+            .build());
+    }
+
+    /**
+     * Entry lifetime = time left until its expiresAt; reads do not extend it.
+     */
+    private static final class UntilExpiresAt implements Expiry<String, Entry> {
+
+        private final Clock clock;
+
+        UntilExpiresAt(Clock clock) {
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), entry.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
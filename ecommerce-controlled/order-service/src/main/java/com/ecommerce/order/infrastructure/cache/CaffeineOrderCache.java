@@ -0,0 +1,120 @@
+package com.ecommerce.order.infrastructure.cache;
+
+import com.ecommerce.order.application.port.OrderCache;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.infrastructure.config.OrderCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded local cache of domain Orders keyed by order id (D009).
+ * Infrastructure layer - implements OrderCache for GetOrderByIdUseCase.
+ * 
+ * Memory-bounded by order.cache.max-weight (orders weighed by line item count).
+ * Terminal orders (DELIVERED, CANCELLED) live for order.cache.terminal-ttl,
+ * all others for order.cache.active-ttl.
+ * Metrics: cache.gets{result=hit|miss}, cache.evictions, cache.size
+ * tagged cache=orders.
+ */
+@Component
+public class CaffeineOrderCache implements OrderCache {
+
+    static final String CACHE_NAME = "orders";
+
+    /**
+     * Rough retained size of an Order with its address and timestamps,
+     * and of each LineItem record, in bytes.
+     */
+    static final int ORDER_BASE_WEIGHT = 1024;
+    static final int LINE_ITEM_WEIGHT = 256;
+
+    private final boolean enabled;
+    private final Cache<UUID, Order> cache;
+
+    @Autowired
+    public CaffeineOrderCache(OrderCacheProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Ticker.systemTicker());
+    }
+
+    CaffeineOrderCache(OrderCacheProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(properties.getMaxWeight().toBytes())
+            .weigher((UUID id, Order order) -> weigh(order))
+            .expireAfter(new StatusAwareExpiry(properties.getActiveTtl(), properties.getTerminalTtl()))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Optional<Order> get(UUID orderId) {
+        return enabled ? Optional.ofNullable(cache.getIfPresent(orderId)) : Optional.empty();
+    }
+
+    @Override
+    public void put(UUID orderId, Order order) {
+        if (enabled) {
+            cache.put(orderId, order);
+        }
+    }
+
+    @Override
+    public void invalidate(UUID orderId) {
+        cache.invalidate(orderId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(orderId);
+                }
+            });
+        }
+    }
+
+    static int weigh(Order order) {
+        return ORDER_BASE_WEIGHT + LINE_ITEM_WEIGHT * order.getLineItems().size();
+    }
+
+    /**
+     * TTL chosen from the order status at write time; reads do not extend it.
+     */
+    private static final class StatusAwareExpiry implements Expiry<UUID, Order> {
+
+        private final long activeTtlNanos;
+        private final long terminalTtlNanos;
+
+        StatusAwareExpiry(Duration activeTtl, Duration terminalTtl) {
+            this.activeTtlNanos = activeTtl.toNanos();
+            this.terminalTtlNanos = terminalTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(UUID id, Order order, long currentTime) {
+            return order.isTerminal() ? terminalTtlNanos : activeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID id, Order order, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, order, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID id, Order order, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
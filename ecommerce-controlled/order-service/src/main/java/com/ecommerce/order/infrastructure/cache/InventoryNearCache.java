@@ -0,0 +1,83 @@
+package com.ecommerce.order.infrastructure.cache;
+
+import com.ecommerce.order.infrastructure.client.dto.InventoryCheckResponse;
+import com.ecommerce.order.infrastructure.config.StockCheckProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Bounded local cache of inventory levels keyed by productId (D009).
+ * Infrastructure layer - used by StockCheckAdapter, refreshed by StockChangedEventConsumer.
+ * 
+ * Entries expire after order.stock-check.cache.ttl (staleness bound) and are
+ * evicted by size beyond order.stock-check.cache.max-size.
+ * Metrics: cache.gets{result=hit|miss}, cache.evictions, cache.size
+ * tagged cache=inventory.near-cache.
+ */
+@Component
+public class InventoryNearCache {
+
+    static final String CACHE_NAME = "inventory.near-cache";
+
+    private final boolean enabled;
+    private final Cache<String, InventoryCheckResponse> cache;
+
+    public InventoryNearCache(StockCheckProperties properties, MeterRegistry meterRegistry) {
+        StockCheckProperties.Cache config = properties.getCache();
+        this.enabled = config.isEnabled();
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(config.getMaxSize())
+            .expireAfterWrite(config.getTtl())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * @return cached inventory, or null on miss (always null when disabled)
+     */
+    public InventoryCheckResponse get(String productId) {
+        return enabled ? cache.getIfPresent(productId) : null;
+    }
+
+    /**
+     * @return cached entries for the given products; misses are absent from the map
+     */
+    public Map<String, InventoryCheckResponse> getAll(Collection<String> productIds) {
+        return enabled ? cache.getAllPresent(productIds) : Map.of();
+    }
+
+    public void put(InventoryCheckResponse inventory) {
+        if (enabled) {
+            cache.put(inventory.productId(), inventory);
+        }
+    }
+
+    /**
+     * Apply a StockChanged notification. A known quantity refreshes an entry
+     * that is already cached (and its TTL); anything else drops it so the
+     * next check goes to inventory-service.
+     */
+    public void applyStockChange(String productId, Integer quantity) {
+        if (quantity == null) {
+            cache.invalidate(productId);
+            return;
+        }
+        cache.asMap().computeIfPresent(productId, (id, cached) -> new InventoryCheckResponse(
+            cached.id(),
+            cached.productId(),
+            cached.productName(),
+            quantity,
+            cached.minStockLevel(),
+            cached.maxStockLevel(),
+            cached.location(),
+            cached.description()
+        ));
+    }
+}
@@ -1,13 +1,20 @@
 package com.ecommerce.order.infrastructure.client;
 
+import com.ecommerce.order.infrastructure.client.dto.InventoryBatchLookupRequest;
 import com.ecommerce.order.infrastructure.client.dto.InventoryCheckResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 /**
  * Feign client for inventory-service.
- * Maps to inventory-service OpenAPI spec: GET /api/v1/inventory/product/{productId}
+ * Maps to inventory-service OpenAPI spec:
+ * - GET /api/v1/inventory/product/{productId}
+ * - POST /api/v1/inventory/product/batch
  * 
  * Configuration:
  * - Base URL: ${inventory-service.url}
@@ -32,4 +39,15 @@ public interface InventoryServiceClient {
      */
     @GetMapping("/api/v1/inventory/product/{productId}")
     InventoryCheckResponse getInventoryByProductId(@PathVariable("productId") String productId);
+
+    /**
+     * Get inventory information for several products in one request.
+     * Unknown products are omitted from the response (no 404).
+     * 
+     * @param request product identifiers to look up
+     * @return inventory information for every product that exists
+     * @throws feign.FeignException if service error (5xx) or timeout
+     */
+    @PostMapping("/api/v1/inventory/product/batch")
+    List<InventoryCheckResponse> getInventoriesByProductIds(@RequestBody InventoryBatchLookupRequest request);
 }
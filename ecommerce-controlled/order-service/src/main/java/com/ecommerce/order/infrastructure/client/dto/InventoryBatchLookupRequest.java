@@ -0,0 +1,12 @@
+package com.ecommerce.order.infrastructure.client.dto;
+
+import java.util.List;
+
+/**
+ * DTO matching InventoryBatchLookupRequest from inventory-service OpenAPI contract.
+ * Used for the bulk lookup: POST /api/v1/inventory/product/batch
+ */
+public record InventoryBatchLookupRequest(
+    List<String> productIds
+) {
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.infrastructure.messaging.codec.EventEncoding;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Event payload encoding per output binding.
+ * Per docs/events/event-catalog.md (Encodings)
+ * 
+ * The encoding is chosen when the event is written to the outbox and travels
+ * with it as the contentType header, so consumers decode whatever they receive.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "events.encoding")
+@Data
+public class EventEncodingProperties {
+
+    /**
+     * Encoding for bindings without an explicit entry.
+     */
+    private EventEncoding defaultEncoding = EventEncoding.JSON;
+
+    /**
+     * Encoding by binding name, e.g. orderEvents-out-0: binary.
+     */
+    private Map<String, EventEncoding> bindings = new HashMap<>();
+
+    public EventEncoding forBinding(String binding) {
+        return bindings.getOrDefault(binding, defaultEncoding);
+    }
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.domain.service.IdGenerator;
+import com.ecommerce.order.domain.service.RandomUuidGenerator;
+import com.ecommerce.order.domain.service.UuidV7Generator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Identifier generator wiring (order.ids.version).
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(IdGeneratorProperties properties) {
+        return switch (properties.getVersion()) {
+            case V4 -> new RandomUuidGenerator();
+            case V7 -> new UuidV7Generator();
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.order.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Identifier generation configuration properties (see IdGeneratorConfig).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.ids")
+@Data
+public class IdGeneratorProperties {
+
+    /**
+     * V7: time-ordered UUIDs (append-mostly primary key inserts).
+     * V4: random UUIDs (previous behaviour).
+     * Applies to order ids and outbox event ids; order item ids are always V7.
+     */
+    private Version version = Version.V7;
+
+    public enum Version {
+        V4,
+        V7
+    }
+}
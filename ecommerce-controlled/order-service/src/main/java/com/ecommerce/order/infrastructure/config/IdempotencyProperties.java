@@ -0,0 +1,36 @@
+package com.ecommerce.order.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key configuration properties (see CaffeineIdempotencyStore, IdempotencyKeyCleanupJob).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.idempotency")
+@Data
+public class IdempotencyProperties {
+
+    /**
+     * How long a key is remembered after the order was created.
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Max keys held in memory; older keys are still answered from the table.
+     */
+    private long cacheMaxSize = 100_000;
+
+    /**
+     * Delay between runs of the expired-key cleanup.
+     */
+    private Duration cleanupInterval = Duration.ofMinutes(10);
+
+    /**
+     * Expired rows deleted per statement during cleanup.
+     */
+    private int cleanupChunkSize = 500;
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.order.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Order read cache configuration properties (see CaffeineOrderCache, D009).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.cache")
+@Data
+public class OrderCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on the estimated heap retained by cached orders.
+     * Orders are weighed by their line item count.
+     */
+    private DataSize maxWeight = DataSize.ofMegabytes(32);
+
+    /**
+     * TTL for orders that can still change (PENDING, CONFIRMED, SHIPPED).
+     * Also the staleness bound should an invalidation be missed.
+     */
+    private Duration activeTtl = Duration.ofSeconds(30);
+
+    /**
+     * TTL for DELIVERED and CANCELLED orders, which no longer change.
+     */
+    private Duration terminalTtl = Duration.ofHours(1);
+}
@@ -0,0 +1,25 @@
+package com.ecommerce.order.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Order export configuration properties (see OrderExportJdbcRepository).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.export")
+@Data
+public class OrderExportProperties {
+
+    /**
+     * Rows the JDBC driver fetches per round trip; bounds the rows held in memory.
+     */
+    private int fetchSize = 500;
+
+    /**
+     * Exports allowed to run at once. Each one holds a pooled connection and a
+     * read-only transaction for the whole download; further requests get 429.
+     */
+    private int maxConcurrent = 2;
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.order.infrastructure.config;
+
+import com.ecommerce.order.domain.service.OrderNumberGenerator;
+import com.ecommerce.order.domain.service.SequenceOrderNumberGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order number generator wiring.
+ * 
+ * Node id resolution (first match wins):
+ * 1. order.number.node-id
+ * 2. POD_IP (k8s downward API): low 16 bits of the IPv4 address. Pod IPs are
+ *    unique within the cluster and the usual pod CIDR is /16 or smaller, so
+ *    replicas get distinct node ids.
+ * 3. HOSTNAME hash (pod name): collisions possible, logged as a warning
+ * 4. random
+ */
+@Slf4j
+@Configuration
+public class OrderNumberGeneratorConfig {
+
+    @Bean
+    public OrderNumberGenerator orderNumberGenerator(OrderNumberProperties properties) {
+        int nodeId = resolveNodeId(properties.getNodeId(), System.getenv("POD_IP"), System.getenv("HOSTNAME"));
+        return new SequenceOrderNumberGenerator(nodeId);
+    }
+
+    static int resolveNodeId(Integer configured, String podIp, String hostname) {
+        if (configured != null) {
+            log.info("Order number node id {} (order.number.node-id)", configured);
+            return configured;
+        }
+        Integer fromIp = lowBitsOfIpv4(podIp);
+        if (fromIp != null) {
+            log.info("Order number node id {} (POD_IP {})", fromIp, podIp);
+            return fromIp;
+        }
+        if (hostname != null && !hostname.isBlank()) {
+            int fromHostname = hostname.hashCode() & SequenceOrderNumberGenerator.MAX_NODE_ID;
+            log.warn("Order number node id {} derived from HOSTNAME {}; set order.number.node-id or POD_IP "
+                    + "to rule out collisions between instances", fromHostname, hostname);
+            return fromHostname;
+        }
+        int random = ThreadLocalRandom.current().nextInt(SequenceOrderNumberGenerator.MAX_NODE_ID + 1);
+        log.warn("Order number node id {} chosen at random; set order.number.node-id", random);
+        return random;
+    }
+
+    private static Integer lowBitsOfIpv4(String ip) {
+        if (ip == null) {
+            return null;
+        }
+        String[] octets = ip.trim().split("\\.");
+        if (octets.length != 4) {
+            return null;
+        }
+        try {
+            int third = Integer.parseInt(octets[2]);
+            int fourth = Integer.parseInt(octets[3]);
+            if (third < 0 || third > 255 || fourth < 0 || fourth > 255) {
+                return null;
+            }
+            return (third << 8) | fourth;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
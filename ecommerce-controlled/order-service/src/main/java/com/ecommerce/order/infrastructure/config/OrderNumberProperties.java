@@ -0,0 +1,20 @@
+package com.ecommerce.order.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Order number generator configuration properties (see OrderNumberGeneratorConfig).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.number")
+@Data
+public class OrderNumberProperties {
+
+    /**
+     * Node id embedded in every order number (0-65535); must differ per running instance.
+     * Unset: derived from POD_IP (low 16 bits of the IPv4 address), else from HOSTNAME.
+     */
+    private Integer nodeId;
+}
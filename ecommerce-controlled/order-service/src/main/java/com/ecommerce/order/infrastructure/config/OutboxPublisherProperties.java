@@ -0,0 +1,82 @@
+package com.ecommerce.order.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Outbox publisher configuration properties.
+ * Per docs/events/outbox-pattern.md
+ */
+@Configuration
+@ConfigurationProperties(prefix = "outbox.publisher")
+@Data
+public class OutboxPublisherProperties {
+
+    /**
+     * BATCH: all events of a poll are sent through the Kafka producer without
+     * waiting on each other; statuses are written back with batched JDBC updates.
+     * SEQUENTIAL: one blocking StreamBridge send per event with in-place retry backoff.
+     */
+    private Mode mode = Mode.BATCH;
+
+    /**
+     * Maximum NEW events loaded per poll.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Delay between the end of one poll and the start of the next.
+     */
+    private Duration pollInterval = Duration.ofSeconds(5);
+
+    /**
+     * BATCH mode: how long to wait for broker acks of one batch; unacked events
+     * count as a failed attempt and are retried on a later poll.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(10);
+
+    /**
+     * Publish attempts before an event is marked FAILED.
+     */
+    private int maxAttempts = 5;
+
+    /**
+     * How long a claimed batch is reserved for this instance. Must exceed
+     * send-timeout; after it expires another replica may claim the events
+     * (e.g. when the pod died mid-batch).
+     */
+    private Duration leaseDuration = Duration.ofSeconds(30);
+
+    /**
+     * Lease owner id. Defaults to HOSTNAME (pod name on k8s), else a random id.
+     */
+    private String instanceId;
+
+    /**
+     * Commit-triggered dispatch (see OutboxDispatcher).
+     */
+    private Dispatch dispatch = new Dispatch();
+
+    @Data
+    public static class Dispatch {
+
+        /**
+         * Publish events right after the order transaction commits instead of
+         * waiting for the next poll. The poller keeps running as safety net.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Pending event ids held in memory; when full, events wait for the poller.
+         */
+        private int queueCapacity = 10_000;
+    }
+
+    public enum Mode {
+        BATCH,
+        SEQUENTIAL
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecommerce.order.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outbox retention configuration properties (see OutboxRetentionJob).
+ * Per docs/events/outbox-pattern.md
+ * 
+ * Only SENT rows are ever pruned; NEW and FAILED rows are kept.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "outbox.retention")
+@Data
+public class OutboxRetentionProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Delay between retention runs.
+     */
+    private Duration interval = Duration.ofMinutes(10);
+
+    /**
+     * SENT rows older than this are pruned.
+     */
+    private Duration maxAge = Duration.ofDays(7);
+
+    /**
+     * Upper bound on SENT rows kept; the oldest beyond it are pruned regardless of age.
+     */
+    private long maxSentRows = 100_000;
+
+    /**
+     * Rows selected / archived / deleted per statement.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Caps one run so it never holds the scheduler for long; the rest waits for the next run.
+     */
+    private int maxChunksPerRun = 200;
+
+    private Archive archive = new Archive();
+
+    @Data
+    public static class Archive {
+
+        /**
+         * Write pruned rows to gzip-compressed NDJSON segments before deleting them.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory for segment files (one new segment per run).
+         */
+        private Path directory = Path.of("outbox-archive");
+    }
+}
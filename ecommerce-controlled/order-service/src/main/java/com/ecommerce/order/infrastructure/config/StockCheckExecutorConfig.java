@@ -0,0 +1,23 @@
+package com.ecommerce.order.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor for fanning out per-item stock checks.
+ * 
+ * Virtual threads (Java 21, per D002): each blocking Feign call parks a cheap
+ * virtual thread instead of occupying a platform thread, so an order with
+ * 50 line items costs 50 virtual threads, not 50 pool slots.
+ */
+@Configuration
+public class StockCheckExecutorConfig {
+
+    @Bean(name = "stockCheckExecutor", destroyMethod = "close")
+    public ExecutorService stockCheckExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
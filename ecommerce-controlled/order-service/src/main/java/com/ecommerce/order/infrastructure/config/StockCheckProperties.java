@@ -0,0 +1,54 @@
+package com.ecommerce.order.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Stock check configuration properties.
+ * Controls how StockCheckAdapter talks to inventory-service for a whole order.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "order.stock-check")
+@Data
+public class StockCheckProperties {
+
+    /**
+     * BULK: one POST /api/v1/inventory/product/batch call per order.
+     * CONCURRENT: one GET per line item, fanned out on virtual threads
+     * (for inventory-service deployments without the bulk endpoint).
+     */
+    private Mode mode = Mode.BULK;
+
+    /**
+     * Overall deadline for all stock checks of one order (CONCURRENT mode).
+     * Remaining calls are cancelled once it expires or the first call fails.
+     */
+    private Duration deadline = Duration.ofSeconds(5);
+
+    /**
+     * Local near-cache of inventory levels (see InventoryNearCache, D009).
+     */
+    private Cache cache = new Cache();
+
+    @Data
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        /**
+         * Staleness bound: entries expire this long after being loaded or
+         * refreshed, even if a StockChanged event is lost.
+         */
+        private Duration ttl = Duration.ofSeconds(5);
+
+        private long maxSize = 10_000;
+    }
+
+    public enum Mode {
+        BULK,
+        CONCURRENT
+    }
+}
@@ -0,0 +1,118 @@
+package com.ecommerce.order.infrastructure.messaging;
+
+import com.ecommerce.order.infrastructure.config.OutboxPublisherProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Commit-triggered outbox dispatch.
+ * Per docs/events/outbox-pattern.md
+ * 
+ * OutboxService registers each new outbox row here; after the business
+ * transaction commits the id goes onto a bounded in-memory queue, and a
+ * single dispatcher thread publishes it through OutboxPublisher right away.
+ * 
+ * The outbox table stays the source of truth: the queue only holds ids, the
+ * row is claimed (lease) before publishing, and anything lost here (queue
+ * full, crash, publish failure) is still NEW and picked up by the poller.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher implements SmartLifecycle {
+
+    private final OutboxPublisher outboxPublisher;
+    private final OutboxPublisherProperties properties;
+    private final BlockingQueue<UUID> queue;
+
+    private volatile Thread worker;
+
+    public OutboxDispatcher(OutboxPublisher outboxPublisher, OutboxPublisherProperties properties) {
+        this.outboxPublisher = outboxPublisher;
+        this.properties = properties;
+        this.queue = new LinkedBlockingQueue<>(properties.getDispatch().getQueueCapacity());
+    }
+
+    /**
+     * Queue an outbox event for publishing once the current transaction commits.
+     * No-op when dispatch is disabled; outside a transaction the id is queued immediately.
+     */
+    public void dispatchAfterCommit(UUID outboxId) {
+        if (!properties.getDispatch().isEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(outboxId);
+                }
+            });
+        } else {
+            enqueue(outboxId);
+        }
+    }
+
+    void enqueue(UUID outboxId) {
+        if (!queue.offer(outboxId)) {
+            // Row is committed as NEW; the poller will publish it
+            log.debug("Outbox dispatch queue full, leaving event to poller: eventId={}", outboxId);
+        }
+    }
+
+    /**
+     * Wait for the next id, then drain whatever else is queued (up to batch-size)
+     * so bursts are published as one batch.
+     */
+    private void run() {
+        List<UUID> batch = new ArrayList<>(properties.getBatchSize());
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                outboxPublisher.publishByIds(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                // Events stay NEW; the poller retries them
+                log.warn("Outbox dispatch failed for {} events: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!properties.getDispatch().isEnabled() || worker != null) {
+            return;
+        }
+        worker = Thread.ofPlatform()
+            .name("outbox-dispatcher")
+            .daemon(true)
+            .start(this::run);
+        log.info("Outbox dispatcher started: queueCapacity={}", properties.getDispatch().getQueueCapacity());
+    }
+
+    @Override
+    public void stop() {
+        Thread current = worker;
+        worker = null;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+}
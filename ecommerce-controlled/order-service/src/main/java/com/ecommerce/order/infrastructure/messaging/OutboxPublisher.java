@@ -1,14 +1,32 @@
 package com.ecommerce.order.infrastructure.messaging;
 
+import com.ecommerce.order.infrastructure.config.OutboxPublisherProperties;
 import com.ecommerce.order.infrastructure.persistence.OutboxEntity;
+import com.ecommerce.order.infrastructure.persistence.OutboxJdbcRepository;
 import com.ecommerce.order.infrastructure.persistence.OutboxRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
 import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Polling publisher for outbox pattern.
@@ -16,60 +34,180 @@ import java.util.List;
  * 
  * Runs in SEPARATE transaction from business write (critical!).
  * Publishes NEW events to Kafka with at-least-once semantics.
+ * 
+ * Multi-replica safe: each poll claims a batch with a row-level lease
+ * (claimed_by, lease_expires_at) via FOR UPDATE SKIP LOCKED, so replicas
+ * sharing the outbox table split the backlog instead of publishing it twice.
+ * Leases of a dead instance expire and the events are claimed again.
+ * 
+ * With outbox.publisher.dispatch.enabled, freshly committed events are
+ * published immediately by OutboxDispatcher; this poller then only picks up
+ * what the dispatcher missed (queue overflow, crash before publish).
+ * 
+ * Payloads are sent as stored (already encoded) with their contentType header,
+ * so consumers pick the matching decoder (see EventEncodingProperties).
+ * 
+ * Modes (see OutboxPublisherProperties.Mode):
+ * - BATCH: every event of the poll is handed to the Kafka producer at once,
+ *   acks arrive through the producer callbacks, then one UPDATE marks the
+ *   acked events SENT and one JDBC batch records the failures.
+ * - SEQUENTIAL: one blocking StreamBridge send per event with backoff retries.
  */
 @Component
 @Slf4j
 public class OutboxPublisher {
 
+    public static final String BINDING = "orderEvents-out-0";
+
     private final OutboxRepository outboxRepository;
+    private final OutboxJdbcRepository outboxJdbcRepository;
     private final StreamBridge streamBridge;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final BindingServiceProperties bindingServiceProperties;
+    private final OutboxPublisherProperties properties;
+    private final String instanceId;
     
-    // Retry configuration per outbox-pattern.md
-    private static final int MAX_RETRIES = 5;
+    // Retry configuration per outbox-pattern.md (SEQUENTIAL mode)
     private static final long[] BACKOFF_MS = {100, 200, 400, 800, 1600};
 
-    public OutboxPublisher(OutboxRepository outboxRepository, StreamBridge streamBridge) {
+    public OutboxPublisher(
+            OutboxRepository outboxRepository,
+            OutboxJdbcRepository outboxJdbcRepository,
+            StreamBridge streamBridge,
+            KafkaTemplate<String, byte[]> kafkaTemplate,
+            BindingServiceProperties bindingServiceProperties,
+            OutboxPublisherProperties properties) {
         this.outboxRepository = outboxRepository;
+        this.outboxJdbcRepository = outboxJdbcRepository;
         this.streamBridge = streamBridge;
+        this.kafkaTemplate = kafkaTemplate;
+        this.bindingServiceProperties = bindingServiceProperties;
+        this.properties = properties;
+        this.instanceId = resolveInstanceId(properties.getInstanceId());
     }
 
     /**
      * Poll and publish NEW outbox events.
-     * Scheduled every 5 seconds per outbox-pattern.md.
-     * Batch size: 10 events.
+     * Interval: outbox.publisher.poll-interval (default 5 seconds per outbox-pattern.md).
+     * Batch size: outbox.publisher.batch-size.
      */
-    @Scheduled(fixedDelay = 50000)
+    @Scheduled(fixedDelayString = "#{@outboxPublisherProperties.pollInterval.toMillis()}")
     public void publishPendingEvents() {
-        List<OutboxEntity> newEvents = outboxRepository.findNewEventsForPublishing();
+        List<OutboxEntity> batch = outboxRepository.claimBatch(
+            instanceId, properties.getLeaseDuration(), properties.getBatchSize());
         
-        if (newEvents.isEmpty()) {
+        if (batch.isEmpty()) {
             return;
         }
         
-        log.info("Found {} NEW events to publish", newEvents.size());
+        log.info("Claimed {} NEW events to publish: instanceId={}", batch.size(), instanceId);
         
-        // Limit to batch size of 10 per outbox-pattern.md
-        List<OutboxEntity> batch = newEvents.stream().limit(10).toList();
+        publish(batch);
+    }
+
+    /**
+     * Publish specific events right away (commit-triggered dispatch, see OutboxDispatcher).
+     * Events already published, or claimed by the poller or another replica, are skipped.
+     */
+    public void publishByIds(Collection<UUID> ids) {
+        List<OutboxEntity> batch = outboxRepository.claimByIds(ids, instanceId, properties.getLeaseDuration());
         
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        log.debug("Claimed {} dispatched events to publish: instanceId={}", batch.size(), instanceId);
+        
+        publish(batch);
+    }
+
+    private void publish(List<OutboxEntity> batch) {
+        if (properties.getMode() == OutboxPublisherProperties.Mode.SEQUENTIAL) {
+            for (OutboxEntity event : batch) {
+                publishEventWithRetry(event);
+            }
+        } else {
+            publishBatch(batch);
+        }
+    }
+
+    /**
+     * Send the whole batch without waiting between events, then wait (bounded by
+     * send-timeout) for the producer callbacks and write statuses back in bulk.
+     * Events that fail or are not acked in time stay NEW with retry_count + 1
+     * and are retried on the next poll; after max-attempts they become FAILED.
+     */
+    private void publishBatch(List<OutboxEntity> batch) {
+        String topic = bindingServiceProperties.getBindingDestination(BINDING);
+        Set<UUID> acked = ConcurrentHashMap.newKeySet();
+        Map<UUID, String> errors = new ConcurrentHashMap<>();
+        List<CompletableFuture<?>> pending = new ArrayList<>(batch.size());
+
         for (OutboxEntity event : batch) {
-            publishEventWithRetry(event);
+            UUID id = event.getId();
+            try {
+                // Topic: order.events, Key: aggregateId (orderId)
+                pending.add(kafkaTemplate
+                    .send(MessageBuilder.withPayload(event.getPayload())
+                        .setHeader(KafkaHeaders.TOPIC, topic)
+                        .setHeader(KafkaHeaders.KEY, event.getAggregateId().toString())
+                        .setHeader(MessageHeaders.CONTENT_TYPE, event.getContentType())
+                        .build())
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            acked.add(id);
+                        } else {
+                            errors.put(id, String.valueOf(ex.getMessage()));
+                        }
+                    }));
+            } catch (Exception e) {
+                errors.put(id, String.valueOf(e.getMessage()));
+            }
+        }
+
+        boolean interrupted = false;
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .get(properties.getSendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Already recorded per event by the callbacks
+        } catch (TimeoutException e) {
+            log.warn("Outbox batch not fully acked within {}ms", properties.getSendTimeout().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupted = true;
         }
+
+        Set<UUID> sent = Set.copyOf(acked);
+        if (!interrupted) {
+            for (OutboxEntity event : batch) {
+                if (!sent.contains(event.getId())) {
+                    errors.putIfAbsent(event.getId(), "No broker ack within send timeout");
+                }
+            }
+        }
+
+        outboxJdbcRepository.markSent(sent, Instant.now());
+        outboxJdbcRepository.recordFailures(Map.copyOf(errors), instanceId, properties.getMaxAttempts());
+
+        log.info("Outbox batch published: sent={}, failed={}", sent.size(), errors.size());
     }
 
     /**
      * Publish single event with retry logic.
-     * Max 5 attempts with exponential backoff.
+     * Max attempts with exponential backoff.
      */
     private void publishEventWithRetry(OutboxEntity event) {
-        for (int attempt = 1; attempt <= MAX_RETRIES; attempt++) {
+        int maxAttempts = properties.getMaxAttempts();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
             try {
                 // Publish to Kafka using Spring Cloud Stream
                 // Topic: order.events, Key: aggregateId (orderId)
                 boolean sent = streamBridge.send(
-                    "orderEvents-out-0",
-                    org.springframework.messaging.support.MessageBuilder
-                        .withPayload(event.getPayload())
+                    BINDING,
+                    MessageBuilder.withPayload(event.getPayload())
                         .setHeader("messageKey", event.getAggregateId().toString())
+                        .setHeader(MessageHeaders.CONTENT_TYPE, event.getContentType())
                         .build()
                 );
                 
@@ -82,12 +220,12 @@ public class OutboxPublisher {
                 
             } catch (Exception e) {
                 log.warn("Failed to publish event (attempt {}/{}): eventId={}, error={}", 
-                    attempt, MAX_RETRIES, event.getId(), e.getMessage());
+                    attempt, maxAttempts, event.getId(), e.getMessage());
                 
-                if (attempt < MAX_RETRIES) {
+                if (attempt < maxAttempts) {
                     // Exponential backoff
                     try {
-                        Thread.sleep(BACKOFF_MS[attempt - 1]);
+                        Thread.sleep(BACKOFF_MS[Math.min(attempt, BACKOFF_MS.length) - 1]);
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
                         break;
@@ -96,12 +234,20 @@ public class OutboxPublisher {
                     // Max retries exceeded - mark as FAILED
                     markEventAsFailed(event, e.getMessage());
                     log.error("Event marked as FAILED after {} retries: eventId={}", 
-                        MAX_RETRIES, event.getId());
+                        maxAttempts, event.getId());
                 }
             }
         }
     }
 
+    private static String resolveInstanceId(String configured) {
+        if (configured != null && !configured.isBlank()) {
+            return configured;
+        }
+        String hostname = System.getenv("HOSTNAME");
+        return hostname != null && !hostname.isBlank() ? hostname : UUID.randomUUID().toString();
+    }
+
     /**
      * Mark event as SENT in separate transaction.
      */
@@ -0,0 +1,57 @@
+package com.ecommerce.order.infrastructure.messaging;
+
+import com.ecommerce.order.infrastructure.cache.InventoryNearCache;
+import com.ecommerce.order.infrastructure.messaging.event.StockChangedEvent;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.messaging.Message;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Kafka consumer for StockChanged events (D009).
+ * Per docs/architecture/communication-matrix.md
+ * 
+ * Topic: inventory.events
+ * Consumer group: none - every replica must see every change to keep its own
+ * near-cache fresh (broadcast, starts from latest offset).
+ * Failures are logged and dropped: the cache TTL bounds staleness.
+ */
+@Component
+@Slf4j
+public class StockChangedEventConsumer {
+
+    private final InventoryNearCache inventoryNearCache;
+    private final ObjectMapper objectMapper;
+
+    public StockChangedEventConsumer(InventoryNearCache inventoryNearCache) {
+        this.inventoryNearCache = inventoryNearCache;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * Spring Cloud Stream functional consumer.
+     * Bean name matches application.yml binding configuration.
+     */
+    @Bean
+    public Consumer<Message<String>> stockChangedConsumer() {
+        return message -> {
+            try {
+                StockChangedEvent event = objectMapper.readValue(message.getPayload(), StockChangedEvent.class);
+                inventoryNearCache.applyStockChange(event.productId(), event.quantity());
+
+                log.debug("StockChanged applied to near-cache: productId={}, quantity={}",
+                    event.productId(), event.quantity());
+
+            } catch (Exception e) {
+                log.warn("Failed to process StockChanged event: {}", e.getMessage());
+            }
+        };
+    }
+}
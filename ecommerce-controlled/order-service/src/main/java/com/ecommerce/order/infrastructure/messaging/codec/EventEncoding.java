@@ -0,0 +1,39 @@
+package com.ecommerce.order.infrastructure.messaging.codec;
+
+/**
+ * Wire encodings for events on Kafka, identified by the contentType header.
+ * Per docs/events/event-catalog.md (Encodings)
+ */
+public enum EventEncoding {
+
+    /** Jackson JSON, the catalog's reference representation */
+    JSON("application/json"),
+
+    /** Compact versioned binary format (see OrderCreatedEventBinaryFormat) */
+    BINARY("application/vnd.ecommerce.event+binary");
+
+    private final String contentType;
+
+    EventEncoding(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    /**
+     * Resolve an encoding from a contentType header value (parameters ignored).
+     * 
+     * @throws IllegalArgumentException for unknown content types
+     */
+    public static EventEncoding fromContentType(String contentType) {
+        String mimeType = contentType.split(";", 2)[0].trim();
+        for (EventEncoding encoding : values()) {
+            if (encoding.contentType.equalsIgnoreCase(mimeType)) {
+                return encoding;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported event content type: " + contentType);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ecommerce.order.infrastructure.messaging.codec;
+
+import com.ecommerce.order.domain.event.OrderCreatedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Encodes/decodes OrderCreated events in any supported EventEncoding.
+ * Per docs/events/event-catalog.md (Encodings)
+ * 
+ * Holds the single ObjectMapper used for JSON event payloads.
+ */
+@Component
+public class OrderCreatedEventCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public OrderCreatedEventCodec() {
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * @throws IllegalStateException if JSON serialization fails
+     */
+    public byte[] encode(OrderCreatedEvent event, EventEncoding encoding) {
+        return switch (encoding) {
+            case BINARY -> OrderCreatedEventBinaryFormat.encode(event);
+            case JSON -> {
+                try {
+                    yield objectMapper.writeValueAsBytes(event);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Failed to serialize event to JSON", e);
+                }
+            }
+        };
+    }
+
+    /**
+     * @throws IllegalArgumentException if the payload cannot be decoded
+     */
+    public OrderCreatedEvent decode(byte[] payload, EventEncoding encoding) {
+        return switch (encoding) {
+            case BINARY -> OrderCreatedEventBinaryFormat.decode(payload);
+            case JSON -> {
+                try {
+                    yield objectMapper.readValue(payload, OrderCreatedEvent.class);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Invalid JSON event payload", e);
+                }
+            }
+        };
+    }
+}
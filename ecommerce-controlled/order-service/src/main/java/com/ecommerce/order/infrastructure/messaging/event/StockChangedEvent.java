@@ -0,0 +1,21 @@
+package com.ecommerce.order.infrastructure.messaging.event;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * StockChanged (v1) as published by inventory-service on inventory.events.
+ * Per docs/events/event-catalog.md
+ * 
+ * quantity is the stock after the change; null means unknown.
+ */
+public record StockChangedEvent(
+    UUID eventId,
+    String eventType,
+    String version,
+    OffsetDateTime timestamp,
+    String productId,
+    Integer quantity,
+    Integer quantityChange
+) {
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Table definition of the per-customer order summary projection.
+ * Rows are written and read through CustomerOrderSummaryJdbcRepository (atomic
+ * increments), never through the entity manager.
+ */
+@Entity
+@Table(name = "customer_order_summary")
+@Data
+@NoArgsConstructor
+public class CustomerOrderSummaryEntity {
+
+    @Id
+    @Column(name = "customer_id", length = 36)
+    private String customerId;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Column(name = "pending_count", nullable = false)
+    private long pendingCount;
+
+    @Column(name = "confirmed_count", nullable = false)
+    private long confirmedCount;
+
+    @Column(name = "shipped_count", nullable = false)
+    private long shippedCount;
+
+    @Column(name = "delivered_count", nullable = false)
+    private long deliveredCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    /**
+     * Sum of totalAmount over non-cancelled orders
+     */
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "last_order_id")
+    private UUID lastOrderId;
+
+    @Column(name = "last_order_number")
+    private String lastOrderNumber;
+
+    @Column(name = "last_order_status", length = 50)
+    private String lastOrderStatus;
+
+    @Column(name = "last_order_at")
+    private Instant lastOrderAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
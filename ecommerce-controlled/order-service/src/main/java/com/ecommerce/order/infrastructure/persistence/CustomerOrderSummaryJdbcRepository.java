@@ -0,0 +1,343 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderStatus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of the customer order summary projection.
+ *
+ * Every change is a relative UPDATE (count = count + 1) on the customer's row, so
+ * concurrent transactions for the same customer serialize on the row lock instead
+ * of overwriting each other. Statements run on the caller's transaction connection.
+ *
+ * Missing rows: a customer's first order inserts the row (a concurrent insert
+ * falls back to the UPDATE); any other change rebuilds the row from the customer's
+ * other orders and then adds the changed order in its new state. The changed
+ * order's own row is never read, so the result is the same whether or not the
+ * current transaction has flushed it yet.
+ */
+@Repository
+public class CustomerOrderSummaryJdbcRepository implements CustomerOrderSummaryProjection {
+
+    private static final Map<OrderStatus, String> COUNT_COLUMNS = new EnumMap<>(Map.of(
+        OrderStatus.PENDING, "pending_count",
+        OrderStatus.CONFIRMED, "confirmed_count",
+        OrderStatus.SHIPPED, "shipped_count",
+        OrderStatus.DELIVERED, "delivered_count",
+        OrderStatus.CANCELLED, "cancelled_count"
+    ));
+
+    // Right-hand sides see the old row, so last_order_at is compared before it is replaced
+    private static final String ADD_CREATED = """
+        UPDATE customer_order_summary
+           SET order_count = order_count + :orders,
+               pending_count = pending_count + :orders,
+               total_amount = total_amount + :amount,
+               last_order_id = CASE WHEN last_order_at IS NULL OR last_order_at <= :lastOrderAt
+                                    THEN :lastOrderId ELSE last_order_id END,
+               last_order_number = CASE WHEN last_order_at IS NULL OR last_order_at <= :lastOrderAt
+                                        THEN :lastOrderNumber ELSE last_order_number END,
+               last_order_status = CASE WHEN last_order_at IS NULL OR last_order_at <= :lastOrderAt
+                                        THEN 'PENDING' ELSE last_order_status END,
+               last_order_at = CASE WHEN last_order_at IS NULL OR last_order_at <= :lastOrderAt
+                                    THEN :lastOrderAt ELSE last_order_at END,
+               updated_at = :now
+         WHERE customer_id = :customerId
+        """;
+
+    private static final String INSERT_CREATED = """
+        INSERT INTO customer_order_summary (
+            customer_id, order_count, pending_count, confirmed_count, shipped_count, delivered_count,
+            cancelled_count, total_amount, last_order_id, last_order_number, last_order_status, last_order_at, updated_at)
+        VALUES (:customerId, :orders, :orders, 0, 0, 0, 0, :amount, :lastOrderId, :lastOrderNumber, 'PENDING', :lastOrderAt, :now)
+        """;
+
+    private static final String CHANGE_STATUS = """
+        UPDATE customer_order_summary
+           SET %1$s = %1$s - 1,
+               %2$s = %2$s + 1,
+               total_amount = total_amount - :removedAmount,
+               last_order_status = CASE WHEN last_order_id = :orderId THEN :status ELSE last_order_status END,
+               updated_at = :now
+         WHERE customer_id = :customerId
+        """;
+
+    private static final String REMOVE_ORDER = """
+        UPDATE customer_order_summary
+           SET order_count = order_count - 1,
+               %1$s = %1$s - 1,
+               total_amount = total_amount - :removedAmount,
+               updated_at = :now
+         WHERE customer_id = :customerId
+        """;
+
+    // Uses idx_orders_customer_created_id
+    private static final String FIND_LATEST_OTHER_ORDER = """
+        SELECT id, order_number, status, created_at
+          FROM orders
+         WHERE customer_id = :customerId AND id <> :orderId
+         ORDER BY created_at DESC, id DESC
+         LIMIT 1
+        """;
+
+    private static final String REPLACE_LAST_ORDER = """
+        UPDATE customer_order_summary
+           SET last_order_id = :lastOrderId,
+               last_order_number = :lastOrderNumber,
+               last_order_status = :lastOrderStatus,
+               last_order_at = :lastOrderAt
+         WHERE customer_id = :customerId AND last_order_id = :orderId
+        """;
+
+    // Right-hand sides see the old row, so last_order_at is compared before it is replaced
+    private static final String ADD_ORDER = """
+        UPDATE customer_order_summary
+           SET order_count = order_count + 1,
+               %1$s = %1$s + 1,
+               total_amount = total_amount + :addedAmount,
+               last_order_id = CASE WHEN last_order_at IS NULL OR last_order_at <= :lastOrderAt
+                                    THEN :orderId ELSE last_order_id END,
+               last_order_number = CASE WHEN last_order_at IS NULL OR last_order_at <= :lastOrderAt
+                                        THEN :lastOrderNumber ELSE last_order_number END,
+               last_order_status = CASE WHEN last_order_at IS NULL OR last_order_at <= :lastOrderAt
+                                        THEN :status ELSE last_order_status END,
+               last_order_at = CASE WHEN last_order_at IS NULL OR last_order_at <= :lastOrderAt
+                                    THEN :lastOrderAt ELSE last_order_at END,
+               updated_at = :now
+         WHERE customer_id = :customerId
+        """;
+
+    private static final String INSERT_EMPTY = """
+        INSERT INTO customer_order_summary (
+            customer_id, order_count, pending_count, confirmed_count, shipped_count, delivered_count,
+            cancelled_count, total_amount, last_order_id, last_order_number, last_order_status, last_order_at, updated_at)
+        VALUES (:customerId, 0, 0, 0, 0, 0, 0, 0, NULL, NULL, NULL, NULL, :now)
+        """;
+
+    // Every order of the customer except :orderId, whose stored row may or may not be flushed yet
+    private static final String REBUILD_WITHOUT_ORDER = """
+        INSERT INTO customer_order_summary (
+            customer_id, order_count, pending_count, confirmed_count, shipped_count, delivered_count,
+            cancelled_count, total_amount, last_order_id, last_order_number, last_order_status, last_order_at, updated_at)
+        SELECT o.customer_id,
+               COUNT(*),
+               SUM(CASE WHEN o.status = 'PENDING' THEN 1 ELSE 0 END),
+               SUM(CASE WHEN o.status = 'CONFIRMED' THEN 1 ELSE 0 END),
+               SUM(CASE WHEN o.status = 'SHIPPED' THEN 1 ELSE 0 END),
+               SUM(CASE WHEN o.status = 'DELIVERED' THEN 1 ELSE 0 END),
+               SUM(CASE WHEN o.status = 'CANCELLED' THEN 1 ELSE 0 END),
+               COALESCE(SUM(CASE WHEN o.status <> 'CANCELLED' THEN o.total_amount END), 0),
+               l.id, l.order_number, l.status, l.created_at, :now
+          FROM orders o
+          JOIN (SELECT id, order_number, status, created_at
+                  FROM orders
+                 WHERE customer_id = :customerId AND id <> :orderId
+                 ORDER BY created_at DESC, id DESC
+                 LIMIT 1) l ON 1 = 1
+         WHERE o.customer_id = :customerId AND o.id <> :orderId
+         GROUP BY o.customer_id, l.id, l.order_number, l.status, l.created_at
+        """;
+
+    private static final String FIND = """
+        SELECT * FROM customer_order_summary WHERE customer_id = :customerId
+        """;
+
+    private static final RowMapper<CustomerOrderSummary> ROW_MAPPER = (rs, rowNum) -> {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (Map.Entry<OrderStatus, String> column : COUNT_COLUMNS.entrySet()) {
+            counts.put(column.getKey(), rs.getLong(column.getValue()));
+        }
+        String lastOrderStatus = rs.getString("last_order_status");
+        return new CustomerOrderSummary(
+            UUID.fromString(rs.getString("customer_id")),
+            rs.getLong("order_count"),
+            counts,
+            rs.getBigDecimal("total_amount"),
+            rs.getObject("last_order_id", UUID.class),
+            rs.getString("last_order_number"),
+            lastOrderStatus != null ? OrderStatus.valueOf(lastOrderStatus) : null,
+            toInstant(rs.getTimestamp("last_order_at")),
+            toInstant(rs.getTimestamp("updated_at"))
+        );
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public CustomerOrderSummaryJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void recordCreated(Collection<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        // One row change per customer, even when a bulk chunk holds several of their orders
+        Map<UUID, List<Order>> byCustomer = new LinkedHashMap<>();
+        for (Order order : orders) {
+            byCustomer.computeIfAbsent(order.getCustomerId(), id -> new ArrayList<>()).add(order);
+        }
+        MapSqlParameterSource[] batch = byCustomer.values().stream()
+            .map(customerOrders -> createdParams(customerOrders, now))
+            .toArray(MapSqlParameterSource[]::new);
+
+        int[] updated = jdbcTemplate.batchUpdate(ADD_CREATED, batch);
+        for (int i = 0; i < batch.length; i++) {
+            if (updated[i] == 0) {
+                insertFirst(batch[i]);
+            }
+        }
+    }
+
+    private void insertFirst(MapSqlParameterSource params) {
+        try {
+            jdbcTemplate.update(INSERT_CREATED, params);
+        } catch (DuplicateKeyException e) {
+            // Another transaction created the row in the meantime
+            jdbcTemplate.update(ADD_CREATED, params);
+        }
+    }
+
+    @Override
+    public void recordStatusChanged(Order order, OrderStatus previousStatus) {
+        OrderStatus status = order.getStatus();
+        if (status == previousStatus) {
+            return;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("customerId", order.getCustomerId().toString())
+            .addValue("orderId", order.getId())
+            .addValue("status", status.name())
+            .addValue("removedAmount", status == OrderStatus.CANCELLED ? amountOf(order) : BigDecimal.ZERO)
+            .addValue("now", Timestamp.from(Instant.now()));
+        String sql = CHANGE_STATUS.formatted(COUNT_COLUMNS.get(previousStatus), COUNT_COLUMNS.get(status));
+        updateOrRebuild(sql, params, order);
+    }
+
+    @Override
+    public void recordDeleted(Order order) {
+        String customerId = order.getCustomerId().toString();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("customerId", customerId)
+            .addValue("orderId", order.getId())
+            .addValue("removedAmount", order.getStatus() == OrderStatus.CANCELLED ? BigDecimal.ZERO : amountOf(order))
+            .addValue("now", Timestamp.from(Instant.now()));
+        updateOrRebuild(REMOVE_ORDER.formatted(COUNT_COLUMNS.get(order.getStatus())), params, null);
+
+        // Only changes the row if the deleted order was the latest one; excluded by id, flushed or not
+        List<MapSqlParameterSource> next = jdbcTemplate.query(FIND_LATEST_OTHER_ORDER, params,
+            (rs, rowNum) -> lastOrderParams(rs));
+        MapSqlParameterSource replacement = next.isEmpty() ? noLastOrder() : next.get(0);
+        jdbcTemplate.update(REPLACE_LAST_ORDER, replacement
+            .addValue("customerId", customerId)
+            .addValue("orderId", order.getId()));
+    }
+
+    @Override
+    public Optional<CustomerOrderSummary> find(UUID customerId) {
+        return jdbcTemplate.query(FIND, new MapSqlParameterSource("customerId", customerId.toString()), ROW_MAPPER)
+            .stream()
+            .findFirst();
+    }
+
+    /**
+     * Apply a relative change; without a row, rebuild it from the other orders
+     * and add the changed order's contribution (none if it was deleted).
+     */
+    private void updateOrRebuild(String sql, MapSqlParameterSource params, Order changed) {
+        if (jdbcTemplate.update(sql, params) > 0) {
+            return;
+        }
+        try {
+            if (jdbcTemplate.update(REBUILD_WITHOUT_ORDER, params) == 0) {
+                if (changed == null) {
+                    return; // no other stored orders for this customer, nothing to summarize
+                }
+                jdbcTemplate.update(INSERT_EMPTY, params);
+            }
+        } catch (DuplicateKeyException e) {
+            // Rebuilt concurrently from committed orders; apply the change to that row
+            jdbcTemplate.update(sql, params);
+            return;
+        }
+        if (changed != null) {
+            OrderStatus status = changed.getStatus();
+            jdbcTemplate.update(ADD_ORDER.formatted(COUNT_COLUMNS.get(status)), new MapSqlParameterSource()
+                .addValue("customerId", changed.getCustomerId().toString())
+                .addValue("orderId", changed.getId())
+                .addValue("lastOrderNumber", changed.getOrderNumber())
+                .addValue("lastOrderAt", Timestamp.from(createdAt(changed)))
+                .addValue("status", status.name())
+                .addValue("addedAmount", status == OrderStatus.CANCELLED ? BigDecimal.ZERO : amountOf(changed))
+                .addValue("now", params.getValue("now")));
+        }
+    }
+
+    private static MapSqlParameterSource createdParams(List<Order> customerOrders, Timestamp now) {
+        Order latest = customerOrders.stream()
+            .max(Comparator.comparing(CustomerOrderSummaryJdbcRepository::createdAt).thenComparing(Order::getId))
+            .orElseThrow();
+        BigDecimal amount = customerOrders.stream()
+            .map(CustomerOrderSummaryJdbcRepository::amountOf)
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new MapSqlParameterSource()
+            .addValue("customerId", latest.getCustomerId().toString())
+            .addValue("orders", customerOrders.size())
+            .addValue("amount", amount)
+            .addValue("lastOrderId", latest.getId())
+            .addValue("lastOrderNumber", latest.getOrderNumber())
+            .addValue("lastOrderAt", Timestamp.from(createdAt(latest)))
+            .addValue("now", now);
+    }
+
+    private static MapSqlParameterSource lastOrderParams(ResultSet rs) throws SQLException {
+        return new MapSqlParameterSource()
+            .addValue("lastOrderId", rs.getObject("id", UUID.class))
+            .addValue("lastOrderNumber", rs.getString("order_number"))
+            .addValue("lastOrderStatus", rs.getString("status"))
+            .addValue("lastOrderAt", rs.getTimestamp("created_at"));
+    }
+
+    private static MapSqlParameterSource noLastOrder() {
+        return new MapSqlParameterSource()
+            .addValue("lastOrderId", null, Types.OTHER)
+            .addValue("lastOrderNumber", null, Types.VARCHAR)
+            .addValue("lastOrderStatus", null, Types.VARCHAR)
+            .addValue("lastOrderAt", null, Types.TIMESTAMP);
+    }
+
+    private static Instant createdAt(Order order) {
+        return order.getCreatedAt() != null ? order.getCreatedAt() : Instant.now();
+    }
+
+    private static BigDecimal amountOf(Order order) {
+        return order.getTotalAmount() != null ? order.getTotalAmount() : BigDecimal.ZERO;
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
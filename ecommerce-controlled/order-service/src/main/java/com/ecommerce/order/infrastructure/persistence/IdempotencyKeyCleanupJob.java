@@ -0,0 +1,56 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.infrastructure.config.IdempotencyProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Deletes expired Idempotency-Key rows in chunks of order.idempotency.cleanup-chunk-size.
+ * In-memory entries expire on their own (see CaffeineIdempotencyStore).
+ * 
+ * Metrics:
+ * - order.idempotency.expired: rows deleted
+ */
+@Component
+@Slf4j
+public class IdempotencyKeyCleanupJob {
+
+    private final IdempotencyKeyRepository repository;
+    private final IdempotencyProperties properties;
+    private final Counter expired;
+
+    public IdempotencyKeyCleanupJob(
+            IdempotencyKeyRepository repository,
+            IdempotencyProperties properties,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.expired = Counter.builder("order.idempotency.expired")
+            .description("Expired Idempotency-Key rows deleted")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(
+        initialDelayString = "#{@idempotencyProperties.cleanupInterval.toMillis()}",
+        fixedDelayString = "#{@idempotencyProperties.cleanupInterval.toMillis()}")
+    public void deleteExpiredKeys() {
+        Instant now = Instant.now();
+        int chunkSize = properties.getCleanupChunkSize();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = repository.deleteExpired(now, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+
+        expired.increment(total);
+        if (total > 0) {
+            log.info("Deleted {} expired Idempotency-Key rows", total);
+        }
+    }
+}
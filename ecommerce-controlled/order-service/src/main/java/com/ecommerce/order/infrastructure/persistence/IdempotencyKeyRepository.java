@@ -0,0 +1,33 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Repository for persisted Idempotency-Key results.
+ */
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+    /**
+     * Delete up to limit expired keys (uses idx_idempotency_keys_expires).
+     * 
+     * @return rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM idempotency_keys
+         WHERE idempotency_key IN (
+               SELECT idempotency_key FROM idempotency_keys
+                WHERE expires_at < :now
+                LIMIT :limit)
+        """, nativeQuery = true)
+    int deleteExpired(@Param("now") Instant now, @Param("limit") int limit);
+}
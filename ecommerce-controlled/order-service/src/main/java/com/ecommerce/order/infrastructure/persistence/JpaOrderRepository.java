@@ -1,13 +1,66 @@
 package com.ecommerce.order.infrastructure.persistence;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import com.ecommerce.order.domain.model.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface JpaOrderRepository extends JpaRepository<OrderEntity, UUID> {
+public interface JpaOrderRepository extends JpaRepository<OrderEntity, UUID>, JpaSpecificationExecutor<OrderEntity> {
     Page<OrderEntity> findByCustomerId(String customerId, Pageable pageable);
+
+    // Served by idx_orders_status_created
+    Page<OrderEntity> findByStatus(OrderStatus status, Pageable pageable);
+
+    // Served by idx_orders_created_id (created_at is its leading column); bounds inclusive
+    Page<OrderEntity> findByCreatedAtBetween(Instant startDate, Instant endDate, Pageable pageable);
+
+    long countByCustomerId(String customerId);
+
+    // Keyset slices: served by idx_orders_created_id / idx_orders_customer_created_id
+
+    @Query("SELECT o FROM OrderEntity o ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findFirstSlice(Limit limit);
+
+    @Query("""
+            SELECT o FROM OrderEntity o
+            WHERE o.createdAt < :createdAt
+               OR (o.createdAt = :createdAt AND o.id < :id)
+            ORDER BY o.createdAt DESC, o.id DESC
+            """)
+    List<OrderEntity> findSliceAfter(
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
+
+    @Query("""
+            SELECT o FROM OrderEntity o
+            WHERE o.customerId = :customerId
+            ORDER BY o.createdAt DESC, o.id DESC
+            """)
+    List<OrderEntity> findFirstSliceByCustomerId(
+            @Param("customerId") String customerId,
+            Limit limit);
+
+    @Query("""
+            SELECT o FROM OrderEntity o
+            WHERE o.customerId = :customerId
+              AND (o.createdAt < :createdAt
+                   OR (o.createdAt = :createdAt AND o.id < :id))
+            ORDER BY o.createdAt DESC, o.id DESC
+            """)
+    List<OrderEntity> findSliceByCustomerIdAfter(
+            @Param("customerId") String customerId,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") UUID id,
+            Limit limit);
 }
@@ -12,11 +12,17 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+    // Keyset pagination (createdAt DESC, id DESC); see OrderCursor
+    @Index(name = "idx_orders_created_id", columnList = "created_at, id"),
+    @Index(name = "idx_orders_customer_created_id", columnList = "customer_id, created_at, id"),
+    // Status filter (+ optional range), sorted by createdAt
+    @Index(name = "idx_orders_status_created", columnList = "status, created_at")
+})
 public class OrderEntity {
 
+    // Assigned by the domain (Order.create, IdGenerator); time-ordered UUIDv7 by default
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
     @Column(unique = true, nullable = false)
@@ -39,8 +45,8 @@ public class OrderEntity {
     private String billingPostalCode;
     private String billingCountry;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
-    @JoinColumn(name = "order_id")
+    // Owned by OrderItemEntity.order so order_id is part of each item INSERT (no follow-up UPDATEs)
+    @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
     private List<OrderItemEntity> items = new ArrayList<>();
 
     @Column(precision = 19, scale = 2)
@@ -61,6 +67,21 @@ public class OrderEntity {
     @Column(nullable = false)
     private Instant updatedAt;
 
+    private Instant confirmedAt;
+
+    private Instant shippedAt;
+
+    private Instant deliveredAt;
+
+    private Instant cancelledAt;
+
+    @Column(length = 500)
+    private String cancellationReason;
+
+    // Null until first persisted: lets Spring Data persist new orders instead of merging them
+    @Version
+    private Long version;
+
     public OrderEntity() {
     }
 
@@ -176,6 +197,11 @@ public class OrderEntity {
         this.items = items;
     }
 
+    public void addItem(OrderItemEntity item) {
+        item.setOrder(this);
+        items.add(item);
+    }
+
     public BigDecimal getTotalAmount() {
         return totalAmount;
     }
@@ -215,4 +241,52 @@ public class OrderEntity {
     public void setUpdatedAt(Instant updatedAt) {
         this.updatedAt = updatedAt;
     }
+
+    public Instant getConfirmedAt() {
+        return confirmedAt;
+    }
+
+    public void setConfirmedAt(Instant confirmedAt) {
+        this.confirmedAt = confirmedAt;
+    }
+
+    public Instant getShippedAt() {
+        return shippedAt;
+    }
+
+    public void setShippedAt(Instant shippedAt) {
+        this.shippedAt = shippedAt;
+    }
+
+    public Instant getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    public void setDeliveredAt(Instant deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+
+    public Instant getCancelledAt() {
+        return cancelledAt;
+    }
+
+    public void setCancelledAt(Instant cancelledAt) {
+        this.cancelledAt = cancelledAt;
+    }
+
+    public String getCancellationReason() {
+        return cancellationReason;
+    }
+
+    public void setCancellationReason(String cancellationReason) {
+        this.cancellationReason = cancellationReason;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,106 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.application.port.OrderExportPort;
+import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
+import com.ecommerce.order.infrastructure.config.OrderExportProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Streams orders straight from the orders table for OrderExportPort.
+ * 
+ * Uses its own JdbcTemplate with a fixed fetch size and a forward-only,
+ * read-only result set (the JdbcTemplate default): no entities, no
+ * persistence context, at most fetchSize rows buffered by the driver.
+ * Rows are ordered by (created_at, id) so idx_orders_created_id serves
+ * unfiltered and date-range exports; status filters use idx_orders_status_created.
+ */
+@Repository
+public class OrderExportJdbcRepository implements OrderExportPort {
+
+    private static final String SELECT = """
+        SELECT id, order_number, customer_id, status, total_amount,
+               created_at, updated_at, confirmed_at, shipped_at, delivered_at,
+               cancelled_at, cancellation_reason
+          FROM orders
+         WHERE 1 = 1
+        """;
+
+    private static final String ORDER_BY = " ORDER BY created_at ASC, id ASC";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OrderExportJdbcRepository(DataSource dataSource, OrderExportProperties properties) {
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        streaming.setFetchSize(properties.getFetchSize());
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+    }
+
+    @Override
+    public long forEach(OrderSearchCriteria criteria, Consumer<OrderExportRow> consumer) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = buildQuery(criteria, params);
+
+        long[] count = {0};
+        RowCallbackHandler handler = rs -> {
+            consumer.accept(toRow(rs));
+            count[0]++;
+        };
+        jdbcTemplate.query(sql, params, handler);
+        return count[0];
+    }
+
+    static String buildQuery(OrderSearchCriteria criteria, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        if (criteria.customerId() != null) {
+            sql.append("   AND customer_id = :customerId\n");
+            params.addValue("customerId", criteria.customerId().toString());
+        }
+        if (criteria.status() != null) {
+            sql.append("   AND status = :status\n");
+            params.addValue("status", criteria.status().name());
+        }
+        if (criteria.createdAfter() != null) {
+            sql.append("   AND created_at >= :createdAfter\n");
+            params.addValue("createdAfter", Timestamp.from(criteria.createdAfter()));
+        }
+        if (criteria.createdBefore() != null) {
+            sql.append("   AND created_at <= :createdBefore\n");
+            params.addValue("createdBefore", Timestamp.from(criteria.createdBefore()));
+        }
+        return sql.append(ORDER_BY).toString();
+    }
+
+    private static OrderExportRow toRow(ResultSet rs) throws SQLException {
+        return new OrderExportRow(
+            rs.getObject("id", UUID.class),
+            rs.getString("order_number"),
+            UUID.fromString(rs.getString("customer_id")),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getBigDecimal("total_amount"),
+            toInstant(rs.getTimestamp("created_at")),
+            toInstant(rs.getTimestamp("updated_at")),
+            toInstant(rs.getTimestamp("confirmed_at")),
+            toInstant(rs.getTimestamp("shipped_at")),
+            toInstant(rs.getTimestamp("delivered_at")),
+            toInstant(rs.getTimestamp("cancelled_at")),
+            rs.getString("cancellation_reason")
+        );
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
@@ -4,9 +4,14 @@ import com.ecommerce.order.domain.model.Address;
 import com.ecommerce.order.domain.model.LineItem;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.repository.OrderCursor;
 import com.ecommerce.order.domain.repository.OrderRepository;
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
+import com.ecommerce.order.domain.repository.OrderSlice;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -26,9 +31,20 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public Order save(Order order) {
-        OrderEntity entity = toEntity(order);
-        OrderEntity savedEntity = jpaOrderRepository.save(entity);
-        return toDomain(savedEntity);
+        if (order.isNew()) {
+            // Null version -> persist (no merge SELECT); order, items and outbox row are
+            // flushed together as ordered JDBC batches (hibernate.jdbc.batch_size)
+            OrderEntity savedEntity = jpaOrderRepository.save(toEntity(order));
+            return toDomain(savedEntity);
+        }
+
+        // Existing order: update the managed row in place (already in the persistence context
+        // when loaded in the same transaction), leaving line items untouched
+        OrderEntity entity = jpaOrderRepository.findById(order.getId())
+                .filter(existing -> order.getVersion().equals(existing.getVersion()))
+                .orElseThrow(() -> new ObjectOptimisticLockingFailureException(OrderEntity.class, order.getId()));
+        applyState(order, entity);
+        return toDomain(entity);
     }
 
     @Override
@@ -48,14 +64,47 @@ public class OrderRepositoryImpl implements OrderRepository {
 
     @Override
     public Page<Order> findByStatus(OrderStatus status, Pageable pageable) {
-        // TODO: Add method to JpaOrderRepository when needed
-        throw new UnsupportedOperationException("findByStatus not yet implemented");
+        return jpaOrderRepository.findByStatus(status, pageable).map(this::toDomain);
     }
 
     @Override
     public Page<Order> findByCreatedAtBetween(Instant startDate, Instant endDate, Pageable pageable) {
-        // TODO: Add method to JpaOrderRepository when needed
-        throw new UnsupportedOperationException("findByCreatedAtBetween not yet implemented");
+        return jpaOrderRepository.findByCreatedAtBetween(startDate, endDate, pageable).map(this::toDomain);
+    }
+
+    @Override
+    public Page<Order> findByCriteria(OrderSearchCriteria criteria, Pageable pageable) {
+        return jpaOrderRepository.findAll(OrderSpecifications.matching(criteria), pageable).map(this::toDomain);
+    }
+
+    @Override
+    public OrderSlice findAllAfter(OrderCursor after, int limit) {
+        // One extra row tells whether another slice exists
+        Limit probe = Limit.of(limit + 1);
+        List<OrderEntity> entities = after == null
+                ? jpaOrderRepository.findFirstSlice(probe)
+                : jpaOrderRepository.findSliceAfter(after.createdAt(), after.id(), probe);
+        return toSlice(entities, limit);
+    }
+
+    @Override
+    public OrderSlice findByCustomerIdAfter(UUID customerId, OrderCursor after, int limit) {
+        Limit probe = Limit.of(limit + 1);
+        List<OrderEntity> entities = after == null
+                ? jpaOrderRepository.findFirstSliceByCustomerId(customerId.toString(), probe)
+                : jpaOrderRepository.findSliceByCustomerIdAfter(
+                        customerId.toString(), after.createdAt(), after.id(), probe);
+        return toSlice(entities, limit);
+    }
+
+    @Override
+    public long count() {
+        return jpaOrderRepository.count();
+    }
+
+    @Override
+    public long countByCustomerId(UUID customerId) {
+        return jpaOrderRepository.countByCustomerId(customerId.toString());
     }
 
     @Override
@@ -63,6 +112,19 @@ public class OrderRepositoryImpl implements OrderRepository {
         jpaOrderRepository.deleteById(id);
     }
 
+    private OrderSlice toSlice(List<OrderEntity> entities, int limit) {
+        if (entities.size() <= limit) {
+            return new OrderSlice(entities.stream().map(this::toDomain).collect(Collectors.toList()), null);
+        }
+        List<OrderEntity> page = entities.subList(0, limit);
+        // Cursor comes from the stored row, not the rebuilt aggregate
+        OrderEntity last = page.get(limit - 1);
+        return new OrderSlice(
+                page.stream().map(this::toDomain).collect(Collectors.toList()),
+                new OrderCursor(last.getCreatedAt(), last.getId())
+        );
+    }
+
     private OrderEntity toEntity(Order order) {
         OrderEntity entity = new OrderEntity();
         entity.setId(order.getId());
@@ -80,16 +142,30 @@ public class OrderRepositoryImpl implements OrderRepository {
         entity.setStatus(order.getStatus());
         entity.setCreatedAt(order.getCreatedAt());
         entity.setUpdatedAt(order.getUpdatedAt());
-
-        // Map lineItems
-        List<OrderItemEntity> itemEntities = order.getLineItems().stream()
+        entity.setConfirmedAt(order.getConfirmedAt());
+        entity.setShippedAt(order.getShippedAt());
+        entity.setDeliveredAt(order.getDeliveredAt());
+        entity.setCancelledAt(order.getCancelledAt());
+        entity.setCancellationReason(order.getCancellationReason());
+
+        // Map lineItems; addItem sets the owning side so order_id goes into the INSERT
+        order.getLineItems().stream()
                 .map(this::toItemEntity)
-                .collect(Collectors.toList());
-        entity.setItems(itemEntities);
+                .forEach(entity::addItem);
 
         return entity;
     }
 
+    private void applyState(Order order, OrderEntity entity) {
+        entity.setStatus(order.getStatus());
+        entity.setUpdatedAt(order.getUpdatedAt());
+        entity.setConfirmedAt(order.getConfirmedAt());
+        entity.setShippedAt(order.getShippedAt());
+        entity.setDeliveredAt(order.getDeliveredAt());
+        entity.setCancelledAt(order.getCancelledAt());
+        entity.setCancellationReason(order.getCancellationReason());
+    }
+
     private Order toDomain(OrderEntity entity) {
         // Create Address from entity fields
         Address shippingAddress = new Address(
@@ -104,12 +180,23 @@ public class OrderRepositoryImpl implements OrderRepository {
                 .map(this::toItemDomain)
                 .collect(Collectors.toList());
 
-        // Use factory method to create Order
-        Order order = Order.create(
+        // Restore persisted state as-is (no validation, identity preserved)
+        Order order = Order.rehydrate(
+            entity.getId(),
+            entity.getOrderNumber(),
             UUID.fromString(entity.getCustomerId()),
+            entity.getStatus(),
+            entity.getTotalAmount(),
             shippingAddress,
             lineItems,
-            entity.getTotalAmount()
+            entity.getCreatedAt(),
+            entity.getUpdatedAt(),
+            entity.getConfirmedAt(),
+            entity.getShippedAt(),
+            entity.getDeliveredAt(),
+            entity.getCancelledAt(),
+            entity.getCancellationReason(),
+            entity.getVersion()
         );
 
         return order;
@@ -0,0 +1,35 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Translates OrderSearchCriteria into a JPA Specification; absent filters add no predicate.
+ * Index usage: customer filters -> idx_orders_customer_created_id,
+ * status -> idx_orders_status_created, range only -> idx_orders_created_id.
+ */
+final class OrderSpecifications {
+
+    private OrderSpecifications() {
+    }
+
+    static Specification<OrderEntity> matching(OrderSearchCriteria criteria) {
+        Specification<OrderEntity> spec = Specification.where(null);
+        if (criteria.customerId() != null) {
+            String customerId = criteria.customerId().toString();
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("customerId"), customerId));
+        }
+        if (criteria.status() != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), criteria.status()));
+        }
+        if (criteria.createdAfter() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.greaterThanOrEqualTo(root.get("createdAt"), criteria.createdAfter()));
+        }
+        if (criteria.createdBefore() != null) {
+            spec = spec.and((root, query, cb) ->
+                    cb.lessThanOrEqualTo(root.get("createdAt"), criteria.createdBefore()));
+        }
+        return spec;
+    }
+}
@@ -0,0 +1,94 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Append-only, gzip-compressed NDJSON file holding pruned outbox rows.
+ * Per docs/events/outbox-pattern.md (Retention)
+ * 
+ * One segment per retention run. Every chunk is sync-flushed and fsynced
+ * before its rows are deleted from the table, so a crash never loses rows
+ * (at worst a row is archived twice). A segment is never reopened.
+ */
+class OutboxArchiveSegment implements Closeable {
+
+    private static final DateTimeFormatter SEGMENT_NAME =
+        DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private final Path file;
+    private final FileChannel channel;
+    private final BufferedWriter writer;
+    private final ObjectMapper objectMapper;
+
+    private OutboxArchiveSegment(Path file, ObjectMapper objectMapper) throws IOException {
+        this.file = file;
+        this.objectMapper = objectMapper;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.writer = new BufferedWriter(new OutputStreamWriter(
+            new GZIPOutputStream(Channels.newOutputStream(channel), true),
+            StandardCharsets.UTF_8));
+    }
+
+    static OutboxArchiveSegment open(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("outbox-" + SEGMENT_NAME.format(Instant.now()) + ".ndjson.gz");
+        return new OutboxArchiveSegment(file, objectMapper);
+    }
+
+    /**
+     * Append rows and make them durable before returning.
+     */
+    void append(List<OutboxEntity> rows) throws IOException {
+        for (OutboxEntity row : rows) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("id", row.getId().toString());
+            line.put("aggregateType", row.getAggregateType());
+            line.put("aggregateId", row.getAggregateId().toString());
+            line.put("eventType", row.getEventType());
+            line.put("createdAt", row.getCreatedAt().toString());
+            line.put("sentAt", row.getSentAt() != null ? row.getSentAt().toString() : null);
+            line.put("contentType", row.getContentType());
+            if (isJson(row.getContentType())) {
+                line.put("payload", new String(row.getPayload(), StandardCharsets.UTF_8));
+            } else {
+                line.put("payloadBase64", Base64.getEncoder().encodeToString(row.getPayload()));
+            }
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.newLine();
+        }
+        writer.flush();
+        channel.force(false);
+    }
+
+    private static boolean isJson(String contentType) {
+        return contentType != null && contentType.startsWith("application/json");
+    }
+
+    Path file() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
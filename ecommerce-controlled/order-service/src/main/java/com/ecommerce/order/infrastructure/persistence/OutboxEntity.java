@@ -1,10 +1,16 @@
 package com.ecommerce.order.infrastructure.persistence;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -18,13 +24,14 @@ import java.util.UUID;
 @Entity
 @Table(name = "outbox", indexes = {
     @Index(name = "idx_outbox_status_created", columnList = "status, created_at"),
-    @Index(name = "idx_outbox_aggregate", columnList = "aggregate_id")
+    @Index(name = "idx_outbox_aggregate", columnList = "aggregate_id"),
+    @Index(name = "idx_outbox_status_lease", columnList = "status, lease_expires_at")
 })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class OutboxEntity {
+public class OutboxEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -38,8 +45,18 @@ public class OutboxEntity {
     @Column(name = "event_type", nullable = false)
     private String eventType;
 
-    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
-    private String payload;
+    /**
+     * Encoded event, exactly as published (JSON or binary, see contentType)
+     */
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+
+    /**
+     * Payload encoding, sent as the contentType header
+     */
+    @Column(name = "content_type", nullable = false, length = 100)
+    private String contentType;
 
     @Column(name = "status", nullable = false, length = 50)
     @Enumerated(EnumType.STRING)
@@ -54,6 +71,48 @@ public class OutboxEntity {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    /**
+     * Failed publish attempts so far (batch mode retries on later polls)
+     */
+    @Column(name = "retry_count", nullable = false)
+    @Builder.Default
+    private int retryCount = 0;
+
+    /**
+     * Publisher instance holding the lease (null = unclaimed)
+     */
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    /**
+     * Lease end; once passed, any publisher instance may claim the event again
+     */
+    @Column(name = "lease_expires_at")
+    private Instant leaseExpiresAt;
+
+    /**
+     * The id is the event id, assigned before save; without this flag Spring Data
+     * would merge (SELECT first) instead of persisting and batching the INSERT.
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean newEntry = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntry = false;
+    }
+
     /**
      * Outbox event status lifecycle
      */
@@ -73,6 +132,8 @@ public class OutboxEntity {
         this.status = OutboxStatus.SENT;
         this.sentAt = Instant.now();
         this.errorMessage = null;
+        this.claimedBy = null;
+        this.leaseExpiresAt = null;
     }
 
     /**
@@ -81,5 +142,7 @@ public class OutboxEntity {
     public void markAsFailed(String errorMessage) {
         this.status = OutboxStatus.FAILED;
         this.errorMessage = errorMessage;
+        this.claimedBy = null;
+        this.leaseExpiresAt = null;
     }
 }
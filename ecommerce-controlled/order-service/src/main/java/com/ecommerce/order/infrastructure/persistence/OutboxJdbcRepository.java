@@ -0,0 +1,148 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Set-based outbox operations for the batch publisher and the retention job.
+ * Per docs/events/outbox-pattern.md
+ * 
+ * Avoids loading and dirty-checking entities one by one: a whole batch is
+ * marked SENT with a single UPDATE ... WHERE id IN (...), failures are
+ * recorded with one JDBC batch, and SENT rows are pruned in bounded chunks.
+ */
+@Repository
+public class OutboxJdbcRepository {
+
+    private static final String MARK_SENT = """
+        UPDATE outbox
+           SET status = 'SENT', sent_at = :sentAt, error_message = NULL,
+               claimed_by = NULL, lease_expires_at = NULL
+         WHERE id IN (:ids) AND status = 'NEW'
+        """;
+
+    private static final String RECORD_FAILURE = """
+        UPDATE outbox
+           SET retry_count = retry_count + 1,
+               error_message = :errorMessage,
+               status = CASE WHEN retry_count + 1 >= :maxAttempts THEN 'FAILED' ELSE status END,
+               claimed_by = NULL, lease_expires_at = NULL
+         WHERE id = :id AND status = 'NEW' AND claimed_by = :owner
+        """;
+
+    private static final String FIND_OLDEST_SENT = """
+        SELECT id, aggregate_type, aggregate_id, event_type, payload, content_type, status, created_at, sent_at, retry_count
+          FROM outbox
+         WHERE status = 'SENT' AND created_at < :createdBefore
+         ORDER BY created_at ASC
+         LIMIT :limit
+        """;
+
+    private static final String DELETE_SENT = """
+        DELETE FROM outbox WHERE id IN (:ids) AND status = 'SENT'
+        """;
+
+    private static final String COUNT_BY_STATUS = """
+        SELECT status, COUNT(*) AS row_count FROM outbox GROUP BY status
+        """;
+
+    private static final RowMapper<OutboxEntity> SENT_ROW_MAPPER = (rs, rowNum) -> OutboxEntity.builder()
+        .id(rs.getObject("id", UUID.class))
+        .aggregateType(rs.getString("aggregate_type"))
+        .aggregateId(rs.getObject("aggregate_id", UUID.class))
+        .eventType(rs.getString("event_type"))
+        .payload(rs.getBytes("payload"))
+        .contentType(rs.getString("content_type"))
+        .status(OutboxEntity.OutboxStatus.valueOf(rs.getString("status")))
+        .createdAt(rs.getTimestamp("created_at").toInstant())
+        .sentAt(rs.getTimestamp("sent_at") != null ? rs.getTimestamp("sent_at").toInstant() : null)
+        .retryCount(rs.getInt("retry_count"))
+        .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public OutboxJdbcRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Mark all given events as SENT.
+     * 
+     * @return number of rows updated
+     */
+    public int markSent(Collection<UUID> ids, Instant sentAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(MARK_SENT, new MapSqlParameterSource()
+            .addValue("ids", ids)
+            .addValue("sentAt", Timestamp.from(sentAt)));
+    }
+
+    /**
+     * Count one failed attempt per event; events reaching maxAttempts become FAILED,
+     * the rest stay NEW and their lease is released for the next poll.
+     * Events whose lease was meanwhile taken over by another instance are left alone.
+     * 
+     * @param errors error message by event id
+     * @param owner publisher instance that claimed the events
+     */
+    public void recordFailures(Map<UUID, String> errors, String owner, int maxAttempts) {
+        if (errors.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = errors.entrySet().stream()
+            .map(error -> new MapSqlParameterSource()
+                .addValue("id", error.getKey())
+                .addValue("errorMessage", error.getValue())
+                .addValue("owner", owner)
+                .addValue("maxAttempts", maxAttempts))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(RECORD_FAILURE, batch);
+    }
+
+    /**
+     * Oldest SENT events created before the given instant (uses idx_outbox_status_created).
+     * 
+     * @param limit chunk size
+     */
+    public List<OutboxEntity> findOldestSent(Instant createdBefore, int limit) {
+        return jdbcTemplate.query(FIND_OLDEST_SENT, new MapSqlParameterSource()
+            .addValue("createdBefore", Timestamp.from(createdBefore))
+            .addValue("limit", limit), SENT_ROW_MAPPER);
+    }
+
+    /**
+     * Delete SENT events by id; rows in any other status are never removed.
+     * 
+     * @return number of rows deleted
+     */
+    public int deleteSent(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(DELETE_SENT, new MapSqlParameterSource("ids", ids));
+    }
+
+    /**
+     * Row count per status (statuses without rows are absent).
+     */
+    public Map<OutboxEntity.OutboxStatus, Long> countByStatus() {
+        Map<OutboxEntity.OutboxStatus, Long> counts = new EnumMap<>(OutboxEntity.OutboxStatus.class);
+        jdbcTemplate.query(COUNT_BY_STATUS, rs -> {
+            counts.put(OutboxEntity.OutboxStatus.valueOf(rs.getString("status")), rs.getLong("row_count"));
+        });
+        return counts;
+    }
+}
@@ -1,9 +1,15 @@
 package com.ecommerce.order.infrastructure.persistence;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,14 +21,85 @@ import java.util.UUID;
 public interface OutboxRepository extends JpaRepository<OutboxEntity, UUID> {
 
     /**
-     * Find NEW events for polling publisher.
+     * Lock claimable NEW events for this poll.
      * Ordered by creation time to maintain event ordering.
-     * Batch size controlled by caller (use Pageable if needed).
+     * 
+     * Claimable = never claimed, or lease expired (publisher died or stalled).
+     * SKIP LOCKED: rows another replica is claiming right now are skipped
+     * instead of waited on, so concurrent pollers split the backlog.
+     */
+    @Query(value = """
+        SELECT * FROM outbox
+         WHERE status = 'NEW'
+           AND (lease_expires_at IS NULL OR lease_expires_at < :now)
+         ORDER BY created_at ASC
+         LIMIT :limit
+           FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEntity> lockClaimable(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Lock specific NEW events if they are still claimable (commit-triggered dispatch).
+     */
+    @Query(value = """
+        SELECT * FROM outbox
+         WHERE id IN (:ids)
+           AND status = 'NEW'
+           AND (lease_expires_at IS NULL OR lease_expires_at < :now)
+         ORDER BY created_at ASC
+           FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEntity> lockClaimableByIds(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    /**
+     * Take the lease on locked events (clears the persistence context).
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboxEntity o SET o.claimedBy = :owner, o.leaseExpiresAt = :leaseExpiresAt WHERE o.id IN :ids")
+    int claim(@Param("ids") Collection<UUID> ids,
+              @Param("owner") String owner,
+              @Param("leaseExpiresAt") Instant leaseExpiresAt);
+
+    /**
+     * Claim up to {@code limit} NEW events for one publisher instance.
      * 
      * Per docs/events/outbox-pattern.md:
-     * - Query: SELECT * FROM outbox WHERE status = 'NEW' ORDER BY created_at ASC LIMIT 10
-     * - Transaction: Separate from business write
+     * - Query: SELECT ... WHERE status = 'NEW' AND lease free ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED
+     * - Transaction: Separate from business write; row locks are held only while claiming,
+     *   the lease (claimed_by, lease_expires_at) protects the events while they are published
+     * 
+     * @return claimed events (detached), oldest first
+     */
+    @Transactional
+    default List<OutboxEntity> claimBatch(String owner, Duration lease, int limit) {
+        Instant now = Instant.now();
+        return lease(lockClaimable(now, limit), owner, now.plus(lease));
+    }
+
+    /**
+     * Claim the given events for one publisher instance, skipping those that are
+     * no longer NEW or are leased by someone else.
+     * 
+     * @return claimed events (detached), oldest first
      */
-    @Query("SELECT o FROM OutboxEntity o WHERE o.status = 'NEW' ORDER BY o.createdAt ASC")
-    List<OutboxEntity> findNewEventsForPublishing();
+    @Transactional
+    default List<OutboxEntity> claimByIds(Collection<UUID> ids, String owner, Duration lease) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Instant now = Instant.now();
+        return lease(lockClaimableByIds(ids, now), owner, now.plus(lease));
+    }
+
+    private List<OutboxEntity> lease(List<OutboxEntity> batch, String owner, Instant leaseExpiresAt) {
+        if (batch.isEmpty()) {
+            return batch;
+        }
+        claim(batch.stream().map(OutboxEntity::getId).toList(), owner, leaseExpiresAt);
+        batch.forEach(event -> {
+            event.setClaimedBy(owner);
+            event.setLeaseExpiresAt(leaseExpiresAt);
+        });
+        return batch;
+    }
 }
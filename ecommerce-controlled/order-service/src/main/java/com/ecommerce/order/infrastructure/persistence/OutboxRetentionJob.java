@@ -0,0 +1,185 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.infrastructure.config.OutboxRetentionProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background retention for the outbox table.
+ * Per docs/events/outbox-pattern.md (Retention)
+ * 
+ * SENT rows are pruned when older than outbox.retention.max-age, and the
+ * oldest are pruned when more than max-sent-rows SENT rows exist. Work is
+ * done in chunks of chunk-size rows (one SELECT + one DELETE each), so the
+ * polling index and H2 memory stay bounded without long-running statements.
+ * Optionally each chunk is appended to a gzip NDJSON archive segment first.
+ * 
+ * Metrics:
+ * - outbox.retention.pruned{reason=age|row_limit}: rows deleted
+ * - outbox.retention.archived: rows written to archive segments
+ * - outbox.rows{status}: table size per status after the last run
+ */
+@Component
+@Slf4j
+public class OutboxRetentionJob {
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final OutboxRetentionProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Counter prunedByAge;
+    private final Counter prunedByRowLimit;
+    private final Counter archived;
+    private final Map<OutboxEntity.OutboxStatus, AtomicLong> rowCounts =
+        new EnumMap<>(OutboxEntity.OutboxStatus.class);
+
+    public OutboxRetentionJob(
+            OutboxJdbcRepository outboxJdbcRepository,
+            OutboxRetentionProperties properties,
+            MeterRegistry meterRegistry) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        this.properties = properties;
+        this.objectMapper = new ObjectMapper();
+
+        this.prunedByAge = Counter.builder("outbox.retention.pruned")
+            .description("SENT outbox rows deleted by the retention job")
+            .tag("reason", "age")
+            .register(meterRegistry);
+        this.prunedByRowLimit = Counter.builder("outbox.retention.pruned")
+            .description("SENT outbox rows deleted by the retention job")
+            .tag("reason", "row_limit")
+            .register(meterRegistry);
+        this.archived = Counter.builder("outbox.retention.archived")
+            .description("Outbox rows written to archive segments")
+            .register(meterRegistry);
+
+        for (OutboxEntity.OutboxStatus status : OutboxEntity.OutboxStatus.values()) {
+            AtomicLong count = new AtomicLong();
+            rowCounts.put(status, count);
+            Gauge.builder("outbox.rows", count, AtomicLong::get)
+                .description("Outbox rows per status (as of the last retention run)")
+                .tag("status", status.name())
+                .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "#{@outboxRetentionProperties.interval.toMillis()}",
+        fixedDelayString = "#{@outboxRetentionProperties.interval.toMillis()}")
+    public void purgeSentEvents() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try (ArchiveSink archive = new ArchiveSink()) {
+            int chunks = properties.getMaxChunksPerRun();
+
+            // 1) Age threshold
+            Instant cutoff = Instant.now().minus(properties.getMaxAge());
+            long byAge = 0;
+            while (chunks-- > 0) {
+                int pruned = pruneChunk(cutoff, properties.getChunkSize(), archive);
+                byAge += pruned;
+                if (pruned < properties.getChunkSize()) {
+                    break;
+                }
+            }
+            prunedByAge.increment(byAge);
+
+            // 2) Row-count threshold
+            long excess = refreshRowCounts().getOrDefault(OutboxEntity.OutboxStatus.SENT, 0L)
+                - properties.getMaxSentRows();
+            long byRowLimit = 0;
+            while (excess > 0 && chunks-- > 0) {
+                int pruned = pruneChunk(Instant.now(), (int) Math.min(properties.getChunkSize(), excess), archive);
+                if (pruned == 0) {
+                    break;
+                }
+                byRowLimit += pruned;
+                excess -= pruned;
+            }
+            prunedByRowLimit.increment(byRowLimit);
+
+            if (byAge + byRowLimit > 0) {
+                refreshRowCounts();
+                log.info("Outbox retention pruned {} SENT rows (age={}, rowLimit={}){}",
+                    byAge + byRowLimit, byAge, byRowLimit,
+                    archive.file() != null ? ", archived to " + archive.file() : "");
+            }
+
+        } catch (UncheckedIOException | IOException e) {
+            // Nothing of the failed chunk was deleted; retried on the next run
+            log.error("Outbox retention stopped: archive write failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Archive (if enabled) and delete one chunk of the oldest SENT rows created before the cutoff.
+     * 
+     * @return rows deleted
+     */
+    private int pruneChunk(Instant createdBefore, int limit, ArchiveSink archive) {
+        List<OutboxEntity> chunk = outboxJdbcRepository.findOldestSent(createdBefore, limit);
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        archive.append(chunk);
+        List<UUID> ids = chunk.stream().map(OutboxEntity::getId).toList();
+        return outboxJdbcRepository.deleteSent(ids);
+    }
+
+    private Map<OutboxEntity.OutboxStatus, Long> refreshRowCounts() {
+        Map<OutboxEntity.OutboxStatus, Long> counts = outboxJdbcRepository.countByStatus();
+        rowCounts.forEach((status, gauge) -> gauge.set(counts.getOrDefault(status, 0L)));
+        return counts;
+    }
+
+    /**
+     * Opens the run's archive segment lazily, on the first chunk to prune.
+     */
+    private class ArchiveSink implements AutoCloseable {
+
+        private OutboxArchiveSegment segment;
+
+        void append(List<OutboxEntity> chunk) {
+            if (!properties.getArchive().isEnabled()) {
+                return;
+            }
+            try {
+                if (segment == null) {
+                    segment = OutboxArchiveSegment.open(properties.getArchive().getDirectory(), objectMapper);
+                }
+                segment.append(chunk);
+                archived.increment(chunk.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Path file() {
+            return segment != null ? segment.file() : null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (segment != null) {
+                segment.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.domain.service.UuidV7Generator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+
+/**
+ * Hibernate id generator behind @UuidV7Id.
+ * Keeps an identifier that is already set, so ids assigned by the domain survive.
+ */
+public class UuidV7IdGenerator implements BeforeExecutionGenerator {
+
+    private static final UuidV7Generator IDS = new UuidV7Generator();
+
+    @Override
+    public Object generate(
+            SharedSessionContractImplementor session,
+            Object owner,
+            Object currentValue,
+            EventType eventType) {
+        return currentValue != null ? currentValue : IDS.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+}
@@ -7,9 +7,21 @@ CREATE TABLE IF NOT EXISTS orders (
     status VARCHAR(50) NOT NULL,
     total_amount DECIMAL(19, 2) NOT NULL,
     created_at TIMESTAMP NOT NULL,
-    updated_at TIMESTAMP NOT NULL
+    updated_at TIMESTAMP NOT NULL,
+    confirmed_at TIMESTAMP,
+    shipped_at TIMESTAMP,
+    delivered_at TIMESTAMP,
+    cancelled_at TIMESTAMP,
+    cancellation_reason VARCHAR(500),
+    version BIGINT NOT NULL DEFAULT 0
 );
 
+-- Keyset pagination (created_at DESC, id DESC); see OrderCursor
+CREATE INDEX IF NOT EXISTS idx_orders_created_id ON orders(created_at, id);
+CREATE INDEX IF NOT EXISTS idx_orders_customer_created_id ON orders(customer_id, created_at, id);
+-- Status filter (+ optional range); range-only filters use idx_orders_created_id
+CREATE INDEX IF NOT EXISTS idx_orders_status_created ON orders(status, created_at);
+
 -- Order line items table
 CREATE TABLE IF NOT EXISTS order_line_items (
     id UUID PRIMARY KEY,
@@ -38,13 +50,46 @@ CREATE TABLE IF NOT EXISTS outbox (
     aggregate_type VARCHAR(255) NOT NULL,
     aggregate_id UUID NOT NULL,
     event_type VARCHAR(255) NOT NULL,
-    payload TEXT NOT NULL,
+    payload BLOB NOT NULL,
+    content_type VARCHAR(100) NOT NULL,
     status VARCHAR(50) NOT NULL,
     created_at TIMESTAMP NOT NULL,
     sent_at TIMESTAMP,
-    error_message TEXT
+    error_message TEXT,
+    retry_count INTEGER DEFAULT 0 NOT NULL,
+    claimed_by VARCHAR(255),
+    lease_expires_at TIMESTAMP
 );
 
 -- Indexes for outbox polling efficiency
 CREATE INDEX IF NOT EXISTS idx_outbox_status_created ON outbox(status, created_at);
 CREATE INDEX IF NOT EXISTS idx_outbox_aggregate ON outbox(aggregate_id);
+CREATE INDEX IF NOT EXISTS idx_outbox_status_lease ON outbox(status, lease_expires_at);
+
+-- Idempotency-Key results for POST /api/v1/orders (see IdempotencyService)
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    request_fingerprint VARCHAR(64) NOT NULL,
+    order_id UUID NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires ON idempotency_keys(expires_at);
+
+-- Per-customer order summary projection (see CustomerOrderSummaryJdbcRepository)
+CREATE TABLE IF NOT EXISTS customer_order_summary (
+    customer_id VARCHAR(36) PRIMARY KEY,
+    order_count BIGINT NOT NULL,
+    pending_count BIGINT NOT NULL,
+    confirmed_count BIGINT NOT NULL,
+    shipped_count BIGINT NOT NULL,
+    delivered_count BIGINT NOT NULL,
+    cancelled_count BIGINT NOT NULL,
+    total_amount DECIMAL(19, 2) NOT NULL,
+    last_order_id UUID,
+    last_order_number VARCHAR(255),
+    last_order_status VARCHAR(50),
+    last_order_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL
+);
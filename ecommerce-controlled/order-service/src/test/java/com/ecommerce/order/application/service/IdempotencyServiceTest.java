@@ -0,0 +1,170 @@
+package com.ecommerce.order.application.service;
+
+import com.ecommerce.order.application.port.IdempotencyStore;
+import com.ecommerce.order.domain.model.Address;
+import com.ecommerce.order.domain.model.LineItem;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.TestOrders;
+import com.ecommerce.order.exception.IdempotencyKeyConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final String KEY = "retry-7f3a";
+    private static final String FINGERPRINT = "a1b2c3";
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyStore);
+    }
+
+    @Test
+    void testFirstRequestCreatesOrderAndStoresKey() {
+        Order order = createTestOrder();
+        when(idempotencyStore.find(KEY)).thenReturn(Optional.empty());
+
+        IdempotencyService.Outcome outcome = idempotencyService.execute(KEY, FINGERPRINT, () -> order);
+
+        assertFalse(outcome.replayed());
+        assertSame(order, outcome.order());
+        verify(idempotencyStore).save(KEY, FINGERPRINT, order.getId());
+    }
+
+    @Test
+    void testStoredKeyIsReplayedWithoutCreating() {
+        UUID orderId = UUID.randomUUID();
+        when(idempotencyStore.find(KEY)).thenReturn(Optional.of(
+                new IdempotencyStore.Entry(KEY, FINGERPRINT, orderId, Instant.now().plusSeconds(60))));
+
+        IdempotencyService.Outcome outcome = idempotencyService.execute(KEY, FINGERPRINT, () -> fail("must not create"));
+
+        assertTrue(outcome.replayed());
+        assertEquals(orderId, outcome.orderId());
+        assertNull(outcome.order());
+        verify(idempotencyStore, never()).save(anyString(), anyString(), any());
+    }
+
+    @Test
+    void testSameKeyWithDifferentBodyIsRejected() {
+        when(idempotencyStore.find(KEY)).thenReturn(Optional.of(
+                new IdempotencyStore.Entry(KEY, "other", UUID.randomUUID(), Instant.now().plusSeconds(60))));
+
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> idempotencyService.execute(KEY, FINGERPRINT, () -> fail("must not create")));
+    }
+
+    @Test
+    void testConcurrentRequestsWithSameKeyCoalesce() throws Exception {
+        Order order = createTestOrder();
+        when(idempotencyStore.find(KEY)).thenReturn(Optional.empty());
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<IdempotencyService.Outcome> first = executor.submit(() ->
+                    idempotencyService.execute(KEY, FINGERPRINT, () -> {
+                        executions.incrementAndGet();
+                        started.countDown();
+                        await(release);
+                        return order;
+                    }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<IdempotencyService.Outcome> second = executor.submit(() ->
+                    idempotencyService.execute(KEY, FINGERPRINT, () -> {
+                        executions.incrementAndGet();
+                        return createTestOrder();
+                    }));
+
+            // Second caller is parked on the first execution
+            Thread.sleep(100);
+            assertFalse(second.isDone());
+            release.countDown();
+
+            assertFalse(first.get(5, TimeUnit.SECONDS).replayed());
+            IdempotencyService.Outcome coalesced = second.get(5, TimeUnit.SECONDS);
+            assertTrue(coalesced.replayed());
+            assertSame(order, coalesced.order());
+            assertEquals(1, executions.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailedExecutionIsNotRemembered() {
+        when(idempotencyStore.find(KEY)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute(KEY, FINGERPRINT, () -> {
+            throw new IllegalArgumentException("total mismatch");
+        }));
+
+        verify(idempotencyStore, never()).save(anyString(), anyString(), any());
+        // Same key may be retried
+        Order order = createTestOrder();
+        assertFalse(idempotencyService.execute(KEY, FINGERPRINT, () -> order).replayed());
+    }
+
+    @Test
+    void testStoreFailureDoesNotFailCreatedOrder() {
+        Order order = createTestOrder();
+        when(idempotencyStore.find(KEY)).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("db down")).when(idempotencyStore).save(KEY, FINGERPRINT, order.getId());
+
+        assertSame(order, idempotencyService.execute(KEY, FINGERPRINT, () -> order).order());
+    }
+
+    @Test
+    void testBlankOrOversizedKeyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute(" ", FINGERPRINT, this::createTestOrder));
+        String tooLong = "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1);
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute(tooLong, FINGERPRINT, this::createTestOrder));
+        verifyNoInteractions(idempotencyStore);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Order createTestOrder() {
+        LineItem lineItem = new LineItem("PROD-001", 2, BigDecimal.valueOf(50.00));
+        return TestOrders.create(
+                UUID.randomUUID(),
+                new Address("123 Main St", "Springfield", "12345", "US"),
+                List.of(lineItem),
+                BigDecimal.valueOf(100.00)
+        );
+    }
+}
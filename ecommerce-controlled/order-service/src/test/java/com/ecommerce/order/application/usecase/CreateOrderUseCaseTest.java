@@ -1,15 +1,35 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection;
 import com.ecommerce.order.application.port.StockCheckPort;
 import com.ecommerce.order.application.service.OutboxService;
+import com.ecommerce.order.application.usecase.CreateOrderUseCase.BatchResult;
+import com.ecommerce.order.application.usecase.CreateOrderUseCase.CreateOrderCommand;
+import com.ecommerce.order.domain.model.Address;
+import com.ecommerce.order.domain.model.LineItem;
+import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.repository.OrderRepository;
+import com.ecommerce.order.domain.service.IdGenerator;
+import com.ecommerce.order.domain.service.OrderNumberGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CreateOrderUseCaseTest {
@@ -23,15 +43,119 @@ class CreateOrderUseCaseTest {
     @Mock
     private OutboxService outboxService;
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Mock
+    private IdGenerator idGenerator;
+
+    @Mock
+    private CustomerOrderSummaryProjection customerOrderSummaryProjection;
+
     private CreateOrderUseCase createOrderUseCase;
 
     @BeforeEach
     void setUp() {
-        createOrderUseCase = new CreateOrderUseCase(orderRepository, stockCheckPort, outboxService);
+        createOrderUseCase = new CreateOrderUseCase(orderRepository, stockCheckPort, outboxService, transactionTemplate,
+                orderNumberGenerator, idGenerator, customerOrderSummaryProjection);
     }
 
     @Test
     void testUseCaseInitialization() {
         assertNotNull(createOrderUseCase);
     }
+
+    @Test
+    void testExecuteBatchLooksUpEachProductOnceAndConsumesStockInOrder() {
+        stubPersistence();
+        when(stockCheckPort.getAvailableQuantities(any())).thenReturn(Map.of(PRODUCT_A, 8));
+
+        List<BatchResult> results = createOrderUseCase.executeBatch(List.of(
+                command(PRODUCT_A, 5),
+                command(PRODUCT_A, 5),
+                command(PRODUCT_B, 1)
+        ));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(BatchResult.INSUFFICIENT_STOCK, results.get(1).errorCode());
+        assertEquals(BatchResult.PRODUCT_NOT_FOUND, results.get(2).errorCode());
+        verify(stockCheckPort, times(1)).getAvailableQuantities(Set.of(PRODUCT_A, PRODUCT_B));
+        verify(stockCheckPort, never()).validateStockAvailability(anyList());
+        verify(outboxService, times(1)).writeOrderCreatedEvents(argThat(events -> events.size() == 1));
+        verify(customerOrderSummaryProjection, times(1)).recordCreated(argThat(orders -> orders.size() == 1));
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    void testExecuteBatchReportsInvalidOrdersWithoutCheckingTheirStock() {
+        stubPersistence();
+        when(stockCheckPort.getAvailableQuantities(any())).thenReturn(Map.of(PRODUCT_A, 10));
+        CreateOrderCommand wrongTotal = new CreateOrderCommand(
+                UUID.randomUUID(), ADDRESS, List.of(new LineItem(PRODUCT_B, 1, PRICE)), BigDecimal.ONE);
+
+        List<BatchResult> results = createOrderUseCase.executeBatch(List.of(wrongTotal, command(PRODUCT_A, 1)));
+
+        assertEquals(BatchResult.VALIDATION_ERROR, results.get(0).errorCode());
+        assertTrue(results.get(1).isSuccess());
+        verify(stockCheckPort).getAvailableQuantities(Set.of(PRODUCT_A));
+    }
+
+    @Test
+    void testExecuteBatchFallsBackToOneTransactionPerOrderWhenChunkFails() {
+        stubPersistence();
+        when(stockCheckPort.getAvailableQuantities(any())).thenReturn(Map.of(PRODUCT_A, 10));
+        UUID badCustomer = UUID.randomUUID();
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if (order.getCustomerId().equals(badCustomer)) {
+                throw new IllegalStateException("duplicate key");
+            }
+            return order;
+        });
+        CreateOrderCommand bad = new CreateOrderCommand(
+                badCustomer, ADDRESS, List.of(new LineItem(PRODUCT_A, 1, PRICE)), PRICE);
+
+        List<BatchResult> results = createOrderUseCase.executeBatch(List.of(command(PRODUCT_A, 1), bad));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(BatchResult.PERSISTENCE_ERROR, results.get(1).errorCode());
+        // Chunk attempt + one retry per order
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(outboxService, times(1)).writeOrderCreatedEvent(any());
+        verify(customerOrderSummaryProjection, times(1)).recordCreated(argThat(orders -> orders.size() == 1));
+    }
+
+    @Test
+    void testExecuteBatchRejectsOversizedBatch() {
+        List<CreateOrderCommand> commands = Collections.nCopies(CreateOrderUseCase.MAX_BATCH_SIZE + 1, command(PRODUCT_A, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> createOrderUseCase.executeBatch(commands));
+        verifyNoInteractions(stockCheckPort, orderRepository);
+    }
+
+    private static final String PRODUCT_A = "6f1a2b3c-0000-4000-8000-00000000000a";
+    private static final String PRODUCT_B = "6f1a2b3c-0000-4000-8000-00000000000b";
+    private static final BigDecimal PRICE = new BigDecimal("10.00");
+    private static final Address ADDRESS = new Address("123 Main St", "Springfield", "12345", "US");
+
+    private static CreateOrderCommand command(String productId, int quantity) {
+        return new CreateOrderCommand(
+                UUID.randomUUID(),
+                ADDRESS,
+                List.of(new LineItem(productId, quantity, PRICE)),
+                PRICE.multiply(BigDecimal.valueOf(quantity))
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubPersistence() {
+        lenient().when(orderNumberGenerator.next()).thenReturn("ORD-20260120103000-00001-00000001");
+        lenient().when(idGenerator.next()).thenAnswer(invocation -> UUID.randomUUID());
+        lenient().when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
 }
@@ -0,0 +1,49 @@
+package com.ecommerce.order.application.usecase;
+
+import com.ecommerce.order.application.port.OrderExportPort;
+import com.ecommerce.order.exception.ExportLimitExceededException;
+import com.ecommerce.order.infrastructure.config.OrderExportProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class ExportOrdersUseCaseTest {
+
+    @Mock
+    private OrderExportPort orderExportPort;
+
+    private ExportOrdersUseCase exportOrdersUseCase;
+
+    @BeforeEach
+    void setUp() {
+        OrderExportProperties properties = new OrderExportProperties();
+        properties.setMaxConcurrent(2);
+        exportOrdersUseCase = new ExportOrdersUseCase(orderExportPort, properties);
+    }
+
+    @Test
+    void testRejectsExportsBeyondMaxConcurrent() {
+        exportOrdersUseCase.acquirePermit();
+        exportOrdersUseCase.acquirePermit();
+
+        assertThrows(ExportLimitExceededException.class, () -> exportOrdersUseCase.acquirePermit());
+    }
+
+    @Test
+    void testClosedPermitFreesSlotOnlyOnce() {
+        ExportOrdersUseCase.Permit first = exportOrdersUseCase.acquirePermit();
+        exportOrdersUseCase.acquirePermit();
+
+        first.close();
+        first.close();
+
+        assertNotNull(exportOrdersUseCase.acquirePermit());
+        assertThrows(ExportLimitExceededException.class, () -> exportOrdersUseCase.acquirePermit());
+    }
+}
@@ -1,13 +1,26 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.order.domain.model.OrderStatus;
 import com.ecommerce.order.domain.repository.OrderRepository;
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class GetAllOrdersUseCaseTest {
@@ -17,6 +30,8 @@ class GetAllOrdersUseCaseTest {
 
     private GetAllOrdersUseCase getAllOrdersUseCase;
 
+    private final Pageable pageable = PageRequest.of(0, 20);
+
     @BeforeEach
     void setUp() {
         getAllOrdersUseCase = new GetAllOrdersUseCase(orderRepository);
@@ -26,4 +41,35 @@ class GetAllOrdersUseCaseTest {
     void testUseCaseInitialization() {
         assertNotNull(getAllOrdersUseCase);
     }
+
+    @Test
+    void testExecuteByCriteriaWithoutFiltersListsAll() {
+        when(orderRepository.findAll(pageable)).thenReturn(Page.empty());
+
+        getAllOrdersUseCase.executeByCriteria(new OrderSearchCriteria(null, null, null, null), pageable);
+
+        verify(orderRepository).findAll(pageable);
+        verify(orderRepository, never()).findByCriteria(any(), any());
+    }
+
+    @Test
+    void testExecuteByCriteriaCombinesFilters() {
+        OrderSearchCriteria criteria = new OrderSearchCriteria(
+            UUID.randomUUID(), OrderStatus.PENDING, Instant.parse("2026-01-01T00:00:00Z"), null);
+        when(orderRepository.findByCriteria(criteria, pageable)).thenReturn(Page.empty());
+
+        getAllOrdersUseCase.executeByCriteria(criteria, pageable);
+
+        verify(orderRepository).findByCriteria(criteria, pageable);
+    }
+
+    @Test
+    void testExecuteByDateRangeRejectsInvertedRange() {
+        Instant now = Instant.now();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> getAllOrdersUseCase.executeByDateRange(now, now.minusSeconds(1), pageable));
+        assertThrows(IllegalArgumentException.class,
+            () -> new OrderSearchCriteria(null, null, now, now.minusSeconds(1)));
+    }
 }
@@ -1,5 +1,11 @@
 package com.ecommerce.order.application.usecase;
 
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection;
+import com.ecommerce.order.application.port.OrderCache;
+import com.ecommerce.order.domain.model.Address;
+import com.ecommerce.order.domain.model.LineItem;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderStatus;
 import com.ecommerce.order.domain.repository.OrderRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,7 +13,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateOrderStatusUseCaseTest {
@@ -15,15 +31,55 @@ class UpdateOrderStatusUseCaseTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderCache orderCache;
+
+    @Mock
+    private CustomerOrderSummaryProjection customerOrderSummaryProjection;
+
     private UpdateOrderStatusUseCase updateOrderStatusUseCase;
 
     @BeforeEach
     void setUp() {
-        updateOrderStatusUseCase = new UpdateOrderStatusUseCase(orderRepository);
+        updateOrderStatusUseCase = new UpdateOrderStatusUseCase(orderRepository, orderCache, customerOrderSummaryProjection);
     }
 
     @Test
     void testUseCaseInitialization() {
         assertNotNull(updateOrderStatusUseCase);
     }
+
+    @Test
+    void testStatusChangeIsRecordedInCustomerSummaryWithPreviousStatus() {
+        Order order = pendingOrder();
+        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Order updated = updateOrderStatusUseCase.execute(order.getId(), OrderStatus.CONFIRMED);
+
+        assertEquals(OrderStatus.CONFIRMED, updated.getStatus());
+        verify(customerOrderSummaryProjection).recordStatusChanged(updated, OrderStatus.PENDING);
+        verify(orderCache).invalidate(order.getId());
+    }
+
+    @Test
+    void testRejectedTransitionLeavesCustomerSummaryUntouched() {
+        Order order = pendingOrder();
+        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+
+        assertThrows(IllegalStateException.class,
+                () -> updateOrderStatusUseCase.execute(order.getId(), OrderStatus.DELIVERED));
+
+        verifyNoInteractions(customerOrderSummaryProjection);
+    }
+
+    private static Order pendingOrder() {
+        Instant createdAt = Instant.parse("2026-01-20T10:00:00Z");
+        return Order.rehydrate(
+            UUID.randomUUID(), "ORD-20260120100000-12345", UUID.randomUUID(), OrderStatus.PENDING,
+            new BigDecimal("20.00"), new Address("123 Main St", "Springfield", "12345", "US"),
+            List.of(new LineItem("6f1a2b3c-0000-4000-8000-00000000000a", 2, new BigDecimal("10.00"))),
+            createdAt, createdAt, null, null, null, null, null, 0L
+        );
+    }
 }
@@ -0,0 +1,93 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.domain.event.OrderCreatedEvent;
+import com.ecommerce.order.infrastructure.messaging.codec.EventEncoding;
+import com.ecommerce.order.infrastructure.messaging.codec.OrderCreatedEventCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark: JSON vs binary encoding of OrderCreated events.
+ * 
+ * Run from order-service (not part of the unit test run):
+ * <pre>
+ * mvn test-compile
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.ecommerce.order.benchmark.OrderCreatedEventEncodingBenchmark
+ * </pre>
+ * Payload sizes per encoding are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderCreatedEventEncodingBenchmark {
+
+    @Param({"1", "10", "50"})
+    public int lineItems;
+
+    @Param({"JSON", "BINARY"})
+    public EventEncoding encoding;
+
+    private OrderCreatedEventCodec codec;
+    private OrderCreatedEvent event;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        codec = new OrderCreatedEventCodec();
+        List<OrderCreatedEvent.LineItem> items = new ArrayList<>(lineItems);
+        for (int i = 0; i < lineItems; i++) {
+            items.add(new OrderCreatedEvent.LineItem(UUID.randomUUID(), i + 1));
+        }
+        event = OrderCreatedEvent.builder()
+            .eventId(UUID.randomUUID())
+            .eventType("OrderCreated")
+            .version("1")
+            .timestamp(OffsetDateTime.now())
+            .orderId(UUID.randomUUID())
+            .customerId(UUID.randomUUID())
+            .lineItems(items)
+            .build();
+        encoded = codec.encode(event, encoding);
+        System.out.printf("%n[payload] encoding=%s lineItems=%d bytes=%d%n", encoding, lineItems, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(event, encoding);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent decode() {
+        return codec.decode(encoded, encoding);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(OrderCreatedEventEncodingBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
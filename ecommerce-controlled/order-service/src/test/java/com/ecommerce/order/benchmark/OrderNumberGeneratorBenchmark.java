@@ -0,0 +1,79 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.domain.service.OrderNumberGenerator;
+import com.ecommerce.order.domain.service.SequenceOrderNumberGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark: order number generation, previous scheme vs SequenceOrderNumberGenerator.
+ * 
+ * legacyRandom reproduces the former Order.generateOrderNumber (formatter + new Random per call,
+ * 5 random digits - collides by the birthday bound after a few hundred orders per second).
+ * Runs 4 threads by default to include CAS contention; vary with -t.
+ * 
+ * Run from order-service (not part of the unit test run):
+ * <pre>
+ * mvn test-compile
+ * java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.ecommerce.order.benchmark.OrderNumberGeneratorBenchmark
+ * </pre>
+ * Add -prof gc to compare allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class OrderNumberGeneratorBenchmark {
+
+    private OrderNumberGenerator generator;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        generator = new SequenceOrderNumberGenerator(1);
+    }
+
+    @Benchmark
+    public String sequence() {
+        return generator.next();
+    }
+
+    @Benchmark
+    public String legacyRandom() {
+        String timestamp = DateTimeFormatter
+            .ofPattern("yyyyMMddHHmmss")
+            .withZone(ZoneOffset.UTC)
+            .format(Instant.now());
+        int random = 10000 + new Random().nextInt(90000);
+        return "ORD-" + timestamp + "-" + random;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(OrderNumberGeneratorBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,192 @@
+package com.ecommerce.order.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark: order listing queries (status, date range, customer+status+range)
+ * against a growing orders table, with and without the listing indexes.
+ *
+ * Uses the same shape of SQL Hibernate issues for JpaOrderRepository / OrderSpecifications
+ * (filter, ORDER BY created_at DESC, first page of 20) on an in-memory H2 table.
+ * With indexes the page queries should stay flat across row counts; without them they
+ * grow linearly. statusCount shows that the COUNT behind Page responses still grows
+ * with the number of matches - use the /scroll endpoints (no COUNT) for deep listings.
+ *
+ * Run from order-service (not part of the unit test run); larger tables via -p rows=5000000
+ * and a bigger heap:
+ * <pre>
+ * mvn test-compile
+ * java -Xmx4g -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.ecommerce.order.benchmark.OrderQueryScalingBenchmark
+ * </pre>
+ * The chosen plan for each query is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderQueryScalingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int CUSTOMERS = 10_000;
+    // Zone-free so bound parameters match the TIMESTAMP literals below regardless of JVM time zone
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    private static final String COLUMNS = "id, customer_id, status, total_amount, created_at";
+
+    private static final String STATUS_PAGE = "SELECT " + COLUMNS + " FROM orders"
+        + " WHERE status = ? ORDER BY created_at DESC LIMIT " + PAGE_SIZE;
+    private static final String RANGE_PAGE = "SELECT " + COLUMNS + " FROM orders"
+        + " WHERE created_at >= ? AND created_at <= ? ORDER BY created_at DESC LIMIT " + PAGE_SIZE;
+    private static final String CUSTOMER_STATUS_RANGE_PAGE = "SELECT " + COLUMNS + " FROM orders"
+        + " WHERE customer_id = ? AND status = ? AND created_at >= ? AND created_at <= ?"
+        + " ORDER BY created_at DESC LIMIT " + PAGE_SIZE;
+    private static final String STATUS_COUNT = "SELECT COUNT(*) FROM orders WHERE status = ?";
+
+    /**
+     * Rows in the orders table; one order per second going back from NEWEST.
+     */
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement statusPage;
+    private PreparedStatement rangePage;
+    private PreparedStatement customerStatusRangePage;
+    private PreparedStatement statusCount;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:orders_" + rows + "_" + indexed, "sa", "");
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE orders ("
+                + "id UUID PRIMARY KEY, "
+                + "customer_id VARCHAR(36) NOT NULL, "
+                + "status VARCHAR(50) NOT NULL, "
+                + "total_amount DECIMAL(19, 2), "
+                + "created_at TIMESTAMP NOT NULL)");
+            // Statuses and customers spread evenly; customer C5 only has PENDING orders (5 divides CUSTOMERS)
+            ddl.execute("INSERT INTO orders SELECT RANDOM_UUID(), "
+                + "'C' || MOD(X, " + CUSTOMERS + "), "
+                + "CASE MOD(X, 5) WHEN 0 THEN 'PENDING' WHEN 1 THEN 'CONFIRMED' WHEN 2 THEN 'SHIPPED' "
+                + "WHEN 3 THEN 'DELIVERED' ELSE 'CANCELLED' END, "
+                + "100.00, "
+                + "DATEADD('SECOND', -X, TIMESTAMP '2026-01-01 00:00:00') "
+                + "FROM SYSTEM_RANGE(1, " + rows + ")");
+            if (indexed) {
+                // Same indexes as OrderEntity / schema.sql
+                ddl.execute("CREATE INDEX idx_orders_created_id ON orders(created_at, id)");
+                ddl.execute("CREATE INDEX idx_orders_customer_created_id ON orders(customer_id, created_at, id)");
+                ddl.execute("CREATE INDEX idx_orders_status_created ON orders(status, created_at)");
+            }
+            ddl.execute("ANALYZE");
+        }
+
+        // Middle of the table: one hour window; the customer query spans the whole table
+        LocalDateTime middle = NEWEST.minusSeconds(rows / 2);
+        Object[] statusArgs = {"SHIPPED"};
+        Object[] rangeArgs = {middle.minusHours(1), middle};
+        Object[] customerArgs = {"C5", "PENDING", NEWEST.minusSeconds(rows + 1L), NEWEST};
+
+        statusPage = prepare(STATUS_PAGE, statusArgs);
+        rangePage = prepare(RANGE_PAGE, rangeArgs);
+        customerStatusRangePage = prepare(CUSTOMER_STATUS_RANGE_PAGE, customerArgs);
+        statusCount = prepare(STATUS_COUNT, statusArgs);
+
+        System.out.printf("%n[plan] rows=%d indexed=%s%n", rows, indexed);
+        printPlan(STATUS_PAGE, statusArgs);
+        printPlan(RANGE_PAGE, rangeArgs);
+        printPlan(CUSTOMER_STATUS_RANGE_PAGE, customerArgs);
+        printPlan(STATUS_COUNT, statusArgs);
+    }
+
+    private PreparedStatement prepare(String sql, Object... args) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        for (int i = 0; i < args.length; i++) {
+            statement.setObject(i + 1, args[i]);
+        }
+        return statement;
+    }
+
+    private void printPlan(String sql, Object... args) throws SQLException {
+        try (PreparedStatement explain = prepare("EXPLAIN " + sql, args);
+             ResultSet plan = explain.executeQuery()) {
+            plan.next();
+            System.out.println(plan.getString(1).replaceAll("\\s+", " "));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int statusPage() throws SQLException {
+        return drain(statusPage);
+    }
+
+    @Benchmark
+    public int dateRangePage() throws SQLException {
+        return drain(rangePage);
+    }
+
+    @Benchmark
+    public int customerStatusRangePage() throws SQLException {
+        return drain(customerStatusRangePage);
+    }
+
+    @Benchmark
+    public int statusCount() throws SQLException {
+        return drain(statusCount);
+    }
+
+    /**
+     * Reads every row so the whole page is materialized, as Hibernate would.
+     */
+    private static int drain(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                count += rs.getString(1).length();
+            }
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(OrderQueryScalingBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
@@ -0,0 +1,112 @@
+package com.ecommerce.order.benchmark;
+
+import com.ecommerce.order.domain.service.IdGenerator;
+import com.ecommerce.order.domain.service.RandomUuidGenerator;
+import com.ecommerce.order.domain.service.UuidV7Generator;
+import com.ecommerce.order.infrastructure.config.IdGeneratorProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark: primary-key insert throughput with random (v4) vs time-ordered (v7) UUIDs.
+ * 
+ * Inserts batches of BATCH rows shaped like the outbox/orders tables into an in-memory H2
+ * table that already holds {@code prefill} rows, so the B-tree is deep enough for random
+ * keys to hit scattered pages. Results are rows per millisecond. H2 keeps pages in memory;
+ * on a disk-backed database the gap widens (random keys also cost page reads and WAL).
+ * 
+ * Run from order-service (not part of the unit test run):
+ * <pre>
+ * mvn test-compile
+ * java -Xmx4g -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *     com.ecommerce.order.benchmark.UuidInsertBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Param({"V4", "V7"})
+    public IdGeneratorProperties.Version version;
+
+    @Param({"100000", "1000000"})
+    public int prefill;
+
+    private IdGenerator ids;
+    private Connection connection;
+    private PreparedStatement insert;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        ids = version == IdGeneratorProperties.Version.V7 ? new UuidV7Generator() : new RandomUuidGenerator();
+        connection = DriverManager.getConnection("jdbc:h2:mem:uuid_" + version + "_" + prefill, "sa", "");
+        connection.setAutoCommit(false);
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("CREATE TABLE events ("
+                + "id UUID PRIMARY KEY, "
+                + "aggregate_id UUID NOT NULL, "
+                + "status VARCHAR(50) NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL)");
+        }
+        insert = connection.prepareStatement(
+            "INSERT INTO events (id, aggregate_id, status, created_at) VALUES (?, ?, 'NEW', ?)");
+        for (int done = 0; done < prefill; done += BATCH) {
+            insertBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertBatch() throws SQLException {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int i = 0; i < BATCH; i++) {
+            insert.setObject(1, ids.next());
+            insert.setObject(2, ids.next());
+            insert.setTimestamp(3, now);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(UuidInsertBenchmark.class.getSimpleName())
+            .build())
+            .run();
+    }
+}
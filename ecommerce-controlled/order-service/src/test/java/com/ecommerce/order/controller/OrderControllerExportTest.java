@@ -0,0 +1,82 @@
+package com.ecommerce.order.controller;
+
+import com.ecommerce.order.application.port.OrderExportPort;
+import com.ecommerce.order.application.service.IdempotencyService;
+import com.ecommerce.order.application.usecase.*;
+import com.ecommerce.order.exception.ExportLimitExceededException;
+import com.ecommerce.order.infrastructure.config.OrderExportProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Export permits must come back when the async request ends, whether or not
+ * the streaming body ever ran.
+ */
+class OrderControllerExportTest {
+
+    private OrderExportPort orderExportPort;
+    private ExportOrdersUseCase exportOrdersUseCase;
+    private OrderController controller;
+
+    @BeforeEach
+    void setUp() {
+        OrderExportProperties properties = new OrderExportProperties();
+        properties.setMaxConcurrent(1);
+        orderExportPort = mock(OrderExportPort.class);
+        exportOrdersUseCase = new ExportOrdersUseCase(orderExportPort, properties);
+        controller = new OrderController(
+                mock(CreateOrderUseCase.class),
+                mock(GetAllOrdersUseCase.class),
+                mock(GetOrderByIdUseCase.class),
+                mock(UpdateOrderUseCase.class),
+                mock(DeleteOrderUseCase.class),
+                mock(GetOrdersByCustomerIdUseCase.class),
+                mock(UpdateOrderStatusUseCase.class),
+                mock(CancelOrderUseCase.class),
+                exportOrdersUseCase,
+                mock(GetCustomerOrderSummaryUseCase.class),
+                mock(IdempotencyService.class),
+                new ObjectMapper());
+    }
+
+    @Test
+    void testPermitIsReleasedWhenBodyIsNeverRun() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/export");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(webRequest);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+        asyncManager.setTaskExecutor(task -> {
+            throw new RejectedExecutionException("executor saturated");
+        });
+
+        ResponseEntity<StreamingResponseBody> entity = controller.exportOrders(null, null, null, null, webRequest);
+        assertThrows(ExportLimitExceededException.class, () -> exportOrdersUseCase.acquirePermit());
+
+        // What the MVC return value handler does with the body; the executor rejects it
+        asyncManager.startCallableProcessing(() -> {
+            entity.getBody().writeTo(response.getOutputStream());
+            return null;
+        });
+        request.getAsyncContext().complete();
+
+        verifyNoInteractions(orderExportPort);
+        assertNotNull(exportOrdersUseCase.acquirePermit());
+    }
+}
@@ -20,7 +20,7 @@ class OrderTest {
         List<LineItem> lineItems = List.of(lineItem);
         BigDecimal totalAmount = BigDecimal.valueOf(100.00);
 
-        Order order = Order.create(customerId, shippingAddress, lineItems, totalAmount);
+        Order order = TestOrders.create(customerId, shippingAddress, lineItems, totalAmount);
 
         assertNotNull(order);
         assertNotNull(order.getId());
@@ -41,7 +41,7 @@ class OrderTest {
         List<LineItem> lineItems = List.of(lineItem);
         BigDecimal totalAmount = BigDecimal.valueOf(100.00);
 
-        Order order = Order.create(customerId, shippingAddress, lineItems, totalAmount);
+        Order order = TestOrders.create(customerId, shippingAddress, lineItems, totalAmount);
         
         assertEquals(OrderStatus.PENDING, order.getStatus());
         
@@ -49,4 +49,30 @@ class OrderTest {
         assertEquals(OrderStatus.CONFIRMED, order.getStatus());
         assertNotNull(order.getConfirmedAt());
     }
+
+    @Test
+    void testRehydrateRestoresPersistedState() {
+        UUID id = UUID.randomUUID();
+        UUID customerId = UUID.randomUUID();
+        Address shippingAddress = new Address("123 Main St", "Springfield", "12345", "US");
+        List<LineItem> lineItems = List.of(new LineItem("PROD-003", 1, BigDecimal.valueOf(25.00)));
+        Instant createdAt = Instant.parse("2026-01-20T10:00:00Z");
+        Instant cancelledAt = Instant.parse("2026-01-20T11:00:00Z");
+
+        Order order = Order.rehydrate(
+            id, "ORD-20260120100000-12345", customerId, OrderStatus.CANCELLED,
+            BigDecimal.valueOf(25.00), shippingAddress, lineItems,
+            createdAt, cancelledAt, null, null, null, cancelledAt, "out of stock", 3L
+        );
+
+        assertEquals(id, order.getId());
+        assertEquals("ORD-20260120100000-12345", order.getOrderNumber());
+        assertEquals(OrderStatus.CANCELLED, order.getStatus());
+        assertEquals(createdAt, order.getCreatedAt());
+        assertEquals(cancelledAt, order.getCancelledAt());
+        assertEquals("out of stock", order.getCancellationReason());
+        assertEquals(3L, order.getVersion());
+        assertFalse(order.isNew());
+        assertTrue(order.isTerminal());
+    }
 }
@@ -0,0 +1,29 @@
+package com.ecommerce.order.domain.model;
+
+import com.ecommerce.order.domain.service.IdGenerator;
+import com.ecommerce.order.domain.service.OrderNumberGenerator;
+import com.ecommerce.order.domain.service.SequenceOrderNumberGenerator;
+import com.ecommerce.order.domain.service.UuidV7Generator;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Creates orders for tests with shared generators on a fixed node id, so
+ * order numbers within a test run never collide.
+ */
+public final class TestOrders {
+
+    public static final int NODE_ID = 1;
+
+    private static final OrderNumberGenerator ORDER_NUMBERS = new SequenceOrderNumberGenerator(NODE_ID);
+    private static final IdGenerator IDS = new UuidV7Generator();
+
+    private TestOrders() {
+    }
+
+    public static Order create(UUID customerId, Address shippingAddress, List<LineItem> lineItems, BigDecimal totalAmount) {
+        return Order.create(customerId, shippingAddress, lineItems, totalAmount, ORDER_NUMBERS, IDS);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecommerce.order.domain.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCursorTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        OrderCursor cursor = new OrderCursor(Instant.parse("2026-01-20T10:30:00.123456Z"), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertEquals(cursor, OrderCursor.decode(token));
+    }
+
+    @Test
+    void tokenIsUrlSafe() {
+        OrderCursor cursor = new OrderCursor(Instant.now(), UUID.randomUUID());
+
+        assertTrue(cursor.encode().matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        String valid = new OrderCursor(Instant.now(), UUID.randomUUID()).encode();
+        byte[] wrongVersion = Base64.getUrlDecoder().decode(valid);
+        wrongVersion[0] = 9;
+
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> OrderCursor.decode(valid.substring(0, 10)));
+        assertThrows(IllegalArgumentException.class,
+            () -> OrderCursor.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(wrongVersion)));
+    }
+}
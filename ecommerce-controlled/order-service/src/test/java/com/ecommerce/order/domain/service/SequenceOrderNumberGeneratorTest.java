@@ -0,0 +1,153 @@
+package com.ecommerce.order.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequenceOrderNumberGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-20T10:30:45Z");
+
+    @Test
+    void formatsTimestampNodeAndSequence() {
+        SequenceOrderNumberGenerator generator = new SequenceOrderNumberGenerator(42, new MutableClock(NOW));
+
+        assertEquals("ORD-20260120103045-00042-00000000", generator.next());
+        assertEquals("ORD-20260120103045-00042-00000001", generator.next());
+        assertTrue(generator.next().length() <= 50);
+    }
+
+    @Test
+    void sequenceRestartsEachSecond() {
+        MutableClock clock = new MutableClock(NOW);
+        SequenceOrderNumberGenerator generator = new SequenceOrderNumberGenerator(1, clock);
+        generator.next();
+        generator.next();
+
+        clock.advanceMillis(1000);
+
+        assertEquals("ORD-20260120103046-00001-00000000", generator.next());
+    }
+
+    @Test
+    void staysMonotonicWhenClockStepsBack() {
+        MutableClock clock = new MutableClock(NOW);
+        SequenceOrderNumberGenerator generator = new SequenceOrderNumberGenerator(1, clock);
+        long before = generator.nextValue();
+
+        clock.advanceMillis(-60_000);
+
+        assertTrue(generator.nextValue() > before);
+    }
+
+    @Test
+    void sequenceOverflowCarriesIntoNextSecond() {
+        SequenceOrderNumberGenerator generator = new SequenceOrderNumberGenerator(1, new MutableClock(NOW));
+        long previous = generator.nextValue();
+        for (long i = 0; i < SequenceOrderNumberGenerator.SEQUENCE_MASK; i++) {
+            long next = generator.nextValue();
+            assertTrue(next > previous);
+            previous = next;
+        }
+
+        // 2^24 numbers issued within one frozen second; the next one borrows the following second
+        assertEquals("ORD-20260120103046-00001-00000000", generator.next());
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new SequenceOrderNumberGenerator(-1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new SequenceOrderNumberGenerator(SequenceOrderNumberGenerator.MAX_NODE_ID + 1));
+    }
+
+    @Test
+    void concurrentCallersNeverGetTheSameNumber() throws Exception {
+        int threads = 8;
+        int perThread = 5_000;
+        SequenceOrderNumberGenerator generator = new SequenceOrderNumberGenerator(7);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<long[]>> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                Callable<long[]> worker = () -> {
+                    long[] values = new long[perThread];
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        values[i] = generator.nextValue();
+                        // Every caller sees strictly increasing values
+                        if (i > 0 && values[i] <= values[i - 1]) {
+                            throw new AssertionError("not monotonic at " + i);
+                        }
+                    }
+                    return values;
+                };
+                results.add(pool.submit(worker));
+            }
+            start.countDown();
+            for (Future<long[]> result : results) {
+                result.get();
+            }
+        }
+
+        long[] all = new long[threads * perThread];
+        int offset = 0;
+        for (Future<long[]> result : results) {
+            long[] values = result.get();
+            System.arraycopy(values, 0, all, offset, values.length);
+            offset += values.length;
+        }
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertNotEquals(all[i - 1], all[i], "duplicate order number value");
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private final AtomicLong millis;
+
+        MutableClock(Instant start) {
+            this.millis = new AtomicLong(start.toEpochMilli());
+        }
+
+        void advanceMillis(long delta) {
+            millis.addAndGet(delta);
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
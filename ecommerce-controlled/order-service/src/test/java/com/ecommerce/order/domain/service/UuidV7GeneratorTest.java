@@ -0,0 +1,73 @@
+package com.ecommerce.order.domain.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void setsVersionVariantAndTimestamp() {
+        Instant now = Instant.parse("2026-01-20T10:30:45.123Z");
+        UuidV7Generator generator = new UuidV7Generator(Clock.fixed(now, ZoneOffset.UTC));
+
+        UUID id = generator.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertEquals(now.toEpochMilli(), UuidV7Generator.timestampMillis(id));
+    }
+
+    @Test
+    void idsSortInGenerationOrderWithinTheSameMillisecond() {
+        UuidV7Generator generator = new UuidV7Generator(
+            Clock.fixed(Instant.parse("2026-01-20T10:30:45Z"), ZoneOffset.UTC));
+
+        UUID previous = generator.next();
+        // Beyond 4096 ids the counter carries into the next millisecond
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.next();
+            // Unsigned comparison of the time-ordered high bits
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void concurrentCallersNeverGetTheSameId() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+        UuidV7Generator generator = new UuidV7Generator();
+        Set<UUID> seen = ConcurrentHashMap.newKeySet(threads * perThread);
+
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                results.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        if (!seen.add(generator.next())) {
+                            throw new AssertionError("duplicate id");
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        assertEquals(threads * perThread, seen.size());
+    }
+}
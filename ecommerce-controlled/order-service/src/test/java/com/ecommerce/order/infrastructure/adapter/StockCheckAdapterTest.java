@@ -0,0 +1,198 @@
+package com.ecommerce.order.infrastructure.adapter;
+
+import com.ecommerce.order.domain.model.LineItem;
+import com.ecommerce.order.exception.InsufficientStockException;
+import com.ecommerce.order.exception.ProductNotFoundException;
+import com.ecommerce.order.exception.StockValidationException;
+import com.ecommerce.order.infrastructure.cache.InventoryNearCache;
+import com.ecommerce.order.infrastructure.client.InventoryServiceClient;
+import com.ecommerce.order.infrastructure.client.dto.InventoryBatchLookupRequest;
+import com.ecommerce.order.infrastructure.client.dto.InventoryCheckResponse;
+import com.ecommerce.order.infrastructure.config.StockCheckProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockCheckAdapterTest {
+
+    @Mock
+    private InventoryServiceClient inventoryServiceClient;
+
+    private StockCheckProperties properties;
+
+    private ExecutorService executor;
+
+    private InventoryNearCache nearCache;
+
+    private StockCheckAdapter stockCheckAdapter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new StockCheckProperties();
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        nearCache = new InventoryNearCache(properties, new SimpleMeterRegistry());
+        stockCheckAdapter = new StockCheckAdapter(inventoryServiceClient, properties, executor, nearCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    void testBulkValidationUsesSingleRoundTrip() {
+        when(inventoryServiceClient.getInventoriesByProductIds(any(InventoryBatchLookupRequest.class)))
+            .thenReturn(List.of(inventory("PROD-001", 10), inventory("PROD-002", 5)));
+
+        stockCheckAdapter.validateStockAvailability(List.of(
+            lineItem("PROD-001", 2),
+            lineItem("PROD-002", 5)
+        ));
+
+        verify(inventoryServiceClient, times(1)).getInventoriesByProductIds(any(InventoryBatchLookupRequest.class));
+        verify(inventoryServiceClient, never()).getInventoryByProductId(any());
+    }
+
+    @Test
+    void testBulkValidationKeepsSingleFailureType() {
+        when(inventoryServiceClient.getInventoriesByProductIds(any(InventoryBatchLookupRequest.class)))
+            .thenReturn(List.of(inventory("PROD-001", 1)));
+
+        assertThrows(InsufficientStockException.class, () ->
+            stockCheckAdapter.validateStockAvailability(List.of(lineItem("PROD-001", 2))));
+    }
+
+    @Test
+    void testBulkValidationReportsEveryShortfall() {
+        when(inventoryServiceClient.getInventoriesByProductIds(any(InventoryBatchLookupRequest.class)))
+            .thenReturn(List.of(inventory("PROD-001", 1), inventory("PROD-002", 0)));
+
+        StockValidationException ex = assertThrows(StockValidationException.class, () ->
+            stockCheckAdapter.validateStockAvailability(List.of(
+                lineItem("PROD-001", 2),
+                lineItem("PROD-002", 1),
+                lineItem("PROD-003", 1)
+            )));
+
+        assertEquals(2, ex.getInsufficientStock().size());
+        assertEquals(1, ex.getMissingProducts().size());
+        assertEquals("PROD-003", ex.getMissingProducts().get(0).getProductId());
+    }
+
+    @Test
+    void testBulkValidationTreatsAbsentProductAsNotFound() {
+        when(inventoryServiceClient.getInventoriesByProductIds(any(InventoryBatchLookupRequest.class)))
+            .thenReturn(List.of());
+
+        assertThrows(ProductNotFoundException.class, () ->
+            stockCheckAdapter.validateStockAvailability(List.of(lineItem("PROD-404", 1))));
+    }
+
+    @Test
+    void testConcurrentModeChecksEveryItemIndividually() {
+        properties.setMode(StockCheckProperties.Mode.CONCURRENT);
+        when(inventoryServiceClient.getInventoryByProductId("PROD-001")).thenReturn(inventory("PROD-001", 10));
+        when(inventoryServiceClient.getInventoryByProductId("PROD-002")).thenReturn(inventory("PROD-002", 10));
+
+        stockCheckAdapter.validateStockAvailability(List.of(
+            lineItem("PROD-001", 1),
+            lineItem("PROD-002", 1)
+        ));
+
+        verify(inventoryServiceClient, times(2)).getInventoryByProductId(any());
+        verify(inventoryServiceClient, never()).getInventoriesByProductIds(any(InventoryBatchLookupRequest.class));
+    }
+
+    @Test
+    void testConcurrentModePropagatesFirstFailure() {
+        properties.setMode(StockCheckProperties.Mode.CONCURRENT);
+        when(inventoryServiceClient.getInventoryByProductId("PROD-001")).thenReturn(inventory("PROD-001", 0));
+
+        assertThrows(InsufficientStockException.class, () ->
+            stockCheckAdapter.validateStockAvailability(List.of(lineItem("PROD-001", 1))));
+    }
+
+    @Test
+    void testBulkValidationOnlyFetchesUncachedProducts() {
+        nearCache.put(inventory("PROD-001", 10));
+        when(inventoryServiceClient.getInventoriesByProductIds(any(InventoryBatchLookupRequest.class)))
+            .thenReturn(List.of(inventory("PROD-002", 5)));
+
+        stockCheckAdapter.validateStockAvailability(List.of(
+            lineItem("PROD-001", 2),
+            lineItem("PROD-002", 5)
+        ));
+
+        ArgumentCaptor<InventoryBatchLookupRequest> request = ArgumentCaptor.forClass(InventoryBatchLookupRequest.class);
+        verify(inventoryServiceClient).getInventoriesByProductIds(request.capture());
+        assertEquals(List.of("PROD-002"), request.getValue().productIds());
+    }
+
+    @Test
+    void testFullyCachedOrderSkipsInventoryService() {
+        nearCache.put(inventory("PROD-001", 10));
+
+        stockCheckAdapter.validateStockAvailability(List.of(lineItem("PROD-001", 2)));
+        stockCheckAdapter.validateStockAvailability("PROD-001", 2);
+
+        verifyNoInteractions(inventoryServiceClient);
+    }
+
+    @Test
+    void testStockChangeUpdatesCachedQuantity() {
+        nearCache.put(inventory("PROD-001", 10));
+
+        nearCache.applyStockChange("PROD-001", 1);
+
+        assertThrows(InsufficientStockException.class, () ->
+            stockCheckAdapter.validateStockAvailability(List.of(lineItem("PROD-001", 2))));
+        verifyNoInteractions(inventoryServiceClient);
+    }
+
+    @Test
+    void testStockChangeWithoutQuantityInvalidatesEntry() {
+        nearCache.put(inventory("PROD-001", 10));
+        when(inventoryServiceClient.getInventoryByProductId("PROD-001")).thenReturn(inventory("PROD-001", 3));
+
+        nearCache.applyStockChange("PROD-001", null);
+        stockCheckAdapter.validateStockAvailability("PROD-001", 2);
+
+        verify(inventoryServiceClient).getInventoryByProductId("PROD-001");
+    }
+
+    @Test
+    void testDisabledCacheAlwaysCallsInventoryService() {
+        properties.getCache().setEnabled(false);
+        StockCheckAdapter uncachedAdapter = new StockCheckAdapter(inventoryServiceClient, properties, executor,
+            new InventoryNearCache(properties, new SimpleMeterRegistry()));
+        when(inventoryServiceClient.getInventoryByProductId("PROD-001")).thenReturn(inventory("PROD-001", 10));
+
+        uncachedAdapter.validateStockAvailability("PROD-001", 1);
+        uncachedAdapter.validateStockAvailability("PROD-001", 1);
+
+        verify(inventoryServiceClient, times(2)).getInventoryByProductId("PROD-001");
+    }
+
+    private LineItem lineItem(String productId, int quantity) {
+        return new LineItem(productId, quantity, BigDecimal.valueOf(10.00));
+    }
+
+    private InventoryCheckResponse inventory(String productId, int quantity) {
+        return new InventoryCheckResponse(1L, productId, "Product", quantity, 0, 100, "A", null);
+    }
+}
@@ -0,0 +1,135 @@
+package com.ecommerce.order.infrastructure.cache;
+
+import com.ecommerce.order.domain.model.Address;
+import com.ecommerce.order.domain.model.LineItem;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.model.TestOrders;
+import com.ecommerce.order.infrastructure.config.OrderCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineOrderCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private OrderCacheProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new OrderCacheProperties();
+        properties.setActiveTtl(Duration.ofSeconds(30));
+        properties.setTerminalTtl(Duration.ofHours(1));
+    }
+
+    @Test
+    void activeOrderExpiresAfterActiveTtl() {
+        CaffeineOrderCache cache = newCache();
+        Order order = newOrder();
+
+        cache.put(order.getId(), order);
+        advance(Duration.ofSeconds(29));
+        assertSame(order, cache.get(order.getId()).orElseThrow());
+
+        advance(Duration.ofSeconds(2));
+        assertTrue(cache.get(order.getId()).isEmpty());
+    }
+
+    @Test
+    void terminalOrderOutlivesActiveTtl() {
+        CaffeineOrderCache cache = newCache();
+        Order order = newOrder();
+        order.cancel("changed my mind");
+        assertEquals(OrderStatus.CANCELLED, order.getStatus());
+
+        cache.put(order.getId(), order);
+        advance(Duration.ofMinutes(59));
+        assertTrue(cache.get(order.getId()).isPresent());
+
+        advance(Duration.ofMinutes(2));
+        assertTrue(cache.get(order.getId()).isEmpty());
+    }
+
+    @Test
+    void invalidateOutsideTransactionDropsEntry() {
+        CaffeineOrderCache cache = newCache();
+        Order order = newOrder();
+
+        cache.put(order.getId(), order);
+        cache.invalidate(order.getId());
+
+        assertTrue(cache.get(order.getId()).isEmpty());
+    }
+
+    @Test
+    void disabledCacheNeverHits() {
+        properties.setEnabled(false);
+        CaffeineOrderCache cache = newCache();
+        Order order = newOrder();
+
+        cache.put(order.getId(), order);
+
+        assertTrue(cache.get(order.getId()).isEmpty());
+    }
+
+    @Test
+    void recordsHitsAndMisses() {
+        CaffeineOrderCache cache = newCache();
+        Order order = newOrder();
+
+        cache.get(order.getId());
+        cache.put(order.getId(), order);
+        cache.get(order.getId());
+        cache.get(order.getId());
+
+        assertEquals(2.0, meterRegistry.get("cache.gets")
+            .tag("cache", CaffeineOrderCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+            .tag("cache", CaffeineOrderCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void weightGrowsWithLineItems() {
+        Order small = newOrder();
+        Order large = TestOrders.create(
+            UUID.randomUUID(),
+            new Address("123 Main St", "Springfield", "12345", "US"),
+            List.of(
+                new LineItem("PROD-001", 1, BigDecimal.TEN),
+                new LineItem("PROD-002", 1, BigDecimal.TEN),
+                new LineItem("PROD-003", 1, BigDecimal.TEN)
+            ),
+            BigDecimal.valueOf(30)
+        );
+
+        assertEquals(CaffeineOrderCache.weigh(small) + 2 * CaffeineOrderCache.LINE_ITEM_WEIGHT,
+            CaffeineOrderCache.weigh(large));
+    }
+
+    private CaffeineOrderCache newCache() {
+        return new CaffeineOrderCache(properties, meterRegistry, nanos::get);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private static Order newOrder() {
+        return TestOrders.create(
+            UUID.randomUUID(),
+            new Address("123 Main St", "Springfield", "12345", "US"),
+            List.of(new LineItem("PROD-001", 2, BigDecimal.valueOf(50.00))),
+            BigDecimal.valueOf(100.00)
+        );
+    }
+}
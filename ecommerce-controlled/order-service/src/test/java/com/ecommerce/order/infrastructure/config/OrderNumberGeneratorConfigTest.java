@@ -0,0 +1,30 @@
+package com.ecommerce.order.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderNumberGeneratorConfigTest {
+
+    @Test
+    void configuredNodeIdWins() {
+        assertEquals(12, OrderNumberGeneratorConfig.resolveNodeId(12, "10.244.1.7", "order-service-abc"));
+    }
+
+    @Test
+    void podIpGivesDistinctNodeIdsPerReplica() {
+        int first = OrderNumberGeneratorConfig.resolveNodeId(null, "10.244.1.7", "order-service-abc");
+        int second = OrderNumberGeneratorConfig.resolveNodeId(null, "10.244.2.7", "order-service-abc");
+
+        assertEquals((1 << 8) | 7, first);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void fallsBackToHostnameWhenPodIpMissingOrNotIpv4() {
+        int expected = "order-service-abc".hashCode() & 0xFFFF;
+
+        assertEquals(expected, OrderNumberGeneratorConfig.resolveNodeId(null, null, "order-service-abc"));
+        assertEquals(expected, OrderNumberGeneratorConfig.resolveNodeId(null, "fd00::1", "order-service-abc"));
+    }
+}
@@ -0,0 +1,157 @@
+package com.ecommerce.order.infrastructure.messaging;
+
+import com.ecommerce.order.infrastructure.config.OutboxPublisherProperties;
+import com.ecommerce.order.infrastructure.persistence.OutboxEntity;
+import com.ecommerce.order.infrastructure.persistence.OutboxJdbcRepository;
+import com.ecommerce.order.infrastructure.persistence.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cloud.stream.config.BindingServiceProperties;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxPublisherTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private OutboxJdbcRepository outboxJdbcRepository;
+
+    @Mock
+    private StreamBridge streamBridge;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private BindingServiceProperties bindingServiceProperties;
+
+    private OutboxPublisherProperties properties;
+
+    private OutboxPublisher outboxPublisher;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxPublisherProperties();
+        properties.setInstanceId("order-service-test");
+        outboxPublisher = new OutboxPublisher(outboxRepository, outboxJdbcRepository, streamBridge,
+            kafkaTemplate, bindingServiceProperties, properties);
+    }
+
+    @Test
+    void testPollClaimsBoundedBatchUnderInstanceLease() {
+        properties.setBatchSize(25);
+        when(outboxRepository.claimBatch(anyString(), any(Duration.class), anyInt())).thenReturn(List.of());
+
+        outboxPublisher.publishPendingEvents();
+
+        verify(outboxRepository).claimBatch("order-service-test", Duration.ofSeconds(30), 25);
+        verifyNoInteractions(kafkaTemplate, outboxJdbcRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBatchModeWritesStatusesBackInBulk() {
+        OutboxEntity ok1 = outboxEntry();
+        OutboxEntity ok2 = outboxEntry();
+        OutboxEntity broken = outboxEntry();
+        when(outboxRepository.claimBatch(anyString(), any(Duration.class), anyInt())).thenReturn(List.of(ok1, ok2, broken));
+        when(bindingServiceProperties.getBindingDestination("orderEvents-out-0")).thenReturn("order.events");
+        when(kafkaTemplate.send(any(Message.class))).thenAnswer(invocation -> {
+            Message<byte[]> message = invocation.getArgument(0);
+            assertEquals("application/json", message.getHeaders().get(MessageHeaders.CONTENT_TYPE));
+            if (broken.getAggregateId().toString().equals(message.getHeaders().get(KafkaHeaders.KEY))) {
+                return CompletableFuture.failedFuture(new IllegalStateException("broker down"));
+            }
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+
+        outboxPublisher.publishPendingEvents();
+
+        ArgumentCaptor<Collection<UUID>> sent = ArgumentCaptor.forClass(Collection.class);
+        verify(outboxJdbcRepository).markSent(sent.capture(), any(Instant.class));
+        assertEquals(Set.of(ok1.getId(), ok2.getId()), Set.copyOf(sent.getValue()));
+
+        ArgumentCaptor<Map<UUID, String>> failed = ArgumentCaptor.forClass(Map.class);
+        verify(outboxJdbcRepository).recordFailures(failed.capture(), eq("order-service-test"), eq(5));
+        assertEquals(Set.of(broken.getId()), failed.getValue().keySet());
+        assertEquals("broker down", failed.getValue().get(broken.getId()));
+
+        verify(kafkaTemplate, times(3)).send(any(Message.class));
+        verifyNoInteractions(streamBridge);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testDispatchPublishesOnlyEventsItCouldClaim() {
+        OutboxEntity claimed = outboxEntry();
+        UUID takenByPoller = UUID.randomUUID();
+        when(outboxRepository.claimByIds(anyCollection(), anyString(), any(Duration.class))).thenReturn(List.of(claimed));
+        when(bindingServiceProperties.getBindingDestination("orderEvents-out-0")).thenReturn("order.events");
+        when(kafkaTemplate.send(any(Message.class)))
+            .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        outboxPublisher.publishByIds(List.of(claimed.getId(), takenByPoller));
+
+        verify(outboxRepository).claimByIds(List.of(claimed.getId(), takenByPoller), "order-service-test", Duration.ofSeconds(30));
+        verify(kafkaTemplate, times(1)).send(any(Message.class));
+        verify(outboxJdbcRepository).markSent(eq(Set.of(claimed.getId())), any(Instant.class));
+    }
+
+    @Test
+    void testSequentialModeUsesStreamBridge() {
+        properties.setMode(OutboxPublisherProperties.Mode.SEQUENTIAL);
+        OutboxEntity event = outboxEntry();
+        when(outboxRepository.claimBatch(anyString(), any(Duration.class), anyInt())).thenReturn(List.of(event));
+        when(streamBridge.send(eq("orderEvents-out-0"), any())).thenReturn(true);
+
+        outboxPublisher.publishPendingEvents();
+
+        assertEquals(OutboxEntity.OutboxStatus.SENT, event.getStatus());
+        verify(outboxRepository).save(event);
+        verifyNoInteractions(kafkaTemplate);
+        verify(outboxJdbcRepository, never()).recordFailures(anyMap(), anyString(), anyInt());
+    }
+
+    private OutboxEntity outboxEntry() {
+        return OutboxEntity.builder()
+            .id(UUID.randomUUID())
+            .aggregateType("Order")
+            .aggregateId(UUID.randomUUID())
+            .eventType("OrderCreated")
+            .payload("{}".getBytes(StandardCharsets.UTF_8))
+            .contentType("application/json")
+            .status(OutboxEntity.OutboxStatus.NEW)
+            .createdAt(Instant.now())
+            .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecommerce.order.infrastructure.messaging.codec;
+
+import com.ecommerce.order.domain.event.OrderCreatedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCreatedEventCodecTest {
+
+    private final OrderCreatedEventCodec codec = new OrderCreatedEventCodec();
+
+    @Test
+    void testBinaryRoundTripPreservesEvent() {
+        OrderCreatedEvent event = sampleEvent();
+
+        OrderCreatedEvent decoded = codec.decode(codec.encode(event, EventEncoding.BINARY), EventEncoding.BINARY);
+
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    void testBinaryRoundTripKeepsNullFields() {
+        OrderCreatedEvent event = new OrderCreatedEvent();
+        event.setEventId(UUID.randomUUID());
+        event.setVersion(null);
+
+        OrderCreatedEvent decoded = OrderCreatedEventBinaryFormat.decode(OrderCreatedEventBinaryFormat.encode(event));
+
+        assertEquals(event, decoded);
+        assertNull(decoded.getLineItems());
+        assertNull(decoded.getTimestamp());
+    }
+
+    @Test
+    void testBinaryIsSmallerThanJson() {
+        OrderCreatedEvent event = sampleEvent();
+
+        int json = codec.encode(event, EventEncoding.JSON).length;
+        int binary = codec.encode(event, EventEncoding.BINARY).length;
+
+        assertTrue(binary * 2 < json, "binary=" + binary + " json=" + json);
+    }
+
+    @Test
+    void testRejectsUnknownFormatVersion() {
+        byte[] payload = OrderCreatedEventBinaryFormat.encode(sampleEvent());
+        payload[1] = 2;
+
+        assertThrows(IllegalArgumentException.class, () -> OrderCreatedEventBinaryFormat.decode(payload));
+    }
+
+    @Test
+    void testRejectsTruncatedPayload() {
+        byte[] payload = OrderCreatedEventBinaryFormat.encode(sampleEvent());
+        byte[] truncated = Arrays.copyOf(payload, payload.length - 3);
+
+        assertThrows(IllegalArgumentException.class, () -> OrderCreatedEventBinaryFormat.decode(truncated));
+    }
+
+    @Test
+    void testContentTypeNegotiation() {
+        assertEquals(EventEncoding.JSON, EventEncoding.fromContentType("application/json;charset=UTF-8"));
+        assertEquals(EventEncoding.BINARY, EventEncoding.fromContentType(EventEncoding.BINARY.contentType()));
+        assertThrows(IllegalArgumentException.class, () -> EventEncoding.fromContentType("text/plain"));
+    }
+
+    private OrderCreatedEvent sampleEvent() {
+        return OrderCreatedEvent.builder()
+            .eventId(UUID.randomUUID())
+            .eventType("OrderCreated")
+            .version("1")
+            .timestamp(OffsetDateTime.of(2026, 10, 16, 12, 30, 15, 123_456_789, ZoneOffset.ofHours(3)))
+            .orderId(UUID.randomUUID())
+            .customerId(UUID.randomUUID())
+            .lineItems(List.of(
+                new OrderCreatedEvent.LineItem(UUID.randomUUID(), 2),
+                new OrderCreatedEvent.LineItem(UUID.randomUUID(), 150)))
+            .build();
+    }
+}
@@ -0,0 +1,201 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.application.port.CustomerOrderSummaryProjection.CustomerOrderSummary;
+import com.ecommerce.order.domain.model.Address;
+import com.ecommerce.order.domain.model.LineItem;
+import com.ecommerce.order.domain.model.Order;
+import com.ecommerce.order.domain.model.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the projection SQL against in-memory H2 (same dialect as the service).
+ */
+class CustomerOrderSummaryJdbcRepositoryTest {
+
+    private static final Instant T0 = Instant.parse("2026-01-20T10:00:00Z");
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private CustomerOrderSummaryJdbcRepository repository;
+    private final UUID customerId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:summary_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        jdbcTemplate.getJdbcTemplate().execute("""
+            CREATE TABLE orders (
+                id UUID PRIMARY KEY,
+                order_number VARCHAR(255) NOT NULL,
+                customer_id VARCHAR(36) NOT NULL,
+                status VARCHAR(50) NOT NULL,
+                total_amount DECIMAL(19, 2),
+                created_at TIMESTAMP NOT NULL)
+            """);
+        jdbcTemplate.getJdbcTemplate().execute("""
+            CREATE TABLE customer_order_summary (
+                customer_id VARCHAR(36) PRIMARY KEY,
+                order_count BIGINT NOT NULL,
+                pending_count BIGINT NOT NULL,
+                confirmed_count BIGINT NOT NULL,
+                shipped_count BIGINT NOT NULL,
+                delivered_count BIGINT NOT NULL,
+                cancelled_count BIGINT NOT NULL,
+                total_amount DECIMAL(19, 2) NOT NULL,
+                last_order_id UUID,
+                last_order_number VARCHAR(255),
+                last_order_status VARCHAR(50),
+                last_order_at TIMESTAMP,
+                updated_at TIMESTAMP NOT NULL)
+            """);
+        repository = new CustomerOrderSummaryJdbcRepository(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.getJdbcTemplate().execute("SHUTDOWN");
+    }
+
+    @Test
+    void testFirstOrderCreatesRowAndLaterOrdersIncrementIt() {
+        Order first = order(OrderStatus.PENDING, "10.00", T0);
+        Order second = order(OrderStatus.PENDING, "20.00", T0.plusSeconds(60));
+        Order third = order(OrderStatus.PENDING, "5.50", T0.plusSeconds(30));
+
+        repository.recordCreated(List.of(first));
+        repository.recordCreated(List.of(second, third));
+
+        CustomerOrderSummary summary = repository.find(customerId).orElseThrow();
+        assertEquals(3, summary.orderCount());
+        assertEquals(3L, summary.countsByStatus().get(OrderStatus.PENDING));
+        assertEquals(0L, summary.countsByStatus().get(OrderStatus.CANCELLED));
+        assertEquals(0, new BigDecimal("35.50").compareTo(summary.totalAmount()));
+        assertEquals(second.getId(), summary.lastOrderId());
+        assertEquals(OrderStatus.PENDING, summary.lastOrderStatus());
+    }
+
+    @Test
+    void testCancellationMovesCountAndRemovesAmount() {
+        Order older = order(OrderStatus.PENDING, "10.00", T0);
+        Order latest = order(OrderStatus.PENDING, "20.00", T0.plusSeconds(60));
+        repository.recordCreated(List.of(older, latest));
+
+        latest.cancel("changed my mind");
+        repository.recordStatusChanged(latest, OrderStatus.PENDING);
+
+        CustomerOrderSummary summary = repository.find(customerId).orElseThrow();
+        assertEquals(2, summary.orderCount());
+        assertEquals(1L, summary.countsByStatus().get(OrderStatus.PENDING));
+        assertEquals(1L, summary.countsByStatus().get(OrderStatus.CANCELLED));
+        assertEquals(0, new BigDecimal("10.00").compareTo(summary.totalAmount()));
+        assertEquals(OrderStatus.CANCELLED, summary.lastOrderStatus());
+    }
+
+    @Test
+    void testStatusChangeRebuildsMissingRowFromOrders() {
+        // Stored row still says PENDING, as it would before the transaction flushes
+        assertConfirmRebuildsMissingRow(false);
+    }
+
+    @Test
+    void testStatusChangeRebuildIsSameWhenChangeWasAlreadyFlushed() {
+        // Stored row already says CONFIRMED, as after a Hibernate auto-flush
+        assertConfirmRebuildsMissingRow(true);
+    }
+
+    @Test
+    void testDeleteRebuildsMissingRowWithoutDeletedOrder() {
+        Order older = store(order(OrderStatus.PENDING, "10.00", T0));
+        Order latest = store(order(OrderStatus.SHIPPED, "20.00", T0.plusSeconds(60)));
+
+        repository.recordDeleted(latest);
+
+        CustomerOrderSummary summary = repository.find(customerId).orElseThrow();
+        assertEquals(1, summary.orderCount());
+        assertEquals(1L, summary.countsByStatus().get(OrderStatus.PENDING));
+        assertEquals(0L, summary.countsByStatus().get(OrderStatus.SHIPPED));
+        assertEquals(0, new BigDecimal("10.00").compareTo(summary.totalAmount()));
+        assertEquals(older.getId(), summary.lastOrderId());
+    }
+
+    @Test
+    void testDeletingLatestOrderFallsBackToPreviousOne() {
+        Order older = store(order(OrderStatus.PENDING, "10.00", T0));
+        Order latest = store(order(OrderStatus.PENDING, "20.00", T0.plusSeconds(60)));
+        repository.recordCreated(List.of(older, latest));
+
+        repository.recordDeleted(latest);
+
+        CustomerOrderSummary summary = repository.find(customerId).orElseThrow();
+        assertEquals(1, summary.orderCount());
+        assertEquals(1L, summary.countsByStatus().get(OrderStatus.PENDING));
+        assertEquals(0, new BigDecimal("10.00").compareTo(summary.totalAmount()));
+        assertEquals(older.getId(), summary.lastOrderId());
+        assertEquals(older.getOrderNumber(), summary.lastOrderNumber());
+    }
+
+    @Test
+    void testUnknownCustomerHasNoRow() {
+        assertTrue(repository.find(UUID.randomUUID()).isEmpty());
+    }
+
+    private void assertConfirmRebuildsMissingRow(boolean flushed) {
+        Order older = store(order(OrderStatus.DELIVERED, "10.00", T0));
+        Order latest = store(order(OrderStatus.PENDING, "20.00", T0.plusSeconds(60)));
+
+        latest.updateStatus(OrderStatus.CONFIRMED);
+        if (flushed) {
+            jdbcTemplate.update("UPDATE orders SET status = :status WHERE id = :id", new MapSqlParameterSource()
+                .addValue("status", latest.getStatus().name())
+                .addValue("id", latest.getId()));
+        }
+        repository.recordStatusChanged(latest, OrderStatus.PENDING);
+
+        CustomerOrderSummary summary = repository.find(customerId).orElseThrow();
+        assertEquals(2, summary.orderCount());
+        assertEquals(0L, summary.countsByStatus().get(OrderStatus.PENDING));
+        assertEquals(1L, summary.countsByStatus().get(OrderStatus.CONFIRMED));
+        assertEquals(1L, summary.countsByStatus().get(OrderStatus.DELIVERED));
+        assertEquals(0, new BigDecimal("30.00").compareTo(summary.totalAmount()));
+        assertEquals(latest.getId(), summary.lastOrderId());
+        assertEquals(OrderStatus.CONFIRMED, summary.lastOrderStatus());
+        assertNotEquals(older.getId(), summary.lastOrderId());
+    }
+
+    private Order order(OrderStatus status, String amount, Instant createdAt) {
+        BigDecimal total = new BigDecimal(amount);
+        return Order.rehydrate(
+            UUID.randomUUID(), "ORD-" + createdAt.getEpochSecond() + "-" + UUID.randomUUID(), customerId, status,
+            total, new Address("123 Main St", "Springfield", "12345", "US"),
+            List.of(new LineItem("6f1a2b3c-0000-4000-8000-00000000000a", 1, total)),
+            createdAt, createdAt, null, null, null, null, null, 0L
+        );
+    }
+
+    private Order store(Order order) {
+        jdbcTemplate.update("""
+            INSERT INTO orders (id, order_number, customer_id, status, total_amount, created_at)
+            VALUES (:id, :orderNumber, :customerId, :status, :totalAmount, :createdAt)
+            """, new MapSqlParameterSource()
+                .addValue("id", order.getId())
+                .addValue("orderNumber", order.getOrderNumber())
+                .addValue("customerId", order.getCustomerId().toString())
+                .addValue("status", order.getStatus().name())
+                .addValue("totalAmount", order.getTotalAmount())
+                .addValue("createdAt", Timestamp.from(order.getCreatedAt())));
+        return order;
+    }
+}
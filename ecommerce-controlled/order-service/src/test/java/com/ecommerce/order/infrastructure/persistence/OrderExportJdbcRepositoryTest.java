@@ -0,0 +1,58 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.repository.OrderSearchCriteria;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderExportJdbcRepositoryTest {
+
+    @Test
+    void testUnfilteredExportReadsWholeTableInKeysetOrder() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        String sql = OrderExportJdbcRepository.buildQuery(new OrderSearchCriteria(null, null, null, null), params);
+
+        assertFalse(sql.contains(" AND "));
+        assertTrue(sql.endsWith("ORDER BY created_at ASC, id ASC"));
+        assertEquals(0, params.getParameterNames().length);
+    }
+
+    @Test
+    void testAllFiltersAreBoundAsParameters() {
+        UUID customerId = UUID.randomUUID();
+        Instant after = Instant.parse("2026-01-01T00:00:00Z");
+        Instant before = Instant.parse("2026-02-01T00:00:00Z");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        String sql = OrderExportJdbcRepository.buildQuery(
+                new OrderSearchCriteria(customerId, OrderStatus.DELIVERED, after, before), params);
+
+        assertTrue(sql.contains("AND customer_id = :customerId"));
+        assertTrue(sql.contains("AND status = :status"));
+        assertTrue(sql.contains("AND created_at >= :createdAfter"));
+        assertTrue(sql.contains("AND created_at <= :createdBefore"));
+        assertEquals(customerId.toString(), params.getValue("customerId"));
+        assertEquals("DELIVERED", params.getValue("status"));
+        assertEquals(Timestamp.from(after), params.getValue("createdAfter"));
+        assertEquals(Timestamp.from(before), params.getValue("createdBefore"));
+    }
+
+    @Test
+    void testStatusOnlyFilter() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        String sql = OrderExportJdbcRepository.buildQuery(
+                new OrderSearchCriteria(null, OrderStatus.CANCELLED, null, null), params);
+
+        assertTrue(sql.contains("AND status = :status"));
+        assertFalse(sql.contains("created_at >="));
+        assertFalse(params.hasValue("customerId"));
+    }
+}
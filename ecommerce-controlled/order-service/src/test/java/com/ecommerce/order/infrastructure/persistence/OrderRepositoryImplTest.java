@@ -4,11 +4,20 @@ import com.ecommerce.order.domain.model.Address;
 import com.ecommerce.order.domain.model.LineItem;
 import com.ecommerce.order.domain.model.Order;
 import com.ecommerce.order.domain.model.OrderStatus;
+import com.ecommerce.order.domain.model.TestOrders;
+import com.ecommerce.order.domain.repository.OrderCursor;
+import com.ecommerce.order.domain.repository.OrderSlice;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -19,6 +28,8 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +62,53 @@ class OrderRepositoryImplTest {
         verify(jpaOrderRepository, times(1)).save(any(OrderEntity.class));
     }
 
+    @Test
+    void testSaveNewOrderPersistsItemsWithOwningSideSet() {
+        Order order = createTestOrder();
+        when(jpaOrderRepository.save(any(OrderEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        orderRepository.save(order);
+
+        verify(jpaOrderRepository).save(argThat(entity ->
+                entity.getVersion() == null
+                        && entity.getItems().size() == 1
+                        && entity.getItems().get(0).getOrder() == entity));
+        verify(jpaOrderRepository, never()).findById(any());
+    }
+
+    @Test
+    void testSaveExistingOrderUpdatesManagedEntityInPlace() {
+        OrderEntity entity = createEntityWithItem();
+        entity.setVersion(2L);
+        OrderItemEntity item = entity.getItems().get(0);
+        when(jpaOrderRepository.findById(entity.getId())).thenReturn(Optional.of(entity));
+
+        Order order = orderRepository.findById(entity.getId()).orElseThrow();
+        order.updateStatus(OrderStatus.CONFIRMED);
+        Order result = orderRepository.save(order);
+
+        assertEquals(OrderStatus.CONFIRMED, entity.getStatus());
+        assertNotNull(entity.getConfirmedAt());
+        assertSame(item, entity.getItems().get(0));
+        assertEquals(OrderStatus.CONFIRMED, result.getStatus());
+        verify(jpaOrderRepository, never()).save(any(OrderEntity.class));
+    }
+
+    @Test
+    void testSaveExistingOrderWithStaleVersionFails() {
+        OrderEntity entity = createEntityWithItem();
+        entity.setVersion(2L);
+        when(jpaOrderRepository.findById(entity.getId())).thenReturn(Optional.of(entity));
+        Order order = orderRepository.findById(entity.getId()).orElseThrow();
+
+        // Another transaction committed in between
+        entity.setVersion(3L);
+        order.updateStatus(OrderStatus.CONFIRMED);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> orderRepository.save(order));
+        assertEquals(OrderStatus.PENDING, entity.getStatus());
+    }
+
     @Test
     void testFindById() {
         UUID id = UUID.randomUUID();
@@ -65,6 +123,27 @@ class OrderRepositoryImplTest {
         verify(jpaOrderRepository, times(1)).findById(id);
     }
 
+    @Test
+    void testFindByIdPreservesPersistedIdentityAndState() {
+        UUID id = UUID.randomUUID();
+        Instant shippedAt = Instant.parse("2026-01-21T09:00:00Z");
+        OrderEntity entity = createEntityWithItem();
+        entity.setId(id);
+        entity.setStatus(OrderStatus.SHIPPED);
+        entity.setShippedAt(shippedAt);
+
+        when(jpaOrderRepository.findById(id)).thenReturn(Optional.of(entity));
+
+        Order order = orderRepository.findById(id).orElseThrow();
+
+        assertEquals(id, order.getId());
+        assertEquals(entity.getOrderNumber(), order.getOrderNumber());
+        assertEquals(OrderStatus.SHIPPED, order.getStatus());
+        assertEquals(entity.getCreatedAt(), order.getCreatedAt());
+        assertEquals(shippedAt, order.getShippedAt());
+        assertEquals(1, order.getLineItems().size());
+    }
+
     @Test
     void testDeleteById() {
         UUID id = UUID.randomUUID();
@@ -76,6 +155,86 @@ class OrderRepositoryImplTest {
         verify(jpaOrderRepository, times(1)).deleteById(id);
     }
 
+    @Test
+    void testFindAllAfterReturnsCursorOfLastRowWhenMoreRowsExist() {
+        List<OrderEntity> rows = List.of(createEntityWithItem(), createEntityWithItem(), createEntityWithItem());
+        when(jpaOrderRepository.findFirstSlice(limit(3))).thenReturn(rows);
+
+        OrderSlice slice = orderRepository.findAllAfter(null, 2);
+
+        assertEquals(2, slice.content().size());
+        assertTrue(slice.hasNext());
+        assertEquals(new OrderCursor(rows.get(1).getCreatedAt(), rows.get(1).getId()), slice.nextCursor());
+    }
+
+    @Test
+    void testFindAllAfterLastSliceHasNoCursor() {
+        OrderCursor after = new OrderCursor(Instant.now(), UUID.randomUUID());
+        when(jpaOrderRepository.findSliceAfter(eq(after.createdAt()), eq(after.id()), limit(3)))
+                .thenReturn(List.of(createEntityWithItem()));
+
+        OrderSlice slice = orderRepository.findAllAfter(after, 2);
+
+        assertEquals(1, slice.content().size());
+        assertFalse(slice.hasNext());
+        assertNull(slice.nextCursor());
+    }
+
+    @Test
+    void testFindByCustomerIdAfterUsesCustomerKeyset() {
+        UUID customerId = UUID.randomUUID();
+        OrderCursor after = new OrderCursor(Instant.now(), UUID.randomUUID());
+        when(jpaOrderRepository.findSliceByCustomerIdAfter(
+                eq(customerId.toString()), eq(after.createdAt()), eq(after.id()), limit(21)))
+                .thenReturn(List.of());
+
+        OrderSlice slice = orderRepository.findByCustomerIdAfter(customerId, after, 20);
+
+        assertTrue(slice.content().isEmpty());
+        assertFalse(slice.hasNext());
+    }
+
+    @Test
+    void testFindByStatusDelegatesToIndexedQuery() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(jpaOrderRepository.findByStatus(OrderStatus.SHIPPED, pageable))
+                .thenReturn(new PageImpl<>(List.of(createEntityWithItem()), pageable, 1));
+
+        Page<Order> result = orderRepository.findByStatus(OrderStatus.SHIPPED, pageable);
+
+        assertEquals(1, result.getTotalElements());
+        verify(jpaOrderRepository, times(1)).findByStatus(OrderStatus.SHIPPED, pageable);
+    }
+
+    @Test
+    void testFindByCreatedAtBetweenDelegatesToIndexedQuery() {
+        Pageable pageable = PageRequest.of(0, 20);
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        Instant end = Instant.parse("2026-02-01T00:00:00Z");
+        when(jpaOrderRepository.findByCreatedAtBetween(start, end, pageable)).thenReturn(Page.empty(pageable));
+
+        Page<Order> result = orderRepository.findByCreatedAtBetween(start, end, pageable);
+
+        assertTrue(result.isEmpty());
+        verify(jpaOrderRepository, times(1)).findByCreatedAtBetween(start, end, pageable);
+    }
+
+    private static Limit limit(int max) {
+        return argThat(limit -> limit.isLimited() && limit.max() == max);
+    }
+
+    private OrderEntity createEntityWithItem() {
+        OrderItemEntity item = new OrderItemEntity();
+        item.setProductId("PROD-001");
+        item.setQuantity(2);
+        item.setUnitPrice(BigDecimal.valueOf(50.00));
+        item.setTotalPrice(BigDecimal.valueOf(100.00));
+
+        OrderEntity entity = createTestEntity();
+        entity.setItems(new ArrayList<>(List.of(item)));
+        return entity;
+    }
+
     private Order createTestOrder() {
         UUID customerId = UUID.randomUUID();
         Address shippingAddress = new Address("123 Main St", "Springfield", "12345", "US");
@@ -83,7 +242,7 @@ class OrderRepositoryImplTest {
         List<LineItem> lineItems = List.of(lineItem);
         BigDecimal totalAmount = BigDecimal.valueOf(100.00);
         
-        return Order.create(customerId, shippingAddress, lineItems, totalAmount);
+        return TestOrders.create(customerId, shippingAddress, lineItems, totalAmount);
     }
 
     private OrderEntity createTestEntity() {
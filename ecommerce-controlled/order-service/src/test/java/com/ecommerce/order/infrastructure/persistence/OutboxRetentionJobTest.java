@@ -0,0 +1,142 @@
+package com.ecommerce.order.infrastructure.persistence;
+
+import com.ecommerce.order.infrastructure.config.OutboxRetentionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRetentionJobTest {
+
+    @Mock
+    private OutboxJdbcRepository outboxJdbcRepository;
+
+    @TempDir
+    Path archiveDirectory;
+
+    private OutboxRetentionProperties properties;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRetentionJob retentionJob;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OutboxRetentionProperties();
+        properties.setChunkSize(2);
+        properties.getArchive().setDirectory(archiveDirectory);
+        meterRegistry = new SimpleMeterRegistry();
+        retentionJob = new OutboxRetentionJob(outboxJdbcRepository, properties, meterRegistry);
+    }
+
+    @Test
+    void testPrunesExpiredRowsInChunks() {
+        List<OutboxEntity> first = List.of(sentEntry(), sentEntry());
+        List<OutboxEntity> last = List.of(sentEntry());
+        when(outboxJdbcRepository.findOldestSent(any(Instant.class), eq(2))).thenReturn(first, last);
+        when(outboxJdbcRepository.deleteSent(anyList())).thenReturn(2, 1);
+        when(outboxJdbcRepository.countByStatus()).thenReturn(Map.of(OutboxEntity.OutboxStatus.SENT, 10L));
+
+        retentionJob.purgeSentEvents();
+
+        verify(outboxJdbcRepository, times(2)).findOldestSent(any(Instant.class), eq(2));
+        verify(outboxJdbcRepository).deleteSent(ids(first));
+        verify(outboxJdbcRepository).deleteSent(ids(last));
+        assertEquals(3.0, meterRegistry.get("outbox.retention.pruned").tag("reason", "age").counter().count());
+        assertEquals(10.0, meterRegistry.get("outbox.rows").tag("status", "SENT").gauge().value());
+    }
+
+    @Test
+    void testPrunesOldestRowsBeyondRowLimit() {
+        properties.setMaxSentRows(5);
+        List<OutboxEntity> oldest = List.of(sentEntry());
+        when(outboxJdbcRepository.findOldestSent(any(Instant.class), anyInt())).thenReturn(List.of(), oldest);
+        when(outboxJdbcRepository.deleteSent(anyList())).thenReturn(1);
+        when(outboxJdbcRepository.countByStatus()).thenReturn(
+            Map.of(OutboxEntity.OutboxStatus.SENT, 6L),
+            Map.of(OutboxEntity.OutboxStatus.SENT, 5L));
+
+        retentionJob.purgeSentEvents();
+
+        // Excess is one row, so only one row is requested
+        verify(outboxJdbcRepository).findOldestSent(any(Instant.class), eq(1));
+        verify(outboxJdbcRepository).deleteSent(ids(oldest));
+        assertEquals(1.0, meterRegistry.get("outbox.retention.pruned").tag("reason", "row_limit").counter().count());
+    }
+
+    @Test
+    void testArchivesChunkBeforeDeleting() throws IOException {
+        properties.getArchive().setEnabled(true);
+        OutboxEntity entry = sentEntry();
+        when(outboxJdbcRepository.findOldestSent(any(Instant.class), eq(2))).thenReturn(List.of(entry));
+        when(outboxJdbcRepository.deleteSent(anyList())).thenReturn(1);
+        when(outboxJdbcRepository.countByStatus()).thenReturn(Map.of());
+
+        retentionJob.purgeSentEvents();
+
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            segments = files.toList();
+        }
+        assertEquals(1, segments.size());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segments.get(0))), StandardCharsets.UTF_8))) {
+            List<String> lines = reader.lines().toList();
+            assertEquals(1, lines.size());
+            assertTrue(lines.get(0).contains(entry.getId().toString()));
+            assertTrue(lines.get(0).contains("\"payload\":\"{\\\"eventType\\\":\\\"OrderCreated\\\"}\""));
+        }
+        assertEquals(1.0, meterRegistry.get("outbox.retention.archived").counter().count());
+    }
+
+    @Test
+    void testDisabledJobDoesNothing() {
+        properties.setEnabled(false);
+
+        retentionJob.purgeSentEvents();
+
+        verifyNoInteractions(outboxJdbcRepository);
+    }
+
+    private List<UUID> ids(List<OutboxEntity> entries) {
+        return entries.stream().map(OutboxEntity::getId).toList();
+    }
+
+    private OutboxEntity sentEntry() {
+        return OutboxEntity.builder()
+            .id(UUID.randomUUID())
+            .aggregateType("Order")
+            .aggregateId(UUID.randomUUID())
+            .eventType("OrderCreated")
+            .payload("{\"eventType\":\"OrderCreated\"}".getBytes(StandardCharsets.UTF_8))
+            .contentType("application/json")
+            .status(OutboxEntity.OutboxStatus.SENT)
+            .createdAt(Instant.now().minusSeconds(86_400 * 30))
+            .sentAt(Instant.now().minusSeconds(86_400 * 30))
+            .build();
+    }
+}